@@ -40,6 +40,8 @@ android {
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
+        // java.time (WeatherFormatter) 을 minSdk 24 에서 사용
+        isCoreLibraryDesugaringEnabled = true
     }
     viewBinding {
         enable = true
@@ -48,6 +50,14 @@ android {
         buildConfig = true
         viewBinding = true
     }
+    androidResources {
+        // 도시 인덱스는 메모리 매핑(openFd)을 위해 APK 에 압축 없이 저장
+        noCompress += "idx"
+    }
+    testOptions {
+        // 로컬 유닛 테스트에서 android.util.Log 등 stub 호출 허용
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -73,4 +83,7 @@ dependencies {
 
     // glide
     implementation("com.github.bumptech.glide:glide:4.16.0")
+
+    // java.time 백포트 (API 26 미만)
+    coreLibraryDesugaring("com.android.tools:desugar_jdk_libs:2.1.5")
 }
\ No newline at end of file
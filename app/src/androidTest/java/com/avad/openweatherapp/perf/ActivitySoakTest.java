@@ -0,0 +1,200 @@
+package com.avad.openweatherapp.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import android.Manifest;
+import android.app.Activity;
+import android.content.Context;
+import android.os.Build;
+import android.os.Debug;
+import android.os.SystemClock;
+
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.ui.view.MainActivity;
+import com.avad.openweatherapp.ui.viewmodel.WeatherViewModel;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 화면 회전/날짜 전환 반복 시 Activity/어댑터 누수 확인 (기기/에뮬레이터)
+ * - 날짜 전환은 사용자와 같은 경로(5일 요약 행 클릭 → moveDate → selectedDate 옵저버)로 수행
+ * - recreate() 로 회전과 같은 재생성을 ROTATIONS 번 반복하면서 매번 날짜를 넘김
+ * - 이전 Activity 와 그 화면의 ForecastDailyAdapter/WeekendWeatherAdapter 가 GC 후에도 남거나
+ *   힙이 계속 늘면 files/soak/*.hprof 로 덤프 후 실패 (adb pull 후 Android Studio 로 확인)
+ * - 같은 화면에서 날짜만 바꿀 때는 두 어댑터가 새로 만들어지지 않아야 함
+ */
+@RunWith(AndroidJUnit4.class)
+public class ActivitySoakTest {
+
+    private static final int ROTATIONS = 200;
+    private static final int DAY_SWITCHES = 500;
+    private static final int DAYS = 5;
+    /** 첫 예보(위치 + 네트워크)를 기다리는 최대 시간 */
+    private static final long LOAD_TIMEOUT_MS = 30_000;
+    private static final int SAMPLE_EVERY = 25;
+    private static final long MAX_GROWTH_BYTES = 8L * 1024 * 1024;
+
+    /** 재생성으로 버려진 Activity 와 그 화면의 어댑터 */
+    private final List<WeakReference<Object>> destroyed = new ArrayList<>();
+    private final List<Long> samples = new ArrayList<>();
+
+    @Before
+    public void grantLocation() {
+        // 권한 요청 다이얼로그가 뜨면 finish() 되므로 미리 허용
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+            InstrumentationRegistry.getInstrumentation().getUiAutomation().grantRuntimePermission(
+                    context.getPackageName(), Manifest.permission.ACCESS_FINE_LOCATION);
+        }
+    }
+
+    @Test
+    public void rotationsAndDaySwitchesDoNotLeakActivities() {
+        try (ActivityScenario<MainActivity> scenario = ActivityScenario.launch(MainActivity.class)) {
+            awaitForecast(scenario);
+            for (int i = 0; i < ROTATIONS; i++) {
+                clickDay(scenario, i % DAYS);
+                scenario.onActivity(activity -> {
+                    destroyed.add(new WeakReference<>(activity));
+                    destroyed.add(new WeakReference<>(adapter(activity, R.id.week_rv)));
+                    destroyed.add(new WeakReference<>(adapter(activity, R.id.weather_rv)));
+                });
+                scenario.recreate();
+                if (i >= SAMPLE_EVERY && i % SAMPLE_EVERY == 0) sample();
+            }
+            sample();
+
+            int retained = retained();
+            long growth = samples.get(samples.size() - 1) - samples.get(0);
+            if (retained > 0 || growth > MAX_GROWTH_BYTES) {
+                throw new AssertionError(String.format(Locale.US,
+                        "%d destroyed activities/adapters retained, heap +%,d bytes (max %,d), samples=%s, dump=%s",
+                        retained, growth, MAX_GROWTH_BYTES, samples, dumpHeap()));
+            }
+        }
+    }
+
+    @Test
+    public void daySwitchesReuseAdapters() {
+        try (ActivityScenario<MainActivity> scenario = ActivityScenario.launch(MainActivity.class)) {
+            awaitForecast(scenario);
+            Object[] first = new Object[2];
+            scenario.onActivity(activity -> {
+                first[0] = adapter(activity, R.id.week_rv);
+                first[1] = adapter(activity, R.id.weather_rv);
+            });
+
+            List<String> selected = new ArrayList<>();
+            for (int i = 0; i < DAY_SWITCHES; i++) {
+                int day = i % DAYS;
+                clickDay(scenario, day);
+                scenario.onActivity(activity -> {
+                    String date = new ViewModelProvider(activity).get(WeatherViewModel.class)
+                            .getSelectedDate().getValue();
+                    if (selected.size() < DAYS) selected.add(date);
+                    assertSame("5일 요약 어댑터가 다시 만들어짐",
+                            first[0], adapter(activity, R.id.week_rv));
+                    assertSame("가로 타임라인 어댑터가 다시 만들어짐",
+                            first[1], adapter(activity, R.id.weather_rv));
+                });
+            }
+            // 행 클릭이 실제로 날짜를 바꿨는지 (5일이 모두 달라야 함)
+            assertEquals(DAYS, new HashSet<>(selected).size());
+        }
+    }
+
+    /**
+     * 첫 예보가 표시되어 두 어댑터가 만들어질 때까지 대기
+     */
+    private static void awaitForecast(ActivityScenario<MainActivity> scenario) {
+        long deadline = SystemClock.uptimeMillis() + LOAD_TIMEOUT_MS;
+        boolean[] loaded = {false};
+        while (!loaded[0]) {
+            if (SystemClock.uptimeMillis() > deadline) {
+                throw new AssertionError("예보가 " + LOAD_TIMEOUT_MS + "ms 안에 표시되지 않음");
+            }
+            SystemClock.sleep(200);
+            scenario.onActivity(activity -> loaded[0] = adapter(activity, R.id.week_rv) != null
+                    && adapter(activity, R.id.weather_rv) != null);
+        }
+    }
+
+    /**
+     * 5일 요약의 day 번째 행 클릭 (화면 밖이면 먼저 스크롤 후 배치를 기다림)
+     */
+    private static void clickDay(ActivityScenario<MainActivity> scenario, int day) {
+        scenario.onActivity(activity -> {
+            RecyclerView week = activity.findViewById(R.id.week_rv);
+            if (week.findViewHolderForAdapterPosition(day) == null) week.scrollToPosition(day);
+        });
+        scenario.onActivity(activity -> {
+            RecyclerView week = activity.findViewById(R.id.week_rv);
+            RecyclerView.ViewHolder holder = week.findViewHolderForAdapterPosition(day);
+            if (holder == null) throw new AssertionError(day + "번째 날짜 행이 배치되지 않음");
+            holder.itemView.performClick();
+        });
+    }
+
+    private static RecyclerView.Adapter<?> adapter(Activity activity, int id) {
+        return ((RecyclerView) activity.findViewById(id)).getAdapter();
+    }
+
+    /**
+     * GC 후에도 남아 있는 이전 Activity 수
+     */
+    private int retained() {
+        int count = 0;
+        for (int attempt = 0; attempt < 5; attempt++) {
+            gc();
+            count = 0;
+            for (WeakReference<Object> ref : destroyed) {
+                if (ref.get() != null) count++;
+            }
+            if (count == 0) break;
+        }
+        return count;
+    }
+
+    private void sample() {
+        gc();
+        Runtime runtime = Runtime.getRuntime();
+        samples.add(runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    private static void gc() {
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        Runtime.getRuntime().gc();
+        System.runFinalization();
+        Runtime.getRuntime().gc();
+    }
+
+    private static String dumpHeap() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        File dir = new File(context.getFilesDir(), "soak");
+        if (!dir.exists() && !dir.mkdirs()) return "mkdir failed";
+        File file = new File(dir, "activity-" + System.currentTimeMillis() + ".hprof");
+        try {
+            Debug.dumpHprofData(file.getAbsolutePath());
+            return file.getAbsolutePath();
+        } catch (IOException e) {
+            return "dump failed: " + e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.avad.openweatherapp;
+
+import android.app.Application;
+
+import com.avad.openweatherapp.data.cache.ForecastCacheManager;
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.di.AppContainer;
+import com.avad.openweatherapp.di.StartupTrace;
+
+/**
+ * WeatherApplication
+ * - 앱 전역 서비스 컨테이너(AppContainer) 보관
+ * - onCreate 에서는 가벼운 등록 작업만 수행하고
+ *   Gson / Repository / Geocoder 등은 최초 사용 시점으로 지연
+ */
+public class WeatherApplication extends Application {
+
+    private static AppContainer container;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        StartupTrace.begin("AppContainer");
+        container = new AppContainer(this);
+        StartupTrace.end("AppContainer");
+
+        // 메모리 압박 시 파생 캐시를 비우도록 등록
+        StartupTrace.begin("ForecastCacheManager");
+        ForecastCacheManager.getInstance().install(this);
+        StartupTrace.end("ForecastCacheManager");
+
+        // 요청별 전송량을 에너지 기록으로 전달 (기록기는 첫 전송 때 생성)
+        RetrofitClient.setTrafficListener((start, end, rx, tx) ->
+                container.energyTracker().onTransfer(start, end, rx, tx));
+
+        // 설정 저장소 생성 -> 디스크 로드는 백그라운드에서 미리 시작
+        container.settingsStore();
+    }
+
+    /**
+     * 앱 전역 서비스 컨테이너
+     */
+    public static AppContainer container() {
+        return container;
+    }
+}
@@ -0,0 +1,73 @@
+package com.avad.openweatherapp.adapter;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.avad.openweatherapp.data.search.CityIndex;
+import com.avad.openweatherapp.databinding.ItemCityBinding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CityAdapter
+ * - 도시 검색 결과(이름, 영문 이름/국가)를 세로 RecyclerView로 표시
+ * - 클릭 시 OnCityClickListener로 선택된 도시 전달
+ */
+public class CityAdapter extends RecyclerView.Adapter<CityAdapter.ViewHolder> {
+
+    /**
+     * 도시 선택 이벤트 전달 인터페이스
+     */
+    public interface OnCityClickListener {
+        void onCityClick(CityIndex.City city);
+    }
+
+    private final OnCityClickListener listener;
+    private List<CityIndex.City> cities = new ArrayList<>();
+
+    public CityAdapter(OnCityClickListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 검색 결과 교체 (입력마다 호출, 결과는 최대 수십 건)
+     */
+    public void submitList(List<CityIndex.City> newList) {
+        cities = newList;
+        notifyDataSetChanged();
+    }
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        ItemCityBinding binding = ItemCityBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false);
+        return new ViewHolder(binding);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        CityIndex.City city = cities.get(position);
+        holder.binding.cityNameTv.setText(city.name);
+        holder.binding.cityDetailTv.setText(city.detail);
+        holder.binding.itemCityLl.setOnClickListener(v -> listener.onCityClick(city));
+    }
+
+    @Override
+    public int getItemCount() {
+        return cities.size();
+    }
+
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        final ItemCityBinding binding;
+
+        ViewHolder(ItemCityBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+    }
+}
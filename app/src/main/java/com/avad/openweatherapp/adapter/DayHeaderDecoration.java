@@ -0,0 +1,82 @@
+package com.avad.openweatherapp.adapter;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+
+/**
+ * DayHeaderDecoration
+ * - WeekendWeatherAdapter 의 가로 타임라인 위에 날짜 헤더를 그림
+ *   · 각 날짜의 첫 시간 위에 "MM월 dd일(요일)"
+ *   · 왼쪽 끝에는 현재 보이는 날짜의 헤더를 고정(sticky)하고,
+ *     다음 날짜 헤더가 다가오면 왼쪽으로 밀어냄
+ * - 헤더 문자열은 WeatherFormatter 의 날짜 라벨을 그대로 사용 (그리기 중 객체 생성 없음)
+ */
+public class DayHeaderDecoration extends RecyclerView.ItemDecoration {
+
+    private static final float TEXT_SP = 13f;
+    private static final float HEADER_DP = 22f;
+    private static final float PADDING_DP = 12f;
+
+    private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final int headerHeight;
+    private final float padding;
+
+    public DayHeaderDecoration(Context context) {
+        float density = context.getResources().getDisplayMetrics().density;
+        headerHeight = Math.round(HEADER_DP * density);
+        padding = PADDING_DP * density;
+        paint.setTextSize(TEXT_SP * density);
+        paint.setColor(Color.parseColor("#616161"));
+        paint.setTypeface(Typeface.DEFAULT_BOLD);
+    }
+
+    @Override
+    public void getItemOffsets(@NonNull Rect outRect, @NonNull View view,
+                               @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        // 모든 항목 위에 헤더 높이만큼 공간 확보
+        outRect.set(0, headerHeight, 0, 0);
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas c, @NonNull RecyclerView parent,
+                           @NonNull RecyclerView.State state) {
+        if (!(parent.getAdapter() instanceof WeekendWeatherAdapter)) return;
+        WeekendWeatherAdapter adapter = (WeekendWeatherAdapter) parent.getAdapter();
+        int childCount = parent.getChildCount();
+        if (childCount == 0) return;
+
+        int firstPos = parent.getChildAdapterPosition(parent.getChildAt(0));
+        String stickyDay = adapter.dayAt(firstPos);
+        if (stickyDay == null) return;
+
+        WeatherFormatter formatter = WeatherFormatter.getInstance();
+        float baseline = parent.getPaddingTop() + headerHeight - paint.descent() - headerHeight * 0.15f;
+        String stickyLabel = formatter.dateLabels(stickyDay).monthDayWithWeekday;
+        float stickyWidth = paint.measureText(stickyLabel);
+        float stickyX = parent.getPaddingLeft() + padding;
+
+        // 화면 안에서 시작하는 날짜 헤더 (첫 항목은 sticky 헤더가 대신 그림)
+        for (int i = 1; i < childCount; i++) {
+            View child = parent.getChildAt(i);
+            int pos = parent.getChildAdapterPosition(child);
+            if (!adapter.isDayStart(pos)) continue;
+
+            float x = child.getLeft() + padding;
+            // 다음 날짜 헤더와 겹치지 않도록 sticky 헤더를 밀어냄
+            stickyX = Math.min(stickyX, x - padding - stickyWidth);
+            String day = adapter.dayAt(pos);
+            if (day != null) c.drawText(formatter.dateLabels(day).monthDayWithWeekday, x, baseline, paint);
+        }
+        c.drawText(stickyLabel, stickyX, baseline, paint);
+    }
+}
@@ -0,0 +1,103 @@
+package com.avad.openweatherapp.adapter;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.LinearSmoothScroller;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * DaySnapListener
+ * - 가로 타임라인 스크롤이 멈추면 날짜 경계에 맞춤 (snap-to-day)
+ *   · 왼쪽 끝 가까이(화면 폭의 1/3 이내)에 날짜 시작이 있으면 그 위치로 부드럽게 이동
+ *   · 하루(24시간)는 화면보다 넓으므로, 날짜 중간에서는 자유 스크롤을 유지
+ * - 멈춘 뒤 왼쪽 끝의 날짜를 OnDaySettledListener 로 전달 (선택 날짜 동기화용)
+ */
+public class DaySnapListener extends RecyclerView.OnScrollListener {
+
+    public interface OnDaySettledListener {
+        /**
+         * @param date 왼쪽 끝에 보이는 날짜 (yyyy-MM-dd)
+         */
+        void onDaySettled(String date);
+    }
+
+    private final OnDaySettledListener listener;
+
+    public DaySnapListener(OnDaySettledListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 날짜 시작 위치가 왼쪽 끝에 오도록 스크롤
+     * @param smooth false 면 즉시 이동 (스크롤 상태 변화 없음)
+     */
+    public static void scrollToDay(RecyclerView rv, int position, boolean smooth) {
+        if (!(rv.getLayoutManager() instanceof LinearLayoutManager) || position < 0) return;
+        LinearLayoutManager lm = (LinearLayoutManager) rv.getLayoutManager();
+        if (!smooth) {
+            lm.scrollToPositionWithOffset(position, 0);
+            return;
+        }
+        LinearSmoothScroller scroller = new LinearSmoothScroller(rv.getContext()) {
+            @Override
+            protected int getHorizontalSnapPreference() {
+                return SNAP_TO_START;
+            }
+        };
+        scroller.setTargetPosition(position);
+        lm.startSmoothScroll(scroller);
+    }
+
+    @Override
+    public void onScrollStateChanged(@NonNull RecyclerView rv, int newState) {
+        if (newState != RecyclerView.SCROLL_STATE_IDLE) return;
+        if (!(rv.getAdapter() instanceof WeekendWeatherAdapter)
+                || !(rv.getLayoutManager() instanceof LinearLayoutManager)) return;
+        WeekendWeatherAdapter adapter = (WeekendWeatherAdapter) rv.getAdapter();
+        LinearLayoutManager lm = (LinearLayoutManager) rv.getLayoutManager();
+
+        int first = lm.findFirstVisibleItemPosition();
+        if (first == RecyclerView.NO_POSITION) return;
+
+        int target = nearDayStart(rv, lm, adapter, first);
+        if (target >= 0) {
+            View view = lm.findViewByPosition(target);
+            boolean aligned = view != null && view.getLeft() == rv.getPaddingLeft();
+            if (!aligned && rv.canScrollHorizontally(target > first ? 1 : -1)) {
+                // 맞춘 뒤 다시 IDLE 이 오면 그때 날짜 전달
+                scrollToDay(rv, target, true);
+                return;
+            }
+            if (target > first) first = target;
+        }
+
+        String day = adapter.dayAt(first);
+        if (day != null) listener.onDaySettled(day);
+    }
+
+    /**
+     * 왼쪽 끝에서 화면 폭의 1/3 이내에 있는 날짜 시작 위치 (없으면 -1)
+     */
+    private static int nearDayStart(RecyclerView rv, LinearLayoutManager lm,
+                                    WeekendWeatherAdapter adapter, int first) {
+        int left = rv.getPaddingLeft();
+        int threshold = rv.getWidth() / 3;
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+
+        int[] candidates = {adapter.dayStartOf(first), adapter.nextDayStartOf(first)};
+        for (int position : candidates) {
+            if (position < 0) continue;
+            View view = lm.findViewByPosition(position);
+            if (view == null) continue;
+            int distance = Math.abs(view.getLeft() - left);
+            if (distance <= threshold && distance < bestDistance) {
+                best = position;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
@@ -1,29 +1,29 @@
 package com.avad.openweatherapp.adapter;
 
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.avad.openweatherapp.data.aggregate.DailyAggregator;
+import com.avad.openweatherapp.data.aggregate.DailyStats;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.merge.ForecastDiff;
 import com.avad.openweatherapp.data.model.ForecastResponse;
 import com.avad.openweatherapp.databinding.ItemWeekendWeather2Binding;
 import com.bumptech.glide.Glide;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * ForecastDailyAdapter
  * - 5일치 요약 날씨 정보(요일, 날짜, 아이콘, 최저/최고 기온)를 RecyclerView로 표시
- * - 클릭 시 OnDateClickListener를 통해 날짜 인덱스를 전달
+ * - 클릭 시 OnDateClickListener를 통해 날짜 인덱스를 전달 (리스너는 ViewHolder 당 한 번만 연결)
+ * - 기온은 섭씨로 보관하고 바인딩 시 DisplayOptions 단위로 변환
  */
 public class ForecastDailyAdapter extends RecyclerView.Adapter<ForecastDailyAdapter.ViewHolder> {
 
@@ -39,78 +39,84 @@ public class ForecastDailyAdapter extends RecyclerView.Adapter<ForecastDailyAdap
 
     private final OnDateClickListener listener;
 
+    /** 표시 단위 */
+    private DisplayOptions options;
+
     // 데이터 표시용 리스트들
-    private final List<String> dayList = new ArrayList<>();    // 요일 ("월", "화"…)
-    private final List<String> dateList = new ArrayList<>();   // 날짜 (MM.dd)
-    private final List<String> iconList = new ArrayList<>();   // 아이콘 코드
-    private final List<Double> minList = new ArrayList<>();    // 최저 기온 (°C)
-    private final List<Double> maxList = new ArrayList<>();    // 최고 기온 (°C)
+    private final List<String> dateKeyList = new ArrayList<>(); // 날짜 키 (yyyy-MM-dd)
+    private final List<WeatherFormatter.DateLabels> labelList = new ArrayList<>(); // 요일/날짜 라벨
+    private final List<String> iconUrlList = new ArrayList<>(); // 아이콘 URL (코드별 공유 인스턴스)
+    private double[] minTemps = new double[0];                  // 최저 기온 (°C)
+    private double[] maxTemps = new double[0];                  // 최고 기온 (°C)
 
     /**
      * @param rawList  3시간 단위 전체 예보 리스트
+     * @param options  표시 단위
      * @param listener 날짜 클릭 콜백
      */
     public ForecastDailyAdapter(
             List<ForecastResponse.ForecastItem> rawList,
+            DisplayOptions options,
             OnDateClickListener listener
     ) {
         this.listener = listener;
+        this.options = options;
         buildDailyData(rawList);
     }
 
     /**
-     * 날짜별 그룹화 및 요약 데이터 빌드
-     * 날짜별로 그룹핑 (키: yyyy-MM-dd)
-     * 첫 5일만 처리
-     * 각 날짜 그룹에서 temp_min, temp_max 필드로 최저/최고 기온 계산
-     * 첫 아이콘(item.weather.get(0).icon) 사용
+     * 날짜별 요약 데이터 빌드
+     * - DailyAggregator 로 첫 5일을 한 번에 집계 (최저/최고 기온, 낮 대표 아이콘)
+     * - 요일/날짜 라벨은 WeatherFormatter 에서 날짜별로 한 번만 만든 것을 사용
      */
     private void buildDailyData(List<ForecastResponse.ForecastItem> list) {
-        // TreeMap 사용으로 날짜 키 정렬 보장
-        Map<String, List<ForecastResponse.ForecastItem>> grouped = new TreeMap<>();
-        SimpleDateFormat inFmt = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
-        SimpleDateFormat outDateFmt = new SimpleDateFormat("MM.dd", Locale.getDefault());
-        SimpleDateFormat outDayFmt = new SimpleDateFormat("E", Locale.getDefault());
-
-        // 날짜별로 리스트 그룹핑
-        for (ForecastResponse.ForecastItem f : list) {
-            String dateKey = f.dtTxt.split(" ")[0];  // "2025-05-21"
-            grouped.computeIfAbsent(dateKey, k -> new ArrayList<>()).add(f);
+        WeatherFormatter formatter = WeatherFormatter.getInstance();
+        List<DailyStats> days = DailyAggregator.aggregate(list, DailyAggregator.MAX_DAYS);
+        minTemps = new double[days.size()];
+        maxTemps = new double[days.size()];
+        for (int i = 0; i < days.size(); i++) {
+            DailyStats stats = days.get(i);
+            dateKeyList.add(stats.date);                      // 날짜 키
+            labelList.add(formatter.dateLabels(stats.date));  // 요일/날짜 (예: "수", "05.21")
+            iconUrlList.add(formatter.iconUrl(stats.icon));   // 아이콘 URL
+            minTemps[i] = stats.minTemp;                      // 최저 기온
+            maxTemps[i] = stats.maxTemp;                      // 최고 기온
         }
+    }
 
-        // 첫 5일만 처리
-        int count = 0;
-        for (String dateKey : grouped.keySet()) {
-            if (count++ >= 5) break;  // 최대 5일치
-            List<ForecastResponse.ForecastItem> dayItems = grouped.get(dateKey);
-            try {
-                // 날짜 문자열 파싱
-                Date d = inFmt.parse(dateKey);
-
-                // 초기 최저/최고 기온 설정: 첫 요소의 temp_min/temp_max 사용
-                double minT = dayItems.get(0).main.temp_min;
-                double maxT = dayItems.get(0).main.temp_max;
-                // 대표 아이콘: 그룹의 첫 항목
-                String icon = dayItems.get(0).weather.get(0).icon;
-
-                // 그룹 내 모든 항목 순회하며 최저/최고 갱신
-                for (ForecastResponse.ForecastItem item : dayItems) {
-                    // temp_min, temp_max 필드를 사용해 비교
-                    minT = Math.min(minT, item.main.temp_min);
-                    maxT = Math.max(maxT, item.main.temp_max);
-                }
-
-                // 가공 결과를 각 리스트에 추가
-                dayList.add(outDayFmt.format(d));      // 요일 (예: "수")
-                dateList.add(outDateFmt.format(d));    // 날짜 (예: "05.21")
-                iconList.add(icon);                    // 아이콘 코드
-                minList.add(minT);                     // 최저 기온
-                maxList.add(maxT);                     // 최고 기온
-
-            } catch (ParseException e) {
-                Log.e("ForecastAdapter", "날짜 파싱 오류", e);
-            }
+    /**
+     * 새로고침 변경 내역 반영
+     * - 요약 데이터를 다시 만들되, 날짜 구성이 같으면 영향받은 날짜 행만 다시 바인딩
+     * @param diff 변경 내역 (null 이면 모든 행을 다시 바인딩)
+     */
+    public void applyChanges(List<ForecastResponse.ForecastItem> rawList,
+                             @Nullable ForecastDiff diff) {
+        List<String> oldKeys = new ArrayList<>(dateKeyList);
+        dateKeyList.clear();
+        labelList.clear();
+        iconUrlList.clear();
+        buildDailyData(rawList);
+
+        if (!oldKeys.equals(dateKeyList)) {
+            notifyDataSetChanged();
+            return;
+        }
+        if (diff == null) {
+            notifyItemRangeChanged(0, getItemCount());
+            return;
         }
+        for (int i = 0; i < dateKeyList.size(); i++) {
+            if (diff.affects(dateKeyList.get(i))) notifyItemChanged(i);
+        }
+    }
+
+    /**
+     * 표시 설정 변경: 보관 중인 요약 데이터로 다시 바인딩만 수행
+     */
+    public void setDisplayOptions(DisplayOptions options) {
+        if (options.equals(this.options)) return;
+        this.options = options;
+        notifyItemRangeChanged(0, getItemCount());
     }
 
     @NonNull
@@ -122,7 +128,7 @@ public class ForecastDailyAdapter extends RecyclerView.Adapter<ForecastDailyAdap
         ItemWeekendWeather2Binding binding = ItemWeekendWeather2Binding.inflate(
                 LayoutInflater.from(parent.getContext()), parent, false
         );
-        return new ViewHolder(binding);
+        return new ViewHolder(binding, listener);
     }
 
     @Override
@@ -130,41 +136,38 @@ public class ForecastDailyAdapter extends RecyclerView.Adapter<ForecastDailyAdap
             @NonNull ViewHolder holder, int position
     ) {
         // 요일/날짜 텍스트 세팅
-        holder.binding.dayTv.setText(dayList.get(position));
-        holder.binding.dateTv.setText(dateList.get(position));
+        WeatherFormatter.DateLabels labels = labelList.get(position);
+        holder.binding.dayTv.setText(labels.weekday(options.language));
+        holder.binding.dateTv.setText(labels.shortDate);
 
         // 날씨 아이콘 비동기 로드
-        String iconUrl = "https://openweathermap.org/img/wn/"
-                + iconList.get(position) + "@2x.png";
         Glide.with(holder.binding.getRoot().getContext())
-                .load(iconUrl)
+                .load(iconUrlList.get(position))
                 .into(holder.binding.ivWeatherIcon);
 
         // 최저/최고 온도 텍스트 세팅
-        holder.binding.tvWeatherText.setText(
-                String.format(Locale.getDefault(), "%.0f℃", minList.get(position))
-        );
-        holder.binding.tvWeatherText2.setText(
-                String.format(Locale.getDefault(), "%.0f℃", maxList.get(position))
-        );
-
-        // 클릭 리스너 연결
-        holder.binding.itemWeather2Ll.setOnClickListener(v ->
-                listener.onDateClick(position)
-        );
+        holder.binding.tvWeatherText.setText(options.roundedTemperature(minTemps[position]));
+        holder.binding.tvWeatherText2.setText(options.roundedTemperature(maxTemps[position]));
     }
 
     @Override
     public int getItemCount() {
-        return dayList.size();  // 실제 표시될 아이템 수
+        return labelList.size();  // 실제 표시될 아이템 수
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
         final ItemWeekendWeather2Binding binding;
 
-        ViewHolder(ItemWeekendWeather2Binding binding) {
+        /**
+         * 클릭 리스너는 ViewHolder 생성 시 한 번만 연결 (위치는 클릭 시점에 조회)
+         */
+        ViewHolder(ItemWeekendWeather2Binding binding, OnDateClickListener listener) {
             super(binding.getRoot());
             this.binding = binding;
+            binding.itemWeather2Ll.setOnClickListener(v -> {
+                int position = getBindingAdapterPosition();
+                if (position != RecyclerView.NO_POSITION) listener.onDateClick(position);
+            });
         }
     }
 }
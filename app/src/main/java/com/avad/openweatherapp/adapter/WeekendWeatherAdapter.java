@@ -4,31 +4,156 @@ import android.view.LayoutInflater;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
 import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.data.timeline.HourlyInterpolator;
 import com.avad.openweatherapp.databinding.ItemWeekendWeatherBinding;
 import com.bumptech.glide.Glide;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * WeekendWeatherAdapter
- * - 3시간 단위의 예보 리스트를 가로 RecyclerView로 표시
- * - 시간, 온도, 설명, 아이콘을 각 아이템에 바인딩
+ * - 전체 예보(최대 5일)를 끊김 없는 1시간 단위 가로 RecyclerView 하나로 표시
+ *   (날짜를 바꿔도 어댑터를 교체하지 않고 positionOfDay() 위치로 스크롤만 함
+ *    → ViewHolder 가 전체 구간에서 재사용됨)
+ * - 날짜별 시작 위치는 보간기를 받을 때 한 번만 계산 (DayHeaderDecoration, DaySnapListener 가 사용)
+ * - 기온은 HourlyInterpolator 로 바인딩 시점에만 보간 (화면 밖 시간은 계산하지 않음)
+ * - 아이콘/설명은 해당 시간이 속한 3시간 slot 의 값을 사용
+ * - 단위 변환과 상태 문구는 DisplayOptions 로 바인딩 시점에 처리
  */
 public class WeekendWeatherAdapter extends RecyclerView.Adapter<WeekendWeatherAdapter.ForecastViewHolder> {
 
+    /** 전체 예보의 1시간 단위 보간기 */
+    private HourlyInterpolator timeline;
+
+    /** 표시 단위/언어 */
+    private DisplayOptions options;
+
+    /** 날짜 키 (yyyy-MM-dd, dtTxt 기준) — 날짜 순 */
+    private String[] dayKeys = new String[0];
+    /** 날짜별 첫 위치 */
+    private int[] dayStarts = new int[0];
+    /** 위치 → 날짜 인덱스 */
+    private int[] dayOfPosition = new int[0];
+    private int dayCount;
+
+    /**
+     * @param timeline 전체 예보 보간기
+     * @param options 표시 단위/언어
+     */
+    public WeekendWeatherAdapter(HourlyInterpolator timeline, DisplayOptions options) {
+        this.options = options;
+        setTimeline(timeline);
+    }
+
+    /**
+     * 새 보간기로 교체
+     * - 시작 시각과 길이가 같으면 앞뒤 slot 인스턴스가 바뀐 시간만 다시 바인딩
+     *   (병합 단계에서 변경 없는 slot 은 같은 인스턴스를 유지함)
+     * @return 위치가 밀렸으면 true (만료된 slot 이 빠져 전체를 다시 그린 경우)
+     */
+    public boolean submitTimeline(HourlyInterpolator newTimeline) {
+        HourlyInterpolator old = timeline;
+        int oldCount = old.hourCount();
+        long oldStart = oldCount > 0 ? old.epochAt(0) : 0;
+        setTimeline(newTimeline);
+
+        int count = newTimeline.hourCount();
+        if (oldCount != count || count == 0 || oldStart != newTimeline.epochAt(0)) {
+            notifyDataSetChanged();
+            return true;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!sameBracket(old, newTimeline, i)) notifyItemChanged(i);
+        }
+        return false;
+    }
+
+    /**
+     * 표시 설정 변경: 같은 보간기로 보이는 항목만 다시 바인딩
+     */
+    public void setDisplayOptions(DisplayOptions options) {
+        if (options.equals(this.options)) return;
+        this.options = options;
+        notifyItemRangeChanged(0, getItemCount());
+    }
+
     /**
-     * 3시간 단위 ForecastItem 리스트
+     * 날짜 경계 미리 계산 (dtTxt 와 같은 UTC 기준 하루 단위)
      */
-    private final List<ForecastResponse.ForecastItem> forecastList;
+    private void setTimeline(HourlyInterpolator timeline) {
+        this.timeline = timeline;
+        int count = timeline.hourCount();
+        if (dayOfPosition.length < count) dayOfPosition = new int[count];
+        if (dayStarts.length < count) {
+            dayStarts = new int[count];
+            dayKeys = new String[count];
+        } else {
+            Arrays.fill(dayKeys, null);
+        }
+
+        dayCount = 0;
+        long prevDay = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long day = Math.floorDiv(timeline.epochAt(i), 86400L);
+            if (day != prevDay) {
+                prevDay = day;
+                dayStarts[dayCount] = i;
+                dayKeys[dayCount] = timeline.slotAt(i).dtTxt.substring(0, 10);
+                dayCount++;
+            }
+            dayOfPosition[i] = dayCount - 1;
+        }
+    }
+
+    /**
+     * 날짜의 첫 위치
+     * @return 표시 범위에 없는 날짜면 -1
+     */
+    public int positionOfDay(String date) {
+        for (int d = 0; d < dayCount; d++) {
+            if (dayKeys[d].equals(date)) return dayStarts[d];
+        }
+        return -1;
+    }
+
+    /** 위치가 속한 날짜 키 (범위 밖이면 null) */
+    @Nullable
+    public String dayAt(int position) {
+        if (position < 0 || position >= getItemCount()) return null;
+        return dayKeys[dayOfPosition[position]];
+    }
+
+    /** 위치가 그 날짜의 첫 시간인지 */
+    public boolean isDayStart(int position) {
+        if (position < 0 || position >= getItemCount()) return false;
+        return dayStarts[dayOfPosition[position]] == position;
+    }
+
+    /** 위치가 속한 날짜의 첫 위치 */
+    public int dayStartOf(int position) {
+        return dayStarts[dayOfPosition[position]];
+    }
+
+    /** 위치가 속한 날짜의 다음 날짜 첫 위치 (마지막 날짜면 -1) */
+    public int nextDayStartOf(int position) {
+        int next = dayOfPosition[position] + 1;
+        return next < dayCount ? dayStarts[next] : -1;
+    }
 
     /**
-     * @param forecastList 예보 데이터 리스트
+     * 보간에 쓰이는 앞뒤 slot 이 같은 인스턴스인지
      */
-    public WeekendWeatherAdapter(List<ForecastResponse.ForecastItem> forecastList) {
-        this.forecastList = forecastList;
+    private static boolean sameBracket(HourlyInterpolator a, HourlyInterpolator b, int hour) {
+        if (a.slotAt(hour) != b.slotAt(hour)) return false;
+        int nextA = Math.min(a.hourCount() - 1, hour + 3);
+        int nextB = Math.min(b.hourCount() - 1, hour + 3);
+        return a.slotAt(nextA) == b.slotAt(nextB);
     }
 
     @NonNull
@@ -42,20 +167,20 @@ public class WeekendWeatherAdapter extends RecyclerView.Adapter<WeekendWeatherAd
 
     @Override
     public void onBindViewHolder(@NonNull ForecastViewHolder holder, int position) {
-        ForecastResponse.ForecastItem item = forecastList.get(position);
+        ForecastResponse.ForecastItem slot = timeline.slotAt(position);
 
-        // 시간 텍스트 추출: "yyyy-MM-dd HH:mm:ss" → "HH:mm"
-        String time = item.dtTxt.split(" ")[1].substring(0, 5);
+        // 시간 텍스트: dtTxt 와 같은 기준(UTC)의 "HH:00"
+        int hourOfDay = (int) (Math.floorMod(timeline.epochAt(position), 86400L) / 3600);
+        String time = WeatherFormatter.getInstance().hour(hourOfDay);
 
-        // 기온 텍스트: 반올림 후 °C 추가
-        String tempText = Math.round(item.main.temp) + "°C";
+        // 기온 텍스트: 보간값을 표시 단위로 변환 후 반올림
+        String tempText = options.roundedTemperature(timeline.temperatureAt(position));
 
-        // 설명 텍스트: weather 리스트 첫 번째 description
-        String contentText = item.weather.get(0).description;
+        // 설명 텍스트: slot 의 첫 번째 weather 상태 코드 → 표시 언어 문구
+        String contentText = options.description(slot.weather.get(0));
 
-        // 아이콘 URL 구성
-        String iconUrl = "https://openweathermap.org/img/wn/"
-                + item.weather.get(0).icon + "@2x.png";
+        // 아이콘 URL: 코드별로 한 번만 만든 문자열
+        String iconUrl = WeatherFormatter.getInstance().iconUrl(slot.weather.get(0).iconCode());
 
         // 뷰 바인딩
         holder.binding.weatherTimeTv.setText(time);
@@ -70,7 +195,7 @@ public class WeekendWeatherAdapter extends RecyclerView.Adapter<WeekendWeatherAd
 
     @Override
     public int getItemCount() {
-        return forecastList.size();
+        return timeline.hourCount();
     }
 
     static class ForecastViewHolder extends RecyclerView.ViewHolder {
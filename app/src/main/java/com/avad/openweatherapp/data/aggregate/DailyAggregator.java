@@ -0,0 +1,165 @@
+package com.avad.openweatherapp.data.aggregate;
+
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DailyAggregator
+ * - 3시간 단위 예보 리스트를 날짜별 DailyStats 로 한 번의 순회로 집계
+ *   · 최저/최고/평균 기온, 평균 습도
+ *   · 지속 시간이 가장 긴 날씨 (아이콘 코드 그룹별 slot 수 누적)
+ *   · 대표 아이콘: 그 날씨의 낮(d) slot 우선, 없으면 밤(n) slot
+ * - 누적은 모두 기본형 변수/배열로 처리하고 날짜가 바뀔 때만 결과 객체 생성
+ * - 입력은 시간순(API 응답 순서)이라고 가정
+ *
+ * 주간 리스트(ForecastDailyAdapter)와 위젯(WeatherUpdateService)이 같은 결과를 사용
+ */
+public final class DailyAggregator {
+
+    /** 주간 리스트/위젯에 표시하는 최대 일수 */
+    public static final int MAX_DAYS = 5;
+
+    /**
+     * 아이콘 코드 그룹 (심한 날씨일수록 뒤쪽 → 지속 시간이 같으면 뒤쪽 우선)
+     * 01 맑음, 02 구름 조금, 03 구름, 04 흐림, 50 안개, 09 소나기, 10 비, 11 뇌우, 13 눈
+     */
+    private static final String[] CONDITION_CODES =
+            {"01", "02", "03", "04", "50", "09", "10", "11", "13"};
+
+    private DailyAggregator() {
+    }
+
+    /**
+     * @param list 3시간 단위 예보 리스트 (시간순)
+     * @param maxDays 최대 집계 일수
+     */
+    public static List<DailyStats> aggregate(List<ForecastResponse.ForecastItem> list, int maxDays) {
+        List<DailyStats> result = new ArrayList<>(maxDays);
+        if (list == null || list.isEmpty() || maxDays <= 0) return result;
+
+        Accumulator acc = new Accumulator();
+        for (int i = 0; i < list.size(); i++) {
+            ForecastResponse.ForecastItem item = list.get(i);
+            if (acc.count > 0 && !item.dtTxt.startsWith(acc.date)) {
+                result.add(acc.finish(list));
+                if (result.size() == maxDays) return result;
+            }
+            acc.add(item, i);
+        }
+        if (acc.count > 0) result.add(acc.finish(list));
+        return result;
+    }
+
+    /**
+     * 위젯 스냅샷 형식(날짜별 요약 ForecastItem)으로 집계
+     */
+    public static List<ForecastResponse.ForecastItem> summarize(List<ForecastResponse.ForecastItem> list) {
+        List<DailyStats> days = aggregate(list, MAX_DAYS);
+        List<ForecastResponse.ForecastItem> result = new ArrayList<>(days.size());
+        for (DailyStats day : days) result.add(day.toSummaryItem());
+        return result;
+    }
+
+    static int conditionIndex(@Nullable String icon) {
+        if (icon == null || icon.length() < 2) return -1;
+        for (int i = 0; i < CONDITION_CODES.length; i++) {
+            if (icon.startsWith(CONDITION_CODES[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 하루치 누적값 (날짜마다 reset 하여 재사용)
+     */
+    private static class Accumulator {
+        String date;
+        int count;
+        double min;
+        double max;
+        double tempSum;
+        long humiditySum;
+
+        /** 날씨 그룹별 slot 수 */
+        final int[] slots = new int[CONDITION_CODES.length];
+        /** 날씨 그룹별 첫 낮/밤 slot 의 리스트 인덱스 (-1 = 없음) */
+        final int[] firstDay = new int[CONDITION_CODES.length];
+        final int[] firstNight = new int[CONDITION_CODES.length];
+        /** 알 수 없는 아이콘만 있을 때 사용할 첫 slot */
+        int firstAny;
+
+        Accumulator() {
+            reset(null);
+        }
+
+        void reset(String date) {
+            this.date = date;
+            count = 0;
+            min = Double.MAX_VALUE;
+            max = -Double.MAX_VALUE;
+            tempSum = 0;
+            humiditySum = 0;
+            Arrays.fill(slots, 0);
+            Arrays.fill(firstDay, -1);
+            Arrays.fill(firstNight, -1);
+            firstAny = -1;
+        }
+
+        void add(ForecastResponse.ForecastItem item, int index) {
+            if (count == 0) {
+                reset(item.dtTxt.substring(0, 10));
+                firstAny = index;
+            }
+            count++;
+            if (item.main != null) {
+                min = Math.min(min, item.main.temp_min);
+                max = Math.max(max, item.main.temp_max);
+                tempSum += item.main.temp;
+                humiditySum += item.main.humidity;
+            }
+
+            String icon = item.weather == null || item.weather.isEmpty()
+                    ? null : item.weather.get(0).icon;
+            int c = conditionIndex(icon);
+            if (c < 0) return;
+            slots[c]++;
+            boolean night = icon.endsWith("n");
+            if (night) {
+                if (firstNight[c] < 0) firstNight[c] = index;
+            } else if (firstDay[c] < 0) {
+                firstDay[c] = index;
+            }
+        }
+
+        DailyStats finish(List<ForecastResponse.ForecastItem> list) {
+            int dominant = -1;
+            for (int c = 0; c < slots.length; c++) {
+                if (slots[c] > 0 && (dominant < 0 || slots[c] >= slots[dominant])) dominant = c;
+            }
+            int pick = firstAny;
+            if (dominant >= 0) {
+                pick = firstDay[dominant] >= 0 ? firstDay[dominant] : firstNight[dominant];
+            }
+            ForecastResponse.ForecastItem rep = list.get(pick);
+            ForecastResponse.Weather w = rep.weather == null || rep.weather.isEmpty()
+                    ? null : rep.weather.get(0);
+
+            DailyStats stats = new DailyStats(
+                    date,
+                    min == Double.MAX_VALUE ? 0 : min,
+                    max == -Double.MAX_VALUE ? 0 : max,
+                    tempSum / count,
+                    (int) Math.round((double) humiditySum / count),
+                    w == null ? null : w.icon,
+                    w == null ? null : w.description,
+                    w == null ? 0 : w.id,
+                    count);
+            count = 0;
+            return stats;
+        }
+    }
+}
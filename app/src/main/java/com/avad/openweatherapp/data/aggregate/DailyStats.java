@@ -0,0 +1,71 @@
+package com.avad.openweatherapp.data.aggregate;
+
+import androidx.annotation.NonNull;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.Collections;
+
+/**
+ * DailyStats
+ * - 하루치 3시간 단위 slot 을 한 번에 집계한 결과 (불변)
+ */
+public class DailyStats {
+
+    /** 날짜 (yyyy-MM-dd) */
+    public final String date;
+
+    public final double minTemp;
+    public final double maxTemp;
+    public final double meanTemp;
+    public final int meanHumidity;
+
+    /** 가장 오래 지속된 날씨 (아이콘 코드 앞 2자리 기준) 의 대표 아이콘 — 낮 아이콘 우선 */
+    public final String icon;
+    public final String description;
+
+    /** 대표 날씨의 상태 코드 (없으면 0) */
+    public final int conditionId;
+
+    /** 집계에 사용된 slot 수 (slot 하나 = 3시간) */
+    public final int slotCount;
+
+    DailyStats(String date, double minTemp, double maxTemp, double meanTemp, int meanHumidity,
+               String icon, String description, int conditionId, int slotCount) {
+        this.date = date;
+        this.minTemp = minTemp;
+        this.maxTemp = maxTemp;
+        this.meanTemp = meanTemp;
+        this.meanHumidity = meanHumidity;
+        this.icon = icon;
+        this.description = description;
+        this.conditionId = conditionId;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * 위젯 스냅샷 저장 형식 (ForecastItem, dtTxt = 날짜 00:00:00) 으로 변환
+     */
+    public ForecastResponse.ForecastItem toSummaryItem() {
+        ForecastResponse.ForecastItem summary = new ForecastResponse.ForecastItem();
+        summary.dtTxt = date + " 00:00:00";
+        summary.main = new ForecastResponse.Main();
+        summary.main.temp = (float) meanTemp;
+        summary.main.temp_min = minTemp;
+        summary.main.temp_max = maxTemp;
+        summary.main.humidity = meanHumidity;
+        ForecastResponse.Weather weather = new ForecastResponse.Weather();
+        weather.id = conditionId;
+        weather.icon = icon;
+        weather.description = description;
+        summary.weather = Collections.singletonList(weather);
+        return summary;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "DailyStats{" + date + ", " + minTemp + "~" + maxTemp + ", mean=" + meanTemp
+                + ", hum=" + meanHumidity + ", " + icon + ", slots=" + slotCount + "}";
+    }
+}
@@ -0,0 +1,84 @@
+package com.avad.openweatherapp.data.air;
+
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.AirPollutionResponse;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AirQualityJoin
+ * - 1시간 단위 대기질 예보를 3시간 단위 예보 slot 에 시각 기준으로 붙임
+ *   · slot [t, t+3h) 에 속한 시간들의 가장 나쁜 지수와 평균 농도
+ *   · 두 리스트 모두 시간순이므로 한 번의 병합 순회 (O(slot + 대기질))
+ * - slot 을 수정하지 않고 slot 시각(epoch seconds) → 대기질 불변 맵을 반환
+ *   (slot 인스턴스는 캐시/화면이 공유하므로 워커 스레드에서 쓰지 않음)
+ * - 대기질이 없는 slot(대기질 예보 범위 밖)은 맵에 없음
+ */
+public final class AirQualityJoin {
+
+    private static final long SLOT_SECONDS = 3 * 3600L;
+
+    private AirQualityJoin() {
+    }
+
+    /**
+     * @param slots 예보 slot (시간순)
+     * @param air 대기질 예보 (null 이면 빈 맵)
+     * @return slot 시각 → 대기질 (수정 불가)
+     */
+    public static Map<Long, ForecastResponse.AirQuality> join(
+            List<ForecastResponse.ForecastItem> slots, @Nullable AirPollutionResponse air) {
+        List<AirPollutionResponse.Entry> entries = sorted(air);
+        if (entries.isEmpty()) return Collections.emptyMap();
+        Map<Long, ForecastResponse.AirQuality> joined = new HashMap<>();
+        int e = 0;
+        for (ForecastResponse.ForecastItem slot : slots) {
+            long start = ForecastMerger.slotKey(slot);
+            long end = start + SLOT_SECONDS;
+            while (e < entries.size() && entries.get(e).dt < start) e++;
+
+            int aqi = 0;
+            float pm25 = 0f;
+            float pm10 = 0f;
+            int count = 0;
+            for (int i = e; i < entries.size() && entries.get(i).dt < end; i++) {
+                AirPollutionResponse.Entry entry = entries.get(i);
+                if (entry.main != null) aqi = Math.max(aqi, entry.main.aqi);
+                if (entry.components != null) {
+                    pm25 += entry.components.pm25;
+                    pm10 += entry.components.pm10;
+                }
+                count++;
+            }
+            if (count > 0) {
+                joined.put(start, new ForecastResponse.AirQuality(aqi, pm25 / count, pm10 / count));
+            }
+        }
+        return Collections.unmodifiableMap(joined);
+    }
+
+    /**
+     * 시각 없는 항목을 거르고 시간순 보장 (API 는 이미 시간순이므로 보통 그대로 반환)
+     */
+    private static List<AirPollutionResponse.Entry> sorted(@Nullable AirPollutionResponse air) {
+        List<AirPollutionResponse.Entry> entries = new ArrayList<>();
+        if (air == null || air.list == null) return entries;
+        boolean ordered = true;
+        long prev = Long.MIN_VALUE;
+        for (AirPollutionResponse.Entry entry : air.list) {
+            if (entry == null || entry.dt == 0) continue;
+            if (entry.dt < prev) ordered = false;
+            prev = entry.dt;
+            entries.add(entry);
+        }
+        if (!ordered) entries.sort((a, b) -> Long.compare(a.dt, b.dt));
+        return entries;
+    }
+}
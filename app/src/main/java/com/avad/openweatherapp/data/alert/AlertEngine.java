@@ -0,0 +1,246 @@
+package com.avad.openweatherapp.data.alert;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AlertEngine
+ * - 새로 받은 예보에 알림 규칙을 적용 (위젯 새로고침 중 이미 받은 데이터만 사용,
+ *   추가 네트워크 요청/알람 없음)
+ * - 위치/규칙 별로 마지막으로 평가한 창(window) 안 slot 들의 서명과 마지막으로 알린 slot 을 기억하여
+ *   · 창 안의 slot (시각/상태 코드/기온) 이 그대로면 규칙을 건너뜀
+ *     (저장소의 ForecastDiff 는 다른 화면이 먼저 받은 예보 기준이라 쓰지 않음)
+ *   · 이미 알린 slot 이 지나기 전에는 같은 규칙으로 다시 알리지 않음
+ * - 상태는 encodeState() 로 설정에 저장, 생성 시 복원 (프로세스가 바뀌어도 중복 알림 없음)
+ */
+public class AlertEngine {
+
+    private static final String TAG = "AlertEngine";
+
+    /** 예보 slot 길이 (3시간) */
+    private static final long SLOT_SECONDS = 3 * 3600L;
+
+    /**
+     * 위치/규칙 하나의 평가 상태
+     */
+    private static final class RuleState {
+        /** 마지막 평가 때의 창 끝 (epoch seconds) */
+        long evaluatedUntil;
+        /** 마지막 평가 때 창 안 slot 들의 서명 (0 이면 아직 없음) */
+        long windowSignature;
+        /** 마지막으로 알린 slot (없으면 0) */
+        long alertedEvent;
+    }
+
+    /** "위치 key|규칙 id" → 상태 */
+    private final Map<String, RuleState> states = new HashMap<>();
+    private boolean dirty;
+
+    public AlertEngine(@Nullable String encodedState) {
+        decodeState(encodedState);
+    }
+
+    /**
+     * 새 예보에 규칙 적용
+     * @param list 병합된 예보 (시간순)
+     * @param nowSeconds 현재 시각 (epoch seconds)
+     * @return 새로 알릴 항목 (없으면 빈 리스트)
+     */
+    @NonNull
+    public synchronized List<WeatherAlert> evaluate(String locationKey, List<AlertRule> rules,
+                                                    List<ForecastResponse.ForecastItem> list,
+                                                    long nowSeconds) {
+        prune(nowSeconds);
+        List<WeatherAlert> alerts = new ArrayList<>();
+        if (list == null || list.isEmpty()) return alerts;
+
+        int skipped = 0;
+        for (AlertRule rule : rules) {
+            if (!rule.enabled) continue;
+            long windowEnd = nowSeconds + rule.windowHours * 3600L;
+            String stateKey = locationKey + "|" + rule.id();
+            RuleState state = states.get(stateKey);
+
+            long signature = signature(list, nowSeconds, windowEnd);
+
+            if (state != null && state.windowSignature == signature) {
+                skipped++;
+                continue;
+            }
+            if (state == null) {
+                state = new RuleState();
+                states.put(stateKey, state);
+            }
+            state.evaluatedUntil = windowEnd;
+            state.windowSignature = signature;
+            dirty = true;
+
+            WeatherAlert alert = rule.kind == AlertRule.Kind.PRECIPITATION
+                    ? precipitation(rule, locationKey, list, nowSeconds, windowEnd)
+                    : temperatureSwing(rule, locationKey, list, nowSeconds, windowEnd);
+            if (alert == null) {
+                // 알린 현상이 예보에서 사라짐 → 다음 현상은 다시 알림
+                state.alertedEvent = 0;
+            } else if (state.alertedEvent == 0 || state.alertedEvent + SLOT_SECONDS <= nowSeconds) {
+                state.alertedEvent = alert.eventEpoch;
+                alerts.add(alert);
+            }
+        }
+        Log.d(TAG, locationKey + ": " + alerts.size() + " alerts, " + skipped + " rules unchanged");
+        return alerts;
+    }
+
+    /**
+     * 창 안 slot 들의 시각/상태 코드/기온 서명
+     * - slot 이 바뀌거나, 창이 움직이며 slot 이 들어오거나 빠지면 달라짐
+     * - 0 은 "평가한 적 없음" 으로 쓰므로 피함
+     */
+    private static long signature(List<ForecastResponse.ForecastItem> list,
+                                  long windowStart, long windowEnd) {
+        long hash = 1;
+        for (int i = firstInWindow(list, windowStart); i < list.size(); i++) {
+            ForecastResponse.ForecastItem item = list.get(i);
+            long epoch = ForecastMerger.slotKey(item);
+            if (epoch > windowEnd) break;
+            int id = item.weather == null || item.weather.isEmpty() ? 0 : item.weather.get(0).id;
+            int temp = item.main == null ? 0 : Float.floatToIntBits(item.main.temp);
+            hash = 31 * hash + epoch;
+            hash = 31 * hash + id;
+            hash = 31 * hash + temp;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * 아직 끝나지 않은 첫 slot 위치 (이진 탐색)
+     */
+    private static int firstInWindow(List<ForecastResponse.ForecastItem> list, long windowStart) {
+        int lo = 0;
+        int hi = list.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ForecastMerger.slotKey(list.get(mid)) + SLOT_SECONDS <= windowStart) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * 창 안의 첫 강수 slot
+     */
+    @Nullable
+    private static WeatherAlert precipitation(AlertRule rule, String locationKey,
+                                              List<ForecastResponse.ForecastItem> list,
+                                              long windowStart, long windowEnd) {
+        for (int i = firstInWindow(list, windowStart); i < list.size(); i++) {
+            ForecastResponse.ForecastItem item = list.get(i);
+            long epoch = ForecastMerger.slotKey(item);
+            if (epoch > windowEnd) break;
+            if (item.weather == null || item.weather.isEmpty()) continue;
+            ForecastResponse.Weather weather = item.weather.get(0);
+            if (weather.condition().isPrecipitation()) {
+                return new WeatherAlert(rule, locationKey, epoch, weather.id, 0f);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 창 안의 최고-최저 기온 차가 기준 이상이면 나중 극값 slot 으로 알림
+     */
+    @Nullable
+    private static WeatherAlert temperatureSwing(AlertRule rule, String locationKey,
+                                                 List<ForecastResponse.ForecastItem> list,
+                                                 long windowStart, long windowEnd) {
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+        long minEpoch = 0;
+        long maxEpoch = 0;
+        boolean found = false;
+        for (int i = firstInWindow(list, windowStart); i < list.size(); i++) {
+            ForecastResponse.ForecastItem item = list.get(i);
+            long epoch = ForecastMerger.slotKey(item);
+            if (epoch > windowEnd) break;
+            if (item.main == null) continue;
+            float temp = item.main.temp;
+            found = true;
+            if (temp < min) {
+                min = temp;
+                minEpoch = epoch;
+            }
+            if (temp > max) {
+                max = temp;
+                maxEpoch = epoch;
+            }
+        }
+        if (!found || max - min < rule.threshold) return null;
+        return new WeatherAlert(rule, locationKey, Math.max(minEpoch, maxEpoch), 0, max - min);
+    }
+
+    // ---- 상태 저장 ----
+
+    /**
+     * 창과 알린 slot 이 모두 지난 상태 제거
+     * - 창 끝에서 시작한 slot 은 창이 지난 뒤에도 최대 3시간 진행 중이므로 그때까지 유지
+     */
+    private void prune(long nowSeconds) {
+        Iterator<RuleState> it = states.values().iterator();
+        while (it.hasNext()) {
+            RuleState state = it.next();
+            if (Math.max(state.evaluatedUntil, state.alertedEvent + SLOT_SECONDS) < nowSeconds) {
+                it.remove();
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 마지막 저장 이후 상태가 바뀌었는지 (바뀌지 않았으면 저장 생략)
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * "위치|규칙\t창 끝\t알린 slot\t창 서명" 한 줄에 하나 (호출 후 dirty 해제)
+     */
+    public synchronized String encodeState() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, RuleState> e : states.entrySet()) {
+            sb.append(e.getKey()).append('\t').append(e.getValue().evaluatedUntil).append('\t')
+                    .append(e.getValue().alertedEvent).append('\t')
+                    .append(e.getValue().windowSignature).append('\n');
+        }
+        dirty = false;
+        return sb.toString();
+    }
+
+    private void decodeState(@Nullable String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String line : encoded.split("\n")) {
+            String[] f = line.split("\t");
+            if (f.length < 3) continue;
+            try {
+                RuleState state = new RuleState();
+                state.evaluatedUntil = Long.parseLong(f[1]);
+                state.alertedEvent = Long.parseLong(f[2]);
+                // 서명이 없는 이전 형식은 다음 평가에서 다시 계산 (알린 slot 으로 중복은 막힘)
+                if (f.length > 3) state.windowSignature = Long.parseLong(f[3]);
+                states.put(f[0], state);
+            } catch (NumberFormatException e) {
+                Log.w(TAG, "잘못된 알림 상태: " + line);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.avad.openweatherapp.data.alert;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AlertRule
+ * - 예보 알림 규칙 하나 (불변)
+ *   · PRECIPITATION     : windowHours 시간 안에 비/눈 예보가 있으면 알림
+ *   · TEMPERATURE_SWING : windowHours 시간 안의 최고-최저 기온 차가 threshold(°C) 이상이면 알림
+ * - 설정에는 "종류\t시간\t기준값\t사용 여부" 한 줄에 한 규칙으로 저장
+ */
+public final class AlertRule {
+
+    private static final String TAG = "AlertRule";
+
+    public enum Kind {
+        PRECIPITATION,
+        TEMPERATURE_SWING
+    }
+
+    /** 기본 규칙: 3시간 내 강수, 24시간 내 10°C 이상 기온 변화 */
+    public static final List<AlertRule> DEFAULTS = Collections.unmodifiableList(Arrays.asList(
+            new AlertRule(Kind.PRECIPITATION, 3, 0f, true),
+            new AlertRule(Kind.TEMPERATURE_SWING, 24, 10f, true)));
+
+    public final Kind kind;
+    public final int windowHours;
+    /** TEMPERATURE_SWING 의 기온 차 기준 (°C), PRECIPITATION 은 사용하지 않음 */
+    public final float threshold;
+    public final boolean enabled;
+
+    public AlertRule(Kind kind, int windowHours, float threshold, boolean enabled) {
+        this.kind = kind;
+        this.windowHours = windowHours;
+        this.threshold = threshold;
+        this.enabled = enabled;
+    }
+
+    public AlertRule withEnabled(boolean enabled) {
+        return new AlertRule(kind, windowHours, threshold, enabled);
+    }
+
+    /**
+     * 중복 알림 판단에 쓰는 규칙 식별자 (사용 여부는 제외 → 껐다 켜도 같은 규칙)
+     */
+    public String id() {
+        return kind.name() + ":" + windowHours + ":" + threshold;
+    }
+
+    public static String encode(List<AlertRule> rules) {
+        StringBuilder sb = new StringBuilder();
+        for (AlertRule r : rules) {
+            sb.append(r.kind.name()).append('\t').append(r.windowHours).append('\t')
+                    .append(r.threshold).append('\t').append(r.enabled).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return 저장된 적 없으면 DEFAULTS
+     */
+    public static List<AlertRule> decode(@Nullable String encoded) {
+        if (encoded == null) return DEFAULTS;
+        List<AlertRule> rules = new ArrayList<>();
+        for (String line : encoded.split("\n")) {
+            String[] f = line.split("\t");
+            if (f.length < 4) continue;
+            try {
+                rules.add(new AlertRule(Kind.valueOf(f[0]), Integer.parseInt(f[1]),
+                        Float.parseFloat(f[2]), Boolean.parseBoolean(f[3])));
+            } catch (IllegalArgumentException e) {
+                Log.w(TAG, "잘못된 알림 규칙: " + line);
+            }
+        }
+        return Collections.unmodifiableList(rules);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AlertRule)) return false;
+        AlertRule r = (AlertRule) o;
+        return kind == r.kind && windowHours == r.windowHours
+                && Float.compare(threshold, r.threshold) == 0 && enabled == r.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((kind.hashCode() * 31 + windowHours) * 31 + Float.floatToIntBits(threshold)) * 31
+                + (enabled ? 1 : 0);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "AlertRule{" + id() + (enabled ? "" : ", off") + "}";
+    }
+}
@@ -0,0 +1,40 @@
+package com.avad.openweatherapp.data.alert;
+
+import androidx.annotation.NonNull;
+
+/**
+ * WeatherAlert
+ * - AlertEngine 이 낸 알림 하나 (문구는 표시 설정에 맞춰 알림을 만들 때 구성)
+ *   · eventEpoch  : 알림 대상 slot 시각 (강수 시작 / 기온 차의 나중 극값)
+ *   · conditionId : 강수 알림의 상태 코드
+ *   · value       : 기온 변화 알림의 최고-최저 차 (°C)
+ */
+public final class WeatherAlert {
+
+    public final AlertRule rule;
+    public final String locationKey;
+    public final long eventEpoch;
+    public final int conditionId;
+    public final float value;
+
+    WeatherAlert(AlertRule rule, String locationKey, long eventEpoch, int conditionId, float value) {
+        this.rule = rule;
+        this.locationKey = locationKey;
+        this.eventEpoch = eventEpoch;
+        this.conditionId = conditionId;
+        this.value = value;
+    }
+
+    /**
+     * 알림 id (같은 위치/규칙의 새 알림은 이전 알림을 대체)
+     */
+    public int notificationId() {
+        return (locationKey + "|" + rule.id()).hashCode();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WeatherAlert{" + rule.id() + ", " + locationKey + ", at=" + eventEpoch + "}";
+    }
+}
@@ -0,0 +1,166 @@
+package com.avad.openweatherapp.data.cache;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ForecastCacheManager
+ * - 앱 전역 인-메모리 예보 캐시를 한 곳에서 관리
+ *   · source   : 원본 예보(ForecastResponse) — 메모리 압박 시에도 유지
+ *   · labels   : 포맷된 문자열 (날짜/요일 라벨 등)
+ *   · summaries: 일별 요약 등 원본에서 다시 계산 가능한 파생 데이터
+ *   · bitmaps  : 아이콘 비트맵
+ * - ComponentCallbacks2 로 onTrimMemory 를 받아 파생 데이터만 단계적으로 비움
+ *   (Glide 는 자체적으로 ComponentCallbacks2 를 등록하므로 여기서 관리하지 않음)
+ */
+public class ForecastCacheManager implements ComponentCallbacks2 {
+
+    private static final String TAG = "ForecastCacheManager";
+
+    /** 캐시별 바이트 예산 */
+    static final long LABEL_BUDGET_BYTES = 16 * 1024;
+    static final long SUMMARY_BUDGET_BYTES = 32 * 1024;
+    static final long BITMAP_BUDGET_BYTES = 2 * 1024 * 1024;
+
+    /** ForecastItem 1개당 대략적인 크기 (객체 헤더 + Main + Weather + 문자열) */
+    static final long BYTES_PER_FORECAST_ITEM = 320;
+
+    private static final ForecastCacheManager INSTANCE = new ForecastCacheManager();
+
+    private final AtomicBoolean installed = new AtomicBoolean(false);
+
+    private final SizedCache<String, String> labels =
+            new SizedCache<>("labels", LABEL_BUDGET_BYTES, ForecastCacheManager::sizeOfString);
+
+    private final SizedCache<String, Object> summaries =
+            new SizedCache<>("summaries", SUMMARY_BUDGET_BYTES, v -> BYTES_PER_FORECAST_ITEM);
+
+    private final SizedCache<String, Bitmap> bitmaps =
+            new SizedCache<>("bitmaps", BITMAP_BUDGET_BYTES, Bitmap::getAllocationByteCount);
+
+    /** 파생 캐시 목록 (축소 대상) */
+    private final List<SizedCache<?, ?>> derived = new ArrayList<>();
+
+    /** 원본 예보 (축소 대상 아님) */
+    private volatile ForecastResponse source;
+
+    ForecastCacheManager() {
+        derived.add(labels);
+        derived.add(summaries);
+        derived.add(bitmaps);
+    }
+
+    public static ForecastCacheManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Application 컨텍스트에 ComponentCallbacks2 등록 (최초 1회)
+     */
+    public void install(Context context) {
+        if (installed.compareAndSet(false, true)) {
+            context.getApplicationContext().registerComponentCallbacks(this);
+        }
+    }
+
+    // ---- source ----
+
+    public void setSource(@Nullable ForecastResponse response) {
+        source = response;
+    }
+
+    @Nullable
+    public ForecastResponse getSource() {
+        return source;
+    }
+
+    // ---- derived ----
+
+    public SizedCache<String, String> labels() {
+        return labels;
+    }
+
+    public SizedCache<String, Object> summaries() {
+        return summaries;
+    }
+
+    public SizedCache<String, Bitmap> bitmaps() {
+        return bitmaps;
+    }
+
+    /**
+     * 현재 캐시가 붙잡고 있는 대략적인 힙 크기 (원본 + 파생)
+     */
+    public long retainedBytes() {
+        return sourceBytes() + derivedBytes();
+    }
+
+    public long sourceBytes() {
+        ForecastResponse s = source;
+        if (s == null || s.list == null) return 0;
+        return s.list.size() * BYTES_PER_FORECAST_ITEM;
+    }
+
+    public long derivedBytes() {
+        long total = 0;
+        for (SizedCache<?, ?> cache : derived) total += cache.sizeBytes();
+        return total;
+    }
+
+    // ---- ComponentCallbacks2 ----
+
+    /**
+     * 메모리 압박 단계별 처리
+     * - RUNNING_MODERATE : 파생 캐시를 예산의 50% 로
+     * - RUNNING_LOW      : 파생 캐시를 예산의 25% 로, 비트맵은 비움
+     * - RUNNING_CRITICAL 이상 (UI_HIDDEN, BACKGROUND, COMPLETE 포함) : 파생 캐시 전부 비움
+     * - 원본 예보(source)는 어느 단계에서도 유지
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            clearDerived();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            bitmaps.clear();
+            labels.trimTo(0.25f);
+            summaries.trimTo(0.25f);
+        } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+            for (SizedCache<?, ?> cache : derived) cache.trimTo(0.5f);
+        }
+        Log.d(TAG, "onTrimMemory(" + level + ") → retained " + retainedBytes() + " bytes");
+    }
+
+    @Override
+    public void onLowMemory() {
+        clearDerived();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        // 언어 등 설정 변경 시 포맷된 문자열은 다시 만들어야 함
+        labels.clear();
+    }
+
+    private void clearDerived() {
+        for (SizedCache<?, ?> cache : derived) cache.clear();
+    }
+
+    /**
+     * String 크기 근사값 (객체 헤더 + char 배열)
+     */
+    static long sizeOfString(String s) {
+        return 40 + 2L * s.length();
+    }
+}
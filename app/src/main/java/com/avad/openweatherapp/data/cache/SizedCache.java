@@ -0,0 +1,91 @@
+package com.avad.openweatherapp.data.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SizedCache
+ * - 바이트 예산(budgetBytes)을 가진 LRU 캐시
+ * - 예산 초과 시 가장 오래 사용되지 않은 항목부터 제거
+ * - trimTo() 로 메모리 압박 시 예산 비율만큼 축소
+ * - 모든 메서드는 동기화되어 있어 위젯 워커/메인 스레드에서 함께 사용 가능
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SizedCache<K, V> {
+
+    /**
+     * 값의 대략적인 메모리 크기(바이트) 계산기
+     */
+    public interface Sizer<V> {
+        long sizeOf(V value);
+    }
+
+    private final String name;
+    private final long budgetBytes;
+    private final Sizer<V> sizer;
+
+    /** accessOrder=true 로 LRU 순서 유지 */
+    private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes = 0;
+
+    public SizedCache(String name, long budgetBytes, Sizer<V> sizer) {
+        this.name = name;
+        this.budgetBytes = budgetBytes;
+        this.sizer = sizer;
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        long size = sizer.sizeOf(value);
+        // 단일 항목이 예산을 넘으면 캐싱하지 않음
+        if (size > budgetBytes) return;
+
+        V old = map.put(key, value);
+        if (old != null) sizeBytes -= sizer.sizeOf(old);
+        sizeBytes += size;
+        evictTo(budgetBytes);
+    }
+
+    /**
+     * 예산의 fraction 비율(0.0~1.0)까지 축소
+     */
+    public synchronized void trimTo(float fraction) {
+        evictTo((long) (budgetBytes * fraction));
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized long sizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized int count() {
+        return map.size();
+    }
+
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private void evictTo(long limit) {
+        Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+        while (sizeBytes > limit && it.hasNext()) {
+            Map.Entry<K, V> eldest = it.next();
+            sizeBytes -= sizer.sizeOf(eldest.getValue());
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.avad.openweatherapp.data.display;
+
+import androidx.annotation.Nullable;
+
+/**
+ * ConditionText
+ * - OpenWeatherMap 날씨 상태 코드(weather.id) → 언어별 상태 문구
+ * - 앱에 포함된 테이블만 사용하므로 언어를 바꿔도 예보를 다시 받지 않음
+ * - 코드 범위(200~804)를 그대로 배열 인덱스로 사용 (조회 O(1))
+ */
+public final class ConditionText {
+
+    private static final int MIN_ID = 200;
+    private static final int MAX_ID = 804;
+
+    /** { 코드, 한국어, English } */
+    private static final Object[][] ROWS = {
+            // 2xx 뇌우
+            {200, "약한 비를 동반한 천둥번개", "thunderstorm with light rain"},
+            {201, "비를 동반한 천둥번개", "thunderstorm with rain"},
+            {202, "강한 비를 동반한 천둥번개", "thunderstorm with heavy rain"},
+            {210, "약한 천둥번개", "light thunderstorm"},
+            {211, "천둥번개", "thunderstorm"},
+            {212, "강한 천둥번개", "heavy thunderstorm"},
+            {221, "불규칙한 천둥번개", "ragged thunderstorm"},
+            {230, "약한 이슬비를 동반한 천둥번개", "thunderstorm with light drizzle"},
+            {231, "이슬비를 동반한 천둥번개", "thunderstorm with drizzle"},
+            {232, "강한 이슬비를 동반한 천둥번개", "thunderstorm with heavy drizzle"},
+            // 3xx 이슬비
+            {300, "약한 이슬비", "light intensity drizzle"},
+            {301, "이슬비", "drizzle"},
+            {302, "강한 이슬비", "heavy intensity drizzle"},
+            {310, "약한 이슬비와 비", "light intensity drizzle rain"},
+            {311, "이슬비와 비", "drizzle rain"},
+            {312, "강한 이슬비와 비", "heavy intensity drizzle rain"},
+            {313, "소나기와 이슬비", "shower rain and drizzle"},
+            {314, "강한 소나기와 이슬비", "heavy shower rain and drizzle"},
+            {321, "이슬비 소나기", "shower drizzle"},
+            // 5xx 비
+            {500, "약한 비", "light rain"},
+            {501, "보통 비", "moderate rain"},
+            {502, "강한 비", "heavy intensity rain"},
+            {503, "매우 강한 비", "very heavy rain"},
+            {504, "극심한 비", "extreme rain"},
+            {511, "어는 비", "freezing rain"},
+            {520, "약한 소나기", "light intensity shower rain"},
+            {521, "소나기", "shower rain"},
+            {522, "강한 소나기", "heavy intensity shower rain"},
+            {531, "불규칙한 소나기", "ragged shower rain"},
+            // 6xx 눈
+            {600, "약한 눈", "light snow"},
+            {601, "눈", "snow"},
+            {602, "강한 눈", "heavy snow"},
+            {611, "진눈깨비", "sleet"},
+            {612, "약한 진눈깨비 소나기", "light shower sleet"},
+            {613, "진눈깨비 소나기", "shower sleet"},
+            {615, "약한 비와 눈", "light rain and snow"},
+            {616, "비와 눈", "rain and snow"},
+            {620, "약한 소낙눈", "light shower snow"},
+            {621, "소낙눈", "shower snow"},
+            {622, "강한 소낙눈", "heavy shower snow"},
+            // 7xx 대기
+            {701, "박무", "mist"},
+            {711, "연기", "smoke"},
+            {721, "실안개", "haze"},
+            {731, "모래 먼지 회오리", "sand/dust whirls"},
+            {741, "안개", "fog"},
+            {751, "모래", "sand"},
+            {761, "먼지", "dust"},
+            {762, "화산재", "volcanic ash"},
+            {771, "돌풍", "squalls"},
+            {781, "토네이도", "tornado"},
+            // 800 맑음, 80x 구름
+            {800, "맑음", "clear sky"},
+            {801, "구름 조금", "few clouds"},
+            {802, "구름 낌", "scattered clouds"},
+            {803, "구름 많음", "broken clouds"},
+            {804, "흐림", "overcast clouds"},
+    };
+
+    /** [DisplayLanguage.ordinal()][id - MIN_ID] */
+    private static final String[][] TABLES =
+            new String[DisplayLanguage.values().length][MAX_ID - MIN_ID + 1];
+
+    static {
+        for (Object[] row : ROWS) {
+            int index = (Integer) row[0] - MIN_ID;
+            TABLES[DisplayLanguage.KOREAN.ordinal()][index] = (String) row[1];
+            TABLES[DisplayLanguage.ENGLISH.ordinal()][index] = (String) row[2];
+        }
+    }
+
+    private ConditionText() {
+    }
+
+    /**
+     * 상태 코드의 문구
+     * @return 테이블에 없는 코드(이전 캐시의 0 등)면 null
+     */
+    @Nullable
+    public static String describe(int id, DisplayLanguage language) {
+        if (id < MIN_ID || id > MAX_ID) return null;
+        return TABLES[language.ordinal()][id - MIN_ID];
+    }
+}
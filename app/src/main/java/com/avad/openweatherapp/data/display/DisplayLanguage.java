@@ -0,0 +1,17 @@
+package com.avad.openweatherapp.data.display;
+
+/**
+ * DisplayLanguage
+ * - 날씨 상태 문구를 표시할 언어 (ConditionText 테이블 선택용)
+ */
+public enum DisplayLanguage {
+    KOREAN("ko"),
+    ENGLISH("en");
+
+    /** 언어 코드 */
+    public final String code;
+
+    DisplayLanguage(String code) {
+        this.code = code;
+    }
+}
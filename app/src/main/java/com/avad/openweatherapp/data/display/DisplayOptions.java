@@ -0,0 +1,84 @@
+package com.avad.openweatherapp.data.display;
+
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+/**
+ * DisplayOptions
+ * - 표시 단위/언어 설정 (불변)
+ * - 캐시에는 섭씨 예보 한 벌만 두고, 화면/위젯은 바인딩 시점에 이 설정으로 변환
+ *   → 설정을 바꿔도 네트워크 요청이나 별도 캐시 없이 메모리 데이터로 다시 그림
+ */
+public final class DisplayOptions {
+
+    public static final DisplayOptions DEFAULT =
+            new DisplayOptions(TemperatureUnit.CELSIUS, DisplayLanguage.KOREAN);
+
+    public final TemperatureUnit unit;
+    public final DisplayLanguage language;
+
+    public DisplayOptions(TemperatureUnit unit, DisplayLanguage language) {
+        this.unit = unit;
+        this.language = language;
+    }
+
+    public DisplayOptions withUnit(TemperatureUnit unit) {
+        return new DisplayOptions(unit, language);
+    }
+
+    public DisplayOptions withLanguage(DisplayLanguage language) {
+        return new DisplayOptions(unit, language);
+    }
+
+    /**
+     * 섭씨 값을 표시 단위로 변환
+     */
+    public double temperature(double celsius) {
+        return unit.fromCelsius(celsius);
+    }
+
+    /**
+     * 반올림한 기온 + 단위 기호 (예: "21°C", "70°F")
+     */
+    public String roundedTemperature(double celsius) {
+        return temperatureLabel(celsius, WeatherFormatter.Style.ROUNDED);
+    }
+
+    /**
+     * 스타일별 기온 문자열 (WeatherFormatter 테이블의 같은 인스턴스)
+     */
+    public String temperatureLabel(double celsius, WeatherFormatter.Style style) {
+        return WeatherFormatter.getInstance().temperature(celsius, unit, style);
+    }
+
+    /**
+     * 날씨 상태 문구
+     * - 상태 코드로 앱 내장 테이블에서 조회, 없으면 응답의 description 사용
+     */
+    public String description(ForecastResponse.Weather weather) {
+        String text = ConditionText.describe(weather.id, language);
+        return text != null ? text : weather.description;
+    }
+
+    /**
+     * 짧은 상태 문구 (위젯용)
+     * - 분류(WeatherCondition)의 짧은 문구, 알 수 없는 코드면 전체 문구
+     */
+    public String shortDescription(ForecastResponse.Weather weather) {
+        String label = weather.condition().shortLabel(language);
+        return label != null ? label : description(weather);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DisplayOptions)) return false;
+        DisplayOptions other = (DisplayOptions) o;
+        return unit == other.unit && language == other.language;
+    }
+
+    @Override
+    public int hashCode() {
+        return unit.hashCode() * 31 + language.hashCode();
+    }
+}
@@ -0,0 +1,25 @@
+package com.avad.openweatherapp.data.display;
+
+/**
+ * TemperatureUnit
+ * - 화면 표시용 기온 단위
+ * - 예보는 항상 섭씨(metric)로 받아 저장하고, 표시 시점에만 변환
+ */
+public enum TemperatureUnit {
+    CELSIUS("°C"),
+    FAHRENHEIT("°F");
+
+    /** 단위 기호 */
+    public final String symbol;
+
+    TemperatureUnit(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * 섭씨 값을 이 단위로 변환
+     */
+    public double fromCelsius(double celsius) {
+        return this == FAHRENHEIT ? celsius * 9.0 / 5.0 + 32.0 : celsius;
+    }
+}
@@ -0,0 +1,270 @@
+package com.avad.openweatherapp.data.energy;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * EnergyLedger
+ * - 새로고침 원인(RefreshTrigger)별로 날짜 단위 에너지 사용량 집계
+ *   · 실행 횟수, 그중 기기가 꺼진 화면(비대화형)에서 깨운 횟수
+ *   · 작업 시간 (begin ~ end)
+ *   · 요청 수, 송수신 바이트
+ *   · 무선 활성 시간: 전송 구간 + 전송 후 RADIO_TAIL_MS 를 합집합으로 계산
+ *     (연달아 보낸 요청은 꼬리 시간을 공유하므로 한 번만 셈)
+ * - 전송은 가장 최근에 시작되어 아직 끝나지 않은 작업에 귀속, 없으면 OTHER
+ * - 상태는 encodeState() 로 설정에 저장, 생성 시 복원 (최근 RETENTION_DAYS 일만 보관)
+ */
+public class EnergyLedger {
+
+    private static final String TAG = "EnergyLedger";
+
+    /** 전송이 끝난 뒤 무선 모듈이 고전력 상태로 머무는 시간 (LTE 기준 추정치) */
+    public static final long RADIO_TAIL_MS = 10_000L;
+
+    /** 보관 일수 (가장 최근 기록 날짜 기준) */
+    static final int RETENTION_DAYS = 7;
+
+    /**
+     * 진행 중인 작업 하나 (end 는 한 번만 반영)
+     */
+    public static final class Session {
+        final RefreshTrigger trigger;
+        final long startedAt;
+        boolean ended;
+
+        Session(RefreshTrigger trigger, long startedAt) {
+            this.trigger = trigger;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * 하루/원인 하나의 누적 사용량
+     */
+    public static final class Usage {
+        public int runs;
+        public int wakeups;
+        public long jobMillis;
+        public int requests;
+        public long rxBytes;
+        public long txBytes;
+        public long radioMillis;
+
+        Usage copy() {
+            Usage u = new Usage();
+            u.add(this);
+            return u;
+        }
+
+        void add(Usage o) {
+            runs += o.runs;
+            wakeups += o.wakeups;
+            jobMillis += o.jobMillis;
+            requests += o.requests;
+            rxBytes += o.rxBytes;
+            txBytes += o.txBytes;
+            radioMillis += o.radioMillis;
+        }
+    }
+
+    private final ZoneId zone;
+    private final TreeMap<LocalDate, Map<RefreshTrigger, Usage>> days = new TreeMap<>();
+    private final List<Session> open = new ArrayList<>();
+    /** 무선 활성 구간의 끝 (이 시각 전에 시작한 전송은 꼬리 시간을 이어 씀) */
+    private long radioUntil;
+    private boolean dirty;
+
+    public EnergyLedger(@Nullable String encodedState) {
+        this(encodedState, ZoneId.systemDefault());
+    }
+
+    EnergyLedger(@Nullable String encodedState, ZoneId zone) {
+        this.zone = zone;
+        decodeState(encodedState);
+    }
+
+    /**
+     * 작업 시작
+     * @param wakeup 화면이 꺼진 상태에서 시작되었는지 (이 작업이 기기를 깨워 둠)
+     */
+    @NonNull
+    public Session begin(RefreshTrigger trigger, boolean wakeup, long nowMs) {
+        Session session = new Session(trigger, nowMs);
+        begin(session, wakeup);
+        return session;
+    }
+
+    /**
+     * 미리 만든 Session 으로 작업 시작 (EnergyTracker 가 복원 전에 시작 시각을 잡아 둔 경우)
+     */
+    synchronized void begin(Session session, boolean wakeup) {
+        open.add(session);
+        Usage usage = usage(session.startedAt, session.trigger);
+        usage.runs++;
+        if (wakeup) usage.wakeups++;
+        dirty = true;
+    }
+
+    /**
+     * 작업 종료 (작업 시간은 시작한 날짜에 합산, 두 번째 호출부터 무시)
+     */
+    public synchronized void end(Session session, long nowMs) {
+        if (session.ended) return;
+        session.ended = true;
+        open.remove(session);
+        usage(session.startedAt, session.trigger).jobMillis += Math.max(0, nowMs - session.startedAt);
+        dirty = true;
+    }
+
+    /**
+     * 전송 하나 기록 (네트워크 스레드에서 호출)
+     */
+    public synchronized void recordTransfer(long startMs, long endMs, long rxBytes, long txBytes) {
+        RefreshTrigger trigger = open.isEmpty()
+                ? RefreshTrigger.OTHER : open.get(open.size() - 1).trigger;
+        Usage usage = usage(startMs, trigger);
+        usage.requests++;
+        usage.rxBytes += Math.max(0, rxBytes);
+        usage.txBytes += Math.max(0, txBytes);
+
+        long activeEnd = Math.max(endMs, startMs) + RADIO_TAIL_MS;
+        long from = Math.max(startMs, radioUntil);
+        if (activeEnd > from) usage.radioMillis += activeEnd - from;
+        radioUntil = Math.max(radioUntil, activeEnd);
+        dirty = true;
+    }
+
+    /**
+     * 날짜별/원인별 사용량 복사본 (날짜 오름차순)
+     */
+    @NonNull
+    public synchronized TreeMap<LocalDate, Map<RefreshTrigger, Usage>> days() {
+        TreeMap<LocalDate, Map<RefreshTrigger, Usage>> copy = new TreeMap<>();
+        for (Map.Entry<LocalDate, Map<RefreshTrigger, Usage>> day : days.entrySet()) {
+            Map<RefreshTrigger, Usage> triggers = new EnumMap<>(RefreshTrigger.class);
+            for (Map.Entry<RefreshTrigger, Usage> e : day.getValue().entrySet()) {
+                triggers.put(e.getKey(), e.getValue().copy());
+            }
+            copy.put(day.getKey(), triggers);
+        }
+        return copy;
+    }
+
+    /**
+     * 디버그 화면용 보고서 (최근 날짜부터, 날짜마다 합계 + 원인별 한 줄)
+     */
+    @NonNull
+    public String report() {
+        TreeMap<LocalDate, Map<RefreshTrigger, Usage>> snapshot = days();
+        if (snapshot.isEmpty()) return "기록 없음";
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<LocalDate, Map<RefreshTrigger, Usage>> day
+                : snapshot.descendingMap().entrySet()) {
+            Usage total = new Usage();
+            for (Usage u : day.getValue().values()) total.add(u);
+            if (sb.length() > 0) sb.append('\n');
+            sb.append(day.getKey()).append("  ").append(line(total)).append('\n');
+            for (Map.Entry<RefreshTrigger, Usage> e : day.getValue().entrySet()) {
+                sb.append(" · ").append(e.getKey().label).append("  ")
+                        .append(line(e.getValue())).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String line(Usage u) {
+        return String.format(Locale.ROOT, "%d회(깨움 %d) 작업 %s, 요청 %d, ↓%s ↑%s, 무선 %s",
+                u.runs, u.wakeups, duration(u.jobMillis), u.requests,
+                bytes(u.rxBytes), bytes(u.txBytes), duration(u.radioMillis));
+    }
+
+    private static String duration(long millis) {
+        if (millis < 60_000) return String.format(Locale.ROOT, "%.1f초", millis / 1000.0);
+        return String.format(Locale.ROOT, "%d분 %d초", millis / 60_000, millis / 1000 % 60);
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes < 1024) return bytes + "B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1fKB", bytes / 1024.0);
+        return String.format(Locale.ROOT, "%.1fMB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * epochMs 가 속한 날짜의 원인별 사용량 (새 날짜가 생기면 오래된 날짜 정리)
+     */
+    private Usage usage(long epochMs, RefreshTrigger trigger) {
+        LocalDate date = Instant.ofEpochMilli(epochMs).atZone(zone).toLocalDate();
+        Map<RefreshTrigger, Usage> day = days.get(date);
+        if (day == null) {
+            day = new EnumMap<>(RefreshTrigger.class);
+            days.put(date, day);
+            LocalDate cutoff = days.lastKey().minusDays(RETENTION_DAYS - 1);
+            days.headMap(cutoff).clear();
+        }
+        Usage usage = day.get(trigger);
+        if (usage == null) {
+            usage = new Usage();
+            day.put(trigger, usage);
+        }
+        return usage;
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * "날짜\t원인\t실행\t깨움\t작업ms\t요청\t수신\t송신\t무선ms" 한 줄에 하나 (호출 후 dirty 해제)
+     */
+    public synchronized String encodeState() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<LocalDate, Map<RefreshTrigger, Usage>> day : days.entrySet()) {
+            for (Map.Entry<RefreshTrigger, Usage> e : day.getValue().entrySet()) {
+                Usage u = e.getValue();
+                sb.append(day.getKey()).append('\t').append(e.getKey().name())
+                        .append('\t').append(u.runs).append('\t').append(u.wakeups)
+                        .append('\t').append(u.jobMillis).append('\t').append(u.requests)
+                        .append('\t').append(u.rxBytes).append('\t').append(u.txBytes)
+                        .append('\t').append(u.radioMillis).append('\n');
+            }
+        }
+        dirty = false;
+        return sb.toString();
+    }
+
+    private void decodeState(@Nullable String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String line : encoded.split("\n")) {
+            String[] f = line.split("\t");
+            if (f.length < 9) continue;
+            try {
+                Usage u = new Usage();
+                u.runs = Integer.parseInt(f[2]);
+                u.wakeups = Integer.parseInt(f[3]);
+                u.jobMillis = Long.parseLong(f[4]);
+                u.requests = Integer.parseInt(f[5]);
+                u.rxBytes = Long.parseLong(f[6]);
+                u.txBytes = Long.parseLong(f[7]);
+                u.radioMillis = Long.parseLong(f[8]);
+                days.computeIfAbsent(LocalDate.parse(f[0]),
+                        d -> new EnumMap<>(RefreshTrigger.class))
+                        .put(RefreshTrigger.valueOf(f[1]), u);
+            } catch (RuntimeException e) {
+                // 숫자/날짜/원인 이름이 잘못된 줄은 건너뜀
+                Log.w(TAG, "잘못된 에너지 기록: " + line);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.avad.openweatherapp.data.energy;
+
+import android.content.Context;
+import android.net.TrafficStats;
+import android.os.PowerManager;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.local.SettingsStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+/**
+ * EnergyTracker
+ * - EnergyLedger 에 현재 시각/화면 상태를 채워 기록하고 작업이 끝날 때 설정에 저장
+ * - OkHttp 요청은 TrafficInterceptor 가 onTransfer 로 전달,
+ *   Glide 아이콘 다운로드처럼 OkHttp 를 거치지 않는 전송은 uidBytes() 전후 차이로 기록
+ * - 저장된 기록은 백그라운드에서 복원 (SettingsStore 로드를 메인 스레드에서 기다리지 않도록)
+ *   · 복원 전에 들어온 기록은 호출 시각을 담아 두었다가 복원 직후 순서대로 반영
+ */
+public class EnergyTracker {
+
+    private final SettingsStore settings;
+    private final PowerManager power;
+    private final FutureTask<EnergyLedger> loader;
+
+    /** 복원 전에 들어온 기록 (pending 으로 동기화) */
+    private final List<Consumer<EnergyLedger>> pending = new ArrayList<>();
+    /** 복원된 기록 (복원 전이면 null, pending 으로 동기화) */
+    @Nullable
+    private EnergyLedger ledger;
+
+    public EnergyTracker(Context context, SettingsStore settings, Executor executor) {
+        this.settings = settings;
+        this.power = (PowerManager) context.getApplicationContext()
+                .getSystemService(Context.POWER_SERVICE);
+        this.loader = new FutureTask<>(this::load);
+        executor.execute(loader);
+    }
+
+    /**
+     * 작업 시작 (화면이 꺼져 있으면 이 작업이 기기를 깨운 것으로 셈)
+     */
+    @NonNull
+    public EnergyLedger.Session begin(RefreshTrigger trigger) {
+        boolean wakeup = power != null && !power.isInteractive();
+        EnergyLedger.Session session = new EnergyLedger.Session(trigger, System.currentTimeMillis());
+        apply(l -> l.begin(session, wakeup));
+        return session;
+    }
+
+    /**
+     * 작업 종료 후 바뀐 기록 저장 (저장은 SettingsStore 가 백그라운드에서 처리)
+     */
+    public void end(EnergyLedger.Session session) {
+        long now = System.currentTimeMillis();
+        apply(l -> {
+            l.end(session, now);
+            if (l.isDirty()) settings.setEnergyLedger(l.encodeState());
+        });
+    }
+
+    /**
+     * OkHttp 요청 하나 (TrafficInterceptor.Listener)
+     */
+    public void onTransfer(long startMs, long endMs, long rxBytes, long txBytes) {
+        apply(l -> l.recordTransfer(startMs, endMs, rxBytes, txBytes));
+    }
+
+    /**
+     * 앱(uid) 전체 누적 {수신, 송신} 바이트 (지원하지 않는 기기는 0)
+     */
+    @NonNull
+    public static long[] uidBytes() {
+        int uid = Process.myUid();
+        return new long[]{
+                Math.max(0, TrafficStats.getUidRxBytes(uid)),
+                Math.max(0, TrafficStats.getUidTxBytes(uid))};
+    }
+
+    /**
+     * uidBytes() 를 잰 시점부터 지금까지의 전송을 하나로 기록
+     */
+    public void recordSince(long startMs, long[] before) {
+        long[] after = uidBytes();
+        long now = System.currentTimeMillis();
+        onTransfer(startMs, now, after[0] - before[0], after[1] - before[1]);
+    }
+
+    /**
+     * 디버그 화면용 날짜별 보고서 (복원이 끝날 때까지 대기)
+     */
+    @NonNull
+    public String report() {
+        try {
+            return loader.get().report();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("에너지 기록 복원 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("에너지 기록 복원 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 저장된 기록 복원 후 그동안 쌓인 기록 반영 (백그라운드 스레드)
+     */
+    private EnergyLedger load() {
+        EnergyLedger loaded = new EnergyLedger(settings.getEnergyLedger());
+        synchronized (pending) {
+            for (Consumer<EnergyLedger> op : pending) op.accept(loaded);
+            pending.clear();
+            ledger = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * 복원이 끝났으면 바로 반영, 아니면 복원 직후 반영하도록 보관
+     */
+    private void apply(Consumer<EnergyLedger> op) {
+        EnergyLedger loaded;
+        synchronized (pending) {
+            if (ledger == null) {
+                pending.add(op);
+                return;
+            }
+            loaded = ledger;
+        }
+        op.accept(loaded);
+    }
+}
@@ -0,0 +1,25 @@
+package com.avad.openweatherapp.data.energy;
+
+/**
+ * RefreshTrigger
+ * - 새로고침(네트워크 사용)을 일으킨 원인, 에너지 기록을 이 단위로 나눠 집계
+ */
+public enum RefreshTrigger {
+    /** 1시간 반복 알람 (RTC_WAKEUP) */
+    ALARM("알람"),
+    /** 런처의 위젯 갱신(onUpdate), 위젯 위치 전환, 설정 변경 */
+    WIDGET_UPDATE("위젯 갱신"),
+    /** 위젯 새로고침 버튼 */
+    REFRESH_TAP("새로고침 탭"),
+    /** 앱 실행 (화면 회전 등 재생성은 제외) */
+    ACTIVITY_LAUNCH("앱 실행"),
+    /** 진행 중인 작업이 없을 때 발생한 전송 (화면 회전, 도시 검색 등) */
+    OTHER("기타");
+
+    /** 보고서 표시 이름 */
+    public final String label;
+
+    RefreshTrigger(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,248 @@
+package com.avad.openweatherapp.data.format;
+
+import androidx.annotation.NonNull;
+
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WeatherFormatter
+ * - 화면/위젯 바인딩에서 쓰는 문자열을 한 곳에서 만들고 재사용하는 포맷 서비스
+ *   · 날짜 라벨: 날짜(yyyy-MM-dd)당 한 번만 java.time 으로 포맷해 DateLabels 로 보관
+ *   · 요일: 언어별 고정 테이블의 같은 문자열 인스턴스
+ *   · 기온: 표시 단위 값 -80 ~ 140 범위를 스타일/단위별 테이블로 지연 생성
+ *   · 습도(0~100%), 시각("HH:00") 테이블
+ *   · 아이콘 URL: 아이콘 코드당 한 번만 만든 같은 인스턴스
+ * - DateTimeFormatter 는 불변이라 공유, 테이블 칸은 한 번 쓰면 바뀌지 않는 문자열이라
+ *   동시에 채워져도 같은 값 → 여러 스레드(메인, 위젯 binder)에서 락 없이 사용
+ */
+public final class WeatherFormatter {
+
+    /**
+     * 기온 문자열 스타일
+     */
+    public enum Style {
+        /** "21°C" */
+        ROUNDED("", 0),
+        /** "21.3°C" */
+        ONE_DECIMAL("", 1),
+        /** "최고 21.3°C" */
+        HIGH("최고 ", 1),
+        /** "최저 21.3°C" */
+        LOW("최저 ", 1),
+        /** "체감: 21.3°C" */
+        FEELS_LIKE("체감: ", 1);
+
+        final String prefix;
+        final int decimals;
+
+        Style(String prefix, int decimals) {
+            this.prefix = prefix;
+            this.decimals = decimals;
+        }
+    }
+
+    /**
+     * 날짜 하나의 라벨 묶음 (불변)
+     */
+    public static final class DateLabels {
+        /** "05.21" */
+        public final String shortDate;
+        /** "05월 21일(수)" */
+        public final String monthDayWithWeekday;
+        /** 0 = 월 … 6 = 일 */
+        final int weekday;
+
+        DateLabels(String shortDate, String monthDayWithWeekday, int weekday) {
+            this.shortDate = shortDate;
+            this.monthDayWithWeekday = monthDayWithWeekday;
+            this.weekday = weekday;
+        }
+
+        /** 요일 한 글자/약어 (테이블의 같은 인스턴스) */
+        public String weekday(DisplayLanguage language) {
+            return WEEKDAYS[language.ordinal()][weekday];
+        }
+    }
+
+    /** 테이블로 보관하는 표시 단위 값 범위 (섭씨/화씨 모두 포함) */
+    static final int MIN_VALUE = -80;
+    static final int MAX_VALUE = 140;
+
+    /** [DisplayLanguage.ordinal()][월..일] */
+    private static final String[][] WEEKDAYS = {
+            {"월", "화", "수", "목", "금", "토", "일"},
+            {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"},
+    };
+
+    /** 날짜 라벨 캐시 상한 (예보는 6일치뿐이라 넘으면 비우고 다시 채움) */
+    private static final int MAX_DATES = 64;
+
+    /** 아이콘 URL 캐시 상한 (아이콘 코드는 18종뿐이라 넘으면 비우고 다시 채움) */
+    private static final int MAX_ICONS = 64;
+
+    private static final DateLabels INVALID_DATE = new DateLabels("", "날짜 오류", 0);
+
+    private static final WeatherFormatter INSTANCE = new WeatherFormatter();
+
+    private final DateTimeFormatter shortDateFormat =
+            DateTimeFormatter.ofPattern("MM.dd", Locale.KOREA);
+    private final DateTimeFormatter monthDayFormat =
+            DateTimeFormatter.ofPattern("MM월 dd일", Locale.KOREA);
+
+    /** 날짜(yyyy-MM-dd) → 라벨 */
+    private final Map<String, DateLabels> dates = new ConcurrentHashMap<>();
+
+    /** 아이콘 코드("01d") → URL */
+    private final Map<String, String> iconUrls = new ConcurrentHashMap<>();
+
+    /** [Style.ordinal()][TemperatureUnit.ordinal()][값 * 10^decimals - 최소값] */
+    private final String[][][] temperatures =
+            new String[Style.values().length][TemperatureUnit.values().length][];
+
+    private final String[] humidity = new String[101];
+    private final String[] hours = new String[24];
+
+    private WeatherFormatter() {
+        for (Style style : Style.values()) {
+            int scale = style.decimals == 0 ? 1 : 10;
+            for (TemperatureUnit unit : TemperatureUnit.values()) {
+                temperatures[style.ordinal()][unit.ordinal()] =
+                        new String[(MAX_VALUE - MIN_VALUE) * scale + 1];
+            }
+        }
+        for (int h = 0; h < hours.length; h++) {
+            hours[h] = (h < 10 ? "0" : "") + h + ":00";
+        }
+    }
+
+    public static WeatherFormatter getInstance() {
+        return INSTANCE;
+    }
+
+    // ---- 날짜 ----
+
+    /**
+     * 날짜 라벨 조회 (처음 보는 날짜만 포맷)
+     * @param date "yyyy-MM-dd" 또는 "yyyy-MM-dd HH:mm:ss" (앞 10자만 사용)
+     */
+    @NonNull
+    public DateLabels dateLabels(String date) {
+        DateLabels labels = dates.get(date);
+        if (labels != null) return labels;
+
+        labels = formatDate(date);
+        if (dates.size() >= MAX_DATES) dates.clear();
+        dates.put(date, labels);
+        return labels;
+    }
+
+    private DateLabels formatDate(String date) {
+        if (date == null || date.length() < 10) return INVALID_DATE;
+        try {
+            LocalDate d = LocalDate.parse(date.substring(0, 10));
+            int weekday = d.getDayOfWeek().getValue() - 1;
+            return new DateLabels(
+                    shortDateFormat.format(d),
+                    monthDayFormat.format(d) + "(" + WEEKDAYS[0][weekday] + ")",
+                    weekday);
+        } catch (DateTimeParseException e) {
+            return INVALID_DATE;
+        }
+    }
+
+    // ---- 기온 ----
+
+    /**
+     * 섭씨 값을 표시 단위 문자열로
+     * - 범위 안의 값은 테이블에서 꺼내 재사용 (처음 한 번만 생성)
+     */
+    @NonNull
+    public String temperature(double celsius, TemperatureUnit unit, Style style) {
+        double value = unit.fromCelsius(celsius);
+        int scale = style.decimals == 0 ? 1 : 10;
+        long scaled = Math.round(value * scale);
+        String[] table = temperatures[style.ordinal()][unit.ordinal()];
+        long index = scaled - (long) MIN_VALUE * scale;
+        if (index < 0 || index >= table.length) {
+            return build(style, unit, scaled, scale);
+        }
+        String text = table[(int) index];
+        if (text == null) {
+            text = build(style, unit, scaled, scale);
+            table[(int) index] = text;
+        }
+        return text;
+    }
+
+    private static String build(Style style, TemperatureUnit unit, long scaled, int scale) {
+        StringBuilder sb = new StringBuilder(style.prefix.length() + 8).append(style.prefix);
+        if (scaled < 0) sb.append('-');
+        long abs = Math.abs(scaled);
+        sb.append(abs / scale);
+        if (scale > 1) sb.append('.').append(abs % scale);
+        return sb.append(unit.symbol).toString();
+    }
+
+    // ---- 기타 ----
+
+    /**
+     * "습도: 65%" (0~100 밖은 경계값으로 맞춤)
+     */
+    @NonNull
+    public String humidity(long percent) {
+        int p = (int) Math.max(0, Math.min(100, percent));
+        String text = humidity[p];
+        if (text == null) {
+            text = "습도: " + p + "%";
+            humidity[p] = text;
+        }
+        return text;
+    }
+
+    /** 대기질 지수(1~5) 문구 */
+    private static final String[] AIR_LEVELS = {"좋음", "보통", "약간 나쁨", "나쁨", "매우 나쁨"};
+
+    /**
+     * "대기질: 보통 (PM2.5 18)" (지수가 없으면 "대기질: -")
+     */
+    @NonNull
+    public String airQuality(int aqi, float pm25) {
+        if (aqi < 1 || aqi > AIR_LEVELS.length) return "대기질: -";
+        return "대기질: " + AIR_LEVELS[aqi - 1] + " (PM2.5 " + Math.round(pm25) + ")";
+    }
+
+    /**
+     * OpenWeatherMap 아이콘 URL (처음 보는 코드만 문자열 생성)
+     */
+    @NonNull
+    public String iconUrl(String iconCode) {
+        if (iconCode == null) return buildIconUrl(null);
+        String url = iconUrls.get(iconCode);
+        if (url == null) {
+            url = buildIconUrl(iconCode);
+            if (iconUrls.size() >= MAX_ICONS) iconUrls.clear();
+            iconUrls.put(iconCode, url);
+        }
+        return url;
+    }
+
+    private static String buildIconUrl(String iconCode) {
+        return "https://openweathermap.org/img/wn/" + iconCode + "@2x.png";
+    }
+
+    /**
+     * "HH:00"
+     */
+    @NonNull
+    public String hour(int hourOfDay) {
+        return hours[Math.floorMod(hourOfDay, 24)];
+    }
+}
@@ -0,0 +1,52 @@
+package com.avad.openweatherapp.data.history;
+
+import java.util.Arrays;
+
+/**
+ * ArchivedForecast
+ * - ForecastArchive 에서 복원한 예보 한 번분 (불변, 기본형 배열만 보관)
+ *   · slotEpochs   : 예보 시각 (epoch seconds, 시간순)
+ *   · temperatures : 기온 (°C, 0.1 단위로 양자화된 값)
+ *   · conditionIds : 날씨 상태 코드 (없으면 0)
+ */
+public final class ArchivedForecast {
+
+    /** 수신 시각 (epoch ms, 초 단위로 저장되므로 ms 부분은 0) */
+    public final long fetchedAt;
+
+    private final long[] slotEpochs;
+    private final float[] temperatures;
+    private final int[] conditionIds;
+
+    ArchivedForecast(long fetchedAt, long[] slotEpochs, float[] temperatures, int[] conditionIds) {
+        this.fetchedAt = fetchedAt;
+        this.slotEpochs = slotEpochs;
+        this.temperatures = temperatures;
+        this.conditionIds = conditionIds;
+    }
+
+    public int size() {
+        return slotEpochs.length;
+    }
+
+    public long slotEpochAt(int index) {
+        return slotEpochs[index];
+    }
+
+    public float temperatureAt(int index) {
+        return temperatures[index];
+    }
+
+    public int conditionIdAt(int index) {
+        return conditionIds[index];
+    }
+
+    /**
+     * 예보 시각의 slot 위치 (이진 탐색)
+     * @return 해당 시각의 slot 이 없으면 -1
+     */
+    public int indexOfSlot(long epochSeconds) {
+        int i = Arrays.binarySearch(slotEpochs, epochSeconds);
+        return i >= 0 ? i : -1;
+    }
+}
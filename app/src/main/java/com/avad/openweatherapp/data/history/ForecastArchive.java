@@ -0,0 +1,443 @@
+package com.avad.openweatherapp.data.history;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ForecastArchive
+ * - 받은 예보를 위치(cell) key 별로 모두 기록하는 이력 저장소
+ *   (filesDir/forecast_history/<key>.bin, 덮어쓰지 않고 이어 붙임)
+ * - 레코드 하나 = 예보 한 번, 압축 형식으로 저장 (JSON 대비 약 1/50)
+ *   · [int 길이] 뒤에 본문
+ *   · 본문: 수신 시각(초) | slot 수 | 첫 slot 시각(수신 시각 기준 차이) | 이후 slot 시각 차이
+ *          | 상태 코드 사전 | slot 별 사전 인덱스 | 0.1°C 로 양자화한 기온의 이전 slot 대비 차이
+ *   · 정수는 모두 zigzag varint (3시간 간격 = 2바이트, 기온 변화 = 보통 1바이트)
+ * - key 별로 (수신 시각, 파일 위치) 인덱스를 메모리에 두고 범위 조회는 이진 탐색 후
+ *   해당 레코드만 읽음
+ * - 보관 기간(retention)이 지난 레코드는 하루 정도 모였을 때 한 번에 잘라냄(compaction)
+ * - 모든 메서드는 워커 스레드에서 호출 (기록/compaction 은 WeatherRepository 의 archive 스레드)
+ */
+public class ForecastArchive {
+
+    private static final String TAG = "ForecastArchive";
+    private static final String DIR_NAME = "forecast_history";
+    private static final String SUFFIX = ".bin";
+
+    /** 기본 보관 기간: 14일 */
+    public static final long DEFAULT_RETENTION_MS = 14L * 24 * 60 * 60 * 1000;
+
+    /** 보관 기간을 이만큼 넘긴 레코드가 생겨야 compaction (매번 파일을 다시 쓰지 않도록) */
+    private static final long COMPACT_SLACK_MS = 24L * 60 * 60 * 1000;
+
+    /** 기온 양자화 단위 (0.1°C) */
+    private static final float TEMP_SCALE = 10f;
+
+    /**
+     * 예보 시각 하나에 대한 예보값의 변화 (언제 받은 예보가 몇 도였는지)
+     */
+    public static final class Revision {
+        public final long fetchedAt;
+        public final float temperature;
+        public final int conditionId;
+
+        Revision(long fetchedAt, float temperature, int conditionId) {
+            this.fetchedAt = fetchedAt;
+            this.temperature = temperature;
+            this.conditionId = conditionId;
+        }
+    }
+
+    /**
+     * key 하나의 레코드 인덱스 (수신 시각 오름차순)
+     */
+    private static final class Index {
+        long[] fetchedAt = new long[16];
+        long[] offsets = new long[16];
+        int count;
+        /** 마지막 정상 레코드의 끝 (= 다음 레코드를 쓸 위치) */
+        long end;
+
+        void add(long time, long offset) {
+            if (count == fetchedAt.length) {
+                fetchedAt = Arrays.copyOf(fetchedAt, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            fetchedAt[count] = time;
+            offsets[count] = offset;
+            count++;
+        }
+
+        /** time 이상인 첫 레코드 위치 */
+        int lowerBound(long time) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (fetchedAt[mid] < time) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /** time 초과인 첫 레코드 위치 */
+        int upperBound(long time) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (fetchedAt[mid] <= time) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    private final File dir;
+    private final long retentionMs;
+    private final Map<String, Index> indexes = new HashMap<>();
+
+    public ForecastArchive(Context context) {
+        this(new File(context.getApplicationContext().getFilesDir(), DIR_NAME), DEFAULT_RETENTION_MS);
+    }
+
+    public ForecastArchive(File dir, long retentionMs) {
+        this.dir = dir;
+        this.retentionMs = retentionMs;
+    }
+
+    // ---- 쓰기 ----
+
+    /**
+     * 받은 예보 한 번을 기록
+     * - 같은 key 의 마지막 기록보다 이전 시각이면 무시 (인덱스 정렬 유지)
+     * @param fetchedAt 수신 시각 (epoch ms)
+     */
+    @WorkerThread
+    public synchronized void append(String key, ForecastResponse response, long fetchedAt) {
+        if (response == null || response.list == null || response.list.isEmpty()) return;
+        Index index = index(key);
+        long seconds = fetchedAt / 1000;
+        if (index.count > 0 && seconds * 1000 < index.fetchedAt[index.count - 1]) return;
+
+        byte[] payload = encode(response.list, seconds);
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.e(TAG, "디렉터리 생성 실패: " + dir);
+            return;
+        }
+        try (RandomAccessFile out = new RandomAccessFile(file(key), "rw")) {
+            // 끝에 잘린 레코드가 있었다면 그 위치부터 덮어씀
+            out.setLength(index.end);
+            out.seek(index.end);
+            out.writeInt(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            Log.e(TAG, "기록 실패: " + key, e);
+            return;
+        }
+        index.add(seconds * 1000, index.end);
+        index.end += 4 + payload.length;
+
+        compactIfNeeded(key, index, fetchedAt);
+    }
+
+    // ---- 조회 ----
+
+    /**
+     * 수신 시각이 [fromMs, toMs] 인 기록 (시간순)
+     */
+    @WorkerThread
+    @NonNull
+    public synchronized List<ArchivedForecast> query(String key, long fromMs, long toMs) {
+        Index index = index(key);
+        int start = index.lowerBound(fromMs);
+        int stop = index.upperBound(toMs);
+        if (start >= stop) return Collections.emptyList();
+
+        List<ArchivedForecast> result = new ArrayList<>(stop - start);
+        try (RandomAccessFile in = new RandomAccessFile(file(key), "r")) {
+            for (int i = start; i < stop; i++) {
+                in.seek(index.offsets[i]);
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                result.add(decode(payload));
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "조회 실패: " + key, e);
+        }
+        return result;
+    }
+
+    /**
+     * 예보 시각 하나에 대해, 그 시각을 포함한 기록들의 예보값 변화
+     * - "며칠 전 예보 vs 나중 예보" 차트용 (수신 시각 순)
+     * @param slotEpochSeconds 예보 시각 (epoch seconds)
+     */
+    @WorkerThread
+    @NonNull
+    public synchronized List<Revision> revisions(String key, long slotEpochSeconds,
+                                                 long fromMs, long toMs) {
+        List<Revision> result = new ArrayList<>();
+        for (ArchivedForecast forecast : query(key, fromMs, toMs)) {
+            int i = forecast.indexOfSlot(slotEpochSeconds);
+            if (i < 0) continue;
+            result.add(new Revision(forecast.fetchedAt,
+                    forecast.temperatureAt(i), forecast.conditionIdAt(i)));
+        }
+        return result;
+    }
+
+    /** 기록 수 */
+    @WorkerThread
+    public synchronized int count(String key) {
+        return index(key).count;
+    }
+
+    /** 파일 크기 (bytes) */
+    @WorkerThread
+    public synchronized long sizeBytes(String key) {
+        return index(key).end;
+    }
+
+    // ---- compaction ----
+
+    /**
+     * 보관 기간이 지난 레코드 제거
+     * - 남길 레코드의 바이트를 그대로 새 파일에 복사 후 rename (다시 인코딩하지 않음)
+     * @return 제거한 레코드 수
+     */
+    @WorkerThread
+    public synchronized int compact(String key, long nowMs) {
+        Index index = index(key);
+        int drop = index.lowerBound(nowMs - retentionMs);
+        if (drop == 0) return 0;
+
+        File source = file(key);
+        if (drop == index.count) {
+            if (!source.delete()) Log.w(TAG, "삭제 실패: " + source);
+            indexes.put(key, new Index());
+            return drop;
+        }
+
+        long from = index.offsets[drop];
+        File tmp = new File(dir, key + SUFFIX + ".tmp");
+        try (RandomAccessFile in = new RandomAccessFile(source, "r");
+             FileOutputStream out = new FileOutputStream(tmp)) {
+            in.seek(from);
+            byte[] buffer = new byte[8 * 1024];
+            long remaining = index.end - from;
+            while (remaining > 0) {
+                int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (n < 0) break;
+                out.write(buffer, 0, n);
+                remaining -= n;
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "compaction 실패: " + key, e);
+            return 0;
+        }
+        if (!tmp.renameTo(source)) {
+            Log.e(TAG, "compaction rename 실패: " + key);
+            return 0;
+        }
+
+        Index next = new Index();
+        for (int i = drop; i < index.count; i++) {
+            next.add(index.fetchedAt[i], index.offsets[i] - from);
+        }
+        next.end = index.end - from;
+        indexes.put(key, next);
+        return drop;
+    }
+
+    private void compactIfNeeded(String key, Index index, long nowMs) {
+        if (index.count > 0 && index.fetchedAt[0] < nowMs - retentionMs - COMPACT_SLACK_MS) {
+            int dropped = compact(key, nowMs);
+            Log.d(TAG, key + ": " + dropped + " records compacted");
+        }
+    }
+
+    // ---- 인덱스 ----
+
+    private File file(String key) {
+        return new File(dir, key + SUFFIX);
+    }
+
+    /**
+     * key 의 인덱스 (처음 한 번 파일을 훑어 수신 시각/위치만 읽음)
+     * - 쓰기 도중 종료되어 끝이 잘린 레코드는 무시 (다음 append 가 덮어씀)
+     */
+    private Index index(String key) {
+        Index index = indexes.get(key);
+        if (index != null) return index;
+
+        index = new Index();
+        File f = file(key);
+        if (f.exists()) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(f)))) {
+                long offset = 0;
+                while (true) {
+                    int length;
+                    try {
+                        length = in.readInt();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    index.add(new Reader(payload).readVarLong() * 1000, offset);
+                    offset += 4 + length;
+                    index.end = offset;
+                }
+            } catch (EOFException e) {
+                Log.w(TAG, key + ": 잘린 레코드 무시 (" + index.end + " bytes 유지)");
+            } catch (IOException e) {
+                Log.e(TAG, "인덱스 읽기 실패: " + key, e);
+            }
+        }
+        indexes.put(key, index);
+        return index;
+    }
+
+    // ---- 인코딩 ----
+
+    static byte[] encode(List<ForecastResponse.ForecastItem> items, long fetchedAtSeconds) {
+        List<ForecastResponse.ForecastItem> sorted = new ArrayList<>(items);
+        sorted.sort((a, b) -> Long.compare(ForecastMerger.slotKey(a), ForecastMerger.slotKey(b)));
+        int n = sorted.size();
+
+        // 상태 코드 사전 (등장 순서)
+        int[] dictionary = new int[n];
+        int dictSize = 0;
+        int[] codes = new int[n];
+        for (int i = 0; i < n; i++) {
+            int id = conditionId(sorted.get(i));
+            int code = -1;
+            for (int d = 0; d < dictSize; d++) {
+                if (dictionary[d] == id) {
+                    code = d;
+                    break;
+                }
+            }
+            if (code < 0) {
+                code = dictSize;
+                dictionary[dictSize++] = id;
+            }
+            codes[i] = code;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + n * 5);
+        writeVarLong(out, fetchedAtSeconds);
+        writeVarLong(out, n);
+
+        long prevEpoch = fetchedAtSeconds;
+        for (ForecastResponse.ForecastItem item : sorted) {
+            long epoch = ForecastMerger.slotKey(item);
+            writeVarLong(out, zigzag(epoch - prevEpoch));
+            prevEpoch = epoch;
+        }
+
+        writeVarLong(out, dictSize);
+        for (int d = 0; d < dictSize; d++) writeVarLong(out, dictionary[d]);
+        for (int code : codes) writeVarLong(out, code);
+
+        long prevTemp = 0;
+        for (ForecastResponse.ForecastItem item : sorted) {
+            long temp = item.main != null ? Math.round(item.main.temp * TEMP_SCALE) : 0;
+            writeVarLong(out, zigzag(temp - prevTemp));
+            prevTemp = temp;
+        }
+        return out.toByteArray();
+    }
+
+    static ArchivedForecast decode(byte[] payload) {
+        Reader in = new Reader(payload);
+        long fetchedAtSeconds = in.readVarLong();
+        int n = (int) in.readVarLong();
+
+        long[] epochs = new long[n];
+        long prevEpoch = fetchedAtSeconds;
+        for (int i = 0; i < n; i++) {
+            prevEpoch += unzigzag(in.readVarLong());
+            epochs[i] = prevEpoch;
+        }
+
+        int[] dictionary = new int[(int) in.readVarLong()];
+        for (int d = 0; d < dictionary.length; d++) dictionary[d] = (int) in.readVarLong();
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = dictionary[(int) in.readVarLong()];
+
+        float[] temps = new float[n];
+        long prevTemp = 0;
+        for (int i = 0; i < n; i++) {
+            prevTemp += unzigzag(in.readVarLong());
+            temps[i] = prevTemp / TEMP_SCALE;
+        }
+        return new ArchivedForecast(fetchedAtSeconds * 1000, epochs, temps, ids);
+    }
+
+    private static int conditionId(ForecastResponse.ForecastItem item) {
+        return item.weather == null || item.weather.isEmpty() ? 0 : item.weather.get(0).id;
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    /**
+     * 본문 바이트 배열 순차 읽기
+     */
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        long readVarLong() {
+            long v = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buf[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+                shift += 7;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.avad.openweatherapp.data.local;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.avad.openweatherapp.data.merge.ForecastDiff;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ForecastDiskCache
+ * - 마지막으로 받은 예보를 slot(예보 시각) 단위 파일로 보관
+ *   (filesDir/forecast_slots/<epochSeconds>.json)
+ * - 새로고침 시 ForecastDiff 의 added/updated slot 만 쓰고 expired slot 만 삭제
+ * - 네트워크 마감 시간 초과 시 프로세스가 새로 시작된 뒤에도 대체 데이터로 사용
+ * - 각 파일은 임시 파일에 쓴 뒤 rename 하여 쓰기 도중 종료되어도 이전 파일 유지
+ */
+public class ForecastDiskCache {
+
+    private static final String TAG = "ForecastDiskCache";
+    private static final String DIR_NAME = "forecast_slots";
+    /** 저장 위치별 하위 디렉터리 접두어 (forecast_slots/loc_<cellKey>) */
+    private static final String LOCATION_PREFIX = "loc_";
+    private static final String SUFFIX = ".json";
+
+    /** 마지막 수신 시각 기록용 (내용 없음, lastModified 만 사용) */
+    private static final String STAMP_NAME = "fetched_at";
+
+    /**
+     * 저장된 예보와 수신 시각
+     */
+    public static class Entry {
+        public final ForecastResponse response;
+        public final long fetchedAt;
+
+        public Entry(ForecastResponse response, long fetchedAt) {
+            this.response = response;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    private final File dir;
+    private final Gson gson;
+
+    public ForecastDiskCache(Context context, Gson gson) {
+        this(new File(context.getApplicationContext().getFilesDir(), DIR_NAME), gson);
+    }
+
+    private ForecastDiskCache(File dir, Gson gson) {
+        this.dir = dir;
+        this.gson = gson;
+    }
+
+    /**
+     * 저장된 위치(cell) 전용 캐시
+     * - 기본 캐시 디렉터리 아래 별도 디렉터리를 사용 (slot 파일이 섞이지 않음)
+     */
+    public ForecastDiskCache forLocation(String cellKey) {
+        return new ForecastDiskCache(new File(dir, LOCATION_PREFIX + cellKey), gson);
+    }
+
+    /**
+     * 변경된 slot 만 디스크에 반영
+     * @return 실제로 쓰거나 삭제한 파일 수
+     */
+    @WorkerThread
+    public synchronized int apply(ForecastDiff diff, long fetchedAt) {
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.e(TAG, "디렉터리 생성 실패: " + dir);
+            return 0;
+        }
+        int touched = 0;
+        for (ForecastResponse.ForecastItem item : diff.added) {
+            if (writeSlot(item)) touched++;
+        }
+        for (ForecastResponse.ForecastItem item : diff.updated) {
+            if (writeSlot(item)) touched++;
+        }
+        for (ForecastResponse.ForecastItem item : diff.expired) {
+            if (slotFile(item).delete()) touched++;
+        }
+        stamp(fetchedAt);
+        return touched;
+    }
+
+    /**
+     * 저장된 slot 을 시각 순으로 읽어 ForecastResponse 로 구성
+     */
+    @WorkerThread
+    @Nullable
+    public synchronized Entry load() {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SUFFIX));
+        if (files == null || files.length == 0) return null;
+
+        List<ForecastResponse.ForecastItem> items = new ArrayList<>(files.length);
+        for (File f : files) {
+            try (Reader in = new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8)) {
+                ForecastResponse.ForecastItem item = gson.fromJson(in, ForecastResponse.ForecastItem.class);
+                if (item != null) items.add(item);
+            } catch (Exception e) {
+                Log.e(TAG, "slot 읽기 실패: " + f.getName(), e);
+            }
+        }
+        if (items.isEmpty()) return null;
+        items.sort((a, b) -> Long.compare(ForecastMerger.slotKey(a), ForecastMerger.slotKey(b)));
+
+        ForecastResponse response = new ForecastResponse();
+        response.list = items;
+        File stamp = new File(dir, STAMP_NAME);
+        return new Entry(response, stamp.exists() ? stamp.lastModified() : 0);
+    }
+
+    private boolean writeSlot(ForecastResponse.ForecastItem item) {
+        File target = slotFile(item);
+        File tmp = new File(dir, target.getName() + ".tmp");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(tmp), StandardCharsets.UTF_8)) {
+            gson.toJson(item, out);
+        } catch (IOException e) {
+            Log.e(TAG, "slot 저장 실패: " + target.getName(), e);
+            return false;
+        }
+        return tmp.renameTo(target);
+    }
+
+    private void stamp(long fetchedAt) {
+        File stamp = new File(dir, STAMP_NAME);
+        try {
+            if (!stamp.exists() && !stamp.createNewFile()) return;
+            if (!stamp.setLastModified(fetchedAt)) Log.w(TAG, "수신 시각 기록 실패");
+        } catch (IOException e) {
+            Log.w(TAG, "수신 시각 기록 실패", e);
+        }
+    }
+
+    private File slotFile(ForecastResponse.ForecastItem item) {
+        return new File(dir, ForecastMerger.slotKey(item) + SUFFIX);
+    }
+}
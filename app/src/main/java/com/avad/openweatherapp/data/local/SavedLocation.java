@@ -0,0 +1,45 @@
+package com.avad.openweatherapp.data.local;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * SavedLocation
+ * - 사용자가 저장한 위치 (이름 + 좌표)
+ * - 가까운 위치는 같은 cell 로 묶어 한 번만 조회 (예보 격자보다 촘촘할 필요 없음)
+ */
+public class SavedLocation {
+
+    /** cell 크기 (0.1° ≈ 11km) */
+    private static final double CELL_DEGREES = 0.1;
+
+    public final String name;
+    public final double lat;
+    public final double lon;
+
+    public SavedLocation(String name, double lat, double lon) {
+        this.name = name;
+        this.lat = lat;
+        this.lon = lon;
+    }
+
+    public String cellKey() {
+        return cellKey(lat, lon);
+    }
+
+    /**
+     * 좌표가 속한 cell 식별자 (디렉터리 이름으로도 사용)
+     */
+    public static String cellKey(double lat, double lon) {
+        long row = Math.round(lat / CELL_DEGREES);
+        long col = Math.round(lon / CELL_DEGREES);
+        return String.format(Locale.ROOT, "%d_%d", row, col);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return name + " (" + lat + ", " + lon + ")";
+    }
+}
@@ -0,0 +1,393 @@
+package com.avad.openweatherapp.data.local;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.alert.AlertRule;
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * SettingsStore
+ * - 위젯 인스턴스별 상태, 위도/경도, 위치 라벨, 저장된 위치 목록, 표시 단위/언어,
+ *   알림 규칙 같은 작은 설정값 저장소
+ * - 디스크("settings" 파일) 로드는 백그라운드 Executor 에서 한 번만 수행하고
+ *   이후 읽기는 모두 메모리에서 처리
+ * - 쓰기는 메모리에 즉시 반영 후, 디스크 저장은 Executor 에서 순서대로 비동기 처리
+ * - 최초 로드 시 기존 "prefs" 파일의 값을 옮겨오고 그쪽 키는 삭제
+ */
+public class SettingsStore {
+
+    private static final String TAG = "SettingsStore";
+
+    private static final String FILE_NAME = "settings";
+    private static final String LEGACY_FILE_NAME = "prefs";
+
+    private static final String KEY_MIGRATED = "migrated";
+    private static final String KEY_FORECAST_INDEX = "forecast_index";
+    private static final String KEY_LAT = "lat";
+    private static final String KEY_LON = "lon";
+    private static final String KEY_LOCATION_TIME = "location_time";
+    private static final String KEY_LOCATION = "location";
+    private static final String KEY_SAVED_LOCATIONS = "saved_locations";
+    private static final String KEY_WIDGETS = "widgets";
+    private static final String KEY_TEMPERATURE_UNIT = "temperature_unit";
+    private static final String KEY_LANGUAGE = "language";
+    private static final String KEY_ALERT_RULES = "alert_rules";
+    private static final String KEY_ALERT_STATE = "alert_state";
+    private static final String KEY_ENERGY_LEDGER = "energy_ledger";
+
+    /**
+     * 메모리에 보관하는 설정값
+     */
+    private static class Values {
+        volatile boolean hasLocation;
+        volatile double lat;
+        volatile double lon;
+        volatile long locationTime;
+        volatile String locationLabel;
+        volatile List<SavedLocation> savedLocations;
+        volatile DisplayOptions displayOptions;
+        volatile List<AlertRule> alertRules;
+        volatile String alertState;
+        volatile String energyLedger;
+        final Map<Integer, WidgetState> widgetStates = new ConcurrentHashMap<>();
+    }
+
+    private final Context context;
+    private final Executor executor;
+    private final FutureTask<Values> loader;
+
+    public SettingsStore(Context context, Executor executor) {
+        this.context = context.getApplicationContext();
+        this.executor = executor;
+        this.loader = new FutureTask<>(this::load);
+        // 생성 즉시 백그라운드에서 미리 로드
+        executor.execute(loader);
+    }
+
+    // ---- widget state (appWidgetId 별) ----
+
+    /**
+     * 위젯 인스턴스 상태 (저장된 적 없으면 WidgetState.DEFAULT)
+     */
+    public WidgetState getWidgetState(int appWidgetId) {
+        WidgetState state = values().widgetStates.get(appWidgetId);
+        return state != null ? state : WidgetState.DEFAULT;
+    }
+
+    public synchronized void setWidgetState(int appWidgetId, WidgetState state) {
+        values().widgetStates.put(appWidgetId, state);
+        saveWidgetStates();
+    }
+
+    /**
+     * 제거된 위젯 인스턴스의 상태 삭제
+     */
+    public synchronized void removeWidgetStates(int[] appWidgetIds) {
+        Map<Integer, WidgetState> states = values().widgetStates;
+        for (int id : appWidgetIds) states.remove(id);
+        saveWidgetStates();
+    }
+
+    private void saveWidgetStates() {
+        String encoded = encodeWidgetStates(values().widgetStates);
+        persist(editor -> editor.putString(KEY_WIDGETS, encoded));
+    }
+
+    /**
+     * "appWidgetId\tcellKey(현재 위치면 빈 값)" 한 줄에 한 인스턴스
+     */
+    static String encodeWidgetStates(Map<Integer, WidgetState> states) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Integer, WidgetState> e : states.entrySet()) {
+            WidgetState s = e.getValue();
+            sb.append(e.getKey()).append('\t')
+                    .append(s.locationKey != null ? s.locationKey : "").append('\n');
+        }
+        return sb.toString();
+    }
+
+    static void decodeWidgetStates(@Nullable String encoded, Map<Integer, WidgetState> out) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String line : encoded.split("\n")) {
+            // 날짜 인덱스가 있던 이전 형식(id\t날짜\tcellKey)은 마지막 값만 사용
+            String[] f = line.split("\t", -1);
+            if (f.length < 2) continue;
+            String key = f[f.length - 1];
+            try {
+                out.put(Integer.parseInt(f[0]), new WidgetState(key.isEmpty() ? null : key));
+            } catch (NumberFormatException e) {
+                Log.w(TAG, "잘못된 위젯 상태: " + line);
+            }
+        }
+    }
+
+    // ---- lat / lon ----
+
+    public boolean hasLocation() {
+        return values().hasLocation;
+    }
+
+    public double getLat() {
+        return values().lat;
+    }
+
+    public double getLon() {
+        return values().lon;
+    }
+
+    /** 좌표 측정 시각 (epoch ms, 알 수 없으면 0) */
+    public long getLocationTime() {
+        return values().locationTime;
+    }
+
+    public void setLocation(double lat, double lon, long time) {
+        Values v = values();
+        v.lat = lat;
+        v.lon = lon;
+        v.locationTime = time;
+        v.hasLocation = true;
+        persist(editor -> editor
+                .putLong(KEY_LAT, Double.doubleToRawLongBits(lat))
+                .putLong(KEY_LON, Double.doubleToRawLongBits(lon))
+                .putLong(KEY_LOCATION_TIME, time));
+    }
+
+    // ---- location label ----
+
+    @Nullable
+    public String getLocationLabel() {
+        return values().locationLabel;
+    }
+
+    public void setLocationLabel(String label) {
+        values().locationLabel = label;
+        persist(editor -> editor.putString(KEY_LOCATION, label));
+    }
+
+    // ---- display options ----
+
+    /**
+     * 표시 단위/언어 (저장된 적 없으면 DisplayOptions.DEFAULT)
+     */
+    public DisplayOptions getDisplayOptions() {
+        return values().displayOptions;
+    }
+
+    public void setDisplayOptions(DisplayOptions options) {
+        values().displayOptions = options;
+        persist(editor -> editor
+                .putString(KEY_TEMPERATURE_UNIT, options.unit.name())
+                .putString(KEY_LANGUAGE, options.language.name()));
+    }
+
+    private static DisplayOptions decodeDisplayOptions(SharedPreferences prefs) {
+        DisplayOptions d = DisplayOptions.DEFAULT;
+        try {
+            return new DisplayOptions(
+                    TemperatureUnit.valueOf(prefs.getString(KEY_TEMPERATURE_UNIT, d.unit.name())),
+                    DisplayLanguage.valueOf(prefs.getString(KEY_LANGUAGE, d.language.name())));
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "잘못된 표시 설정, 기본값 사용", e);
+            return d;
+        }
+    }
+
+    // ---- alerts ----
+
+    /**
+     * 알림 규칙 (저장된 적 없으면 AlertRule.DEFAULTS)
+     */
+    public List<AlertRule> getAlertRules() {
+        return values().alertRules;
+    }
+
+    public void setAlertRules(List<AlertRule> rules) {
+        values().alertRules = Collections.unmodifiableList(new ArrayList<>(rules));
+        String encoded = AlertRule.encode(rules);
+        persist(editor -> editor.putString(KEY_ALERT_RULES, encoded));
+    }
+
+    /**
+     * AlertEngine 의 중복 알림 방지 상태 (AlertEngine.encodeState 형식)
+     */
+    @Nullable
+    public String getAlertState() {
+        return values().alertState;
+    }
+
+    public void setAlertState(String state) {
+        values().alertState = state;
+        persist(editor -> editor.putString(KEY_ALERT_STATE, state));
+    }
+
+    /**
+     * 새로고침 에너지 기록 (EnergyLedger.encodeState 형식)
+     */
+    @Nullable
+    public String getEnergyLedger() {
+        return values().energyLedger;
+    }
+
+    public void setEnergyLedger(String state) {
+        values().energyLedger = state;
+        persist(editor -> editor.putString(KEY_ENERGY_LEDGER, state));
+    }
+
+    // ---- saved locations ----
+
+    /**
+     * 저장된 위치 목록 (수정 불가, 저장 순서 유지)
+     */
+    public List<SavedLocation> getSavedLocations() {
+        return values().savedLocations;
+    }
+
+    /**
+     * 위치 추가 (같은 cell 의 위치가 이미 있으면 추가하지 않음)
+     * @return 목록에서의 위치
+     */
+    public synchronized int addSavedLocation(SavedLocation location) {
+        List<SavedLocation> current = values().savedLocations;
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i).cellKey().equals(location.cellKey())) return i;
+        }
+        List<SavedLocation> next = new ArrayList<>(current);
+        next.add(location);
+        saveLocations(next);
+        return next.size() - 1;
+    }
+
+    public synchronized void removeSavedLocation(int index) {
+        List<SavedLocation> next = new ArrayList<>(values().savedLocations);
+        if (index < 0 || index >= next.size()) return;
+        next.remove(index);
+        saveLocations(next);
+    }
+
+    private void saveLocations(List<SavedLocation> list) {
+        values().savedLocations = Collections.unmodifiableList(list);
+        String encoded = encodeLocations(list);
+        persist(editor -> editor.putString(KEY_SAVED_LOCATIONS, encoded));
+    }
+
+    /**
+     * "위도\t경도\t이름" 한 줄에 한 위치
+     */
+    static String encodeLocations(List<SavedLocation> list) {
+        StringBuilder sb = new StringBuilder();
+        for (SavedLocation l : list) {
+            sb.append(l.lat).append('\t').append(l.lon).append('\t')
+                    .append(l.name.replace('\n', ' ').replace('\t', ' ')).append('\n');
+        }
+        return sb.toString();
+    }
+
+    static List<SavedLocation> decodeLocations(@Nullable String encoded) {
+        List<SavedLocation> list = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) return list;
+        for (String line : encoded.split("\n")) {
+            String[] f = line.split("\t", 3);
+            if (f.length < 3) continue;
+            try {
+                list.add(new SavedLocation(f[2], Double.parseDouble(f[0]), Double.parseDouble(f[1])));
+            } catch (NumberFormatException e) {
+                Log.w(TAG, "잘못된 저장 위치: " + line);
+            }
+        }
+        return list;
+    }
+
+    // ---- 내부 ----
+
+    private interface Edit {
+        void apply(SharedPreferences.Editor editor);
+    }
+
+    private void persist(Edit edit) {
+        executor.execute(() -> {
+            SharedPreferences.Editor editor =
+                    context.getSharedPreferences(FILE_NAME, Context.MODE_PRIVATE).edit();
+            edit.apply(editor);
+            editor.apply();
+        });
+    }
+
+    /**
+     * 로드 완료 대기 후 메모리 값 반환
+     * (Application 생성 시 이미 로드를 시작하므로 대부분 즉시 반환)
+     */
+    private Values values() {
+        try {
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("설정 로드 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("설정 로드 실패", e.getCause());
+        }
+    }
+
+    private Values load() {
+        SharedPreferences prefs = context.getSharedPreferences(FILE_NAME, Context.MODE_PRIVATE);
+        if (!prefs.getBoolean(KEY_MIGRATED, false)) {
+            migrateLegacy(prefs);
+        }
+
+        Values v = new Values();
+        v.hasLocation = prefs.contains(KEY_LAT) && prefs.contains(KEY_LON);
+        v.lat = Double.longBitsToDouble(prefs.getLong(KEY_LAT, 0));
+        v.lon = Double.longBitsToDouble(prefs.getLong(KEY_LON, 0));
+        v.locationTime = prefs.getLong(KEY_LOCATION_TIME, 0);
+        v.locationLabel = prefs.getString(KEY_LOCATION, null);
+        v.savedLocations = Collections.unmodifiableList(
+                decodeLocations(prefs.getString(KEY_SAVED_LOCATIONS, null)));
+        v.displayOptions = decodeDisplayOptions(prefs);
+        v.alertRules = AlertRule.decode(prefs.getString(KEY_ALERT_RULES, null));
+        v.alertState = prefs.getString(KEY_ALERT_STATE, null);
+        v.energyLedger = prefs.getString(KEY_ENERGY_LEDGER, null);
+        decodeWidgetStates(prefs.getString(KEY_WIDGETS, null), v.widgetStates);
+        return v;
+    }
+
+    /**
+     * 기존 "prefs" 파일의 설정값을 "settings" 파일로 이전
+     */
+    private void migrateLegacy(SharedPreferences prefs) {
+        SharedPreferences legacy =
+                context.getSharedPreferences(LEGACY_FILE_NAME, Context.MODE_PRIVATE);
+        SharedPreferences.Editor editor = prefs.edit();
+        SharedPreferences.Editor legacyEditor = legacy.edit();
+
+        // 전역 위젯 인덱스는 인스턴스별 상태(KEY_WIDGETS)로 대체되어 옮기지 않음
+        legacyEditor.remove(KEY_FORECAST_INDEX);
+        if (legacy.contains(KEY_LAT) && legacy.contains(KEY_LON)) {
+            editor.putLong(KEY_LAT, legacy.getLong(KEY_LAT, 0));
+            editor.putLong(KEY_LON, legacy.getLong(KEY_LON, 0));
+            editor.putLong(KEY_LOCATION_TIME, legacy.getLong(KEY_LOCATION_TIME, 0));
+            legacyEditor.remove(KEY_LAT).remove(KEY_LON).remove(KEY_LOCATION_TIME);
+        }
+        if (legacy.contains(KEY_LOCATION)) {
+            editor.putString(KEY_LOCATION, legacy.getString(KEY_LOCATION, null));
+            legacyEditor.remove(KEY_LOCATION);
+        }
+
+        editor.putBoolean(KEY_MIGRATED, true).commit();
+        legacyEditor.apply();
+        Log.d(TAG, "prefs → settings 이전 완료");
+    }
+}
@@ -0,0 +1,25 @@
+package com.avad.openweatherapp.data.local;
+
+import androidx.annotation.Nullable;
+
+/**
+ * WidgetState
+ * - 위젯 인스턴스(appWidgetId)별 표시 상태
+ *   · locationKey : 표시할 저장 위치의 cellKey (null = 현재 위치)
+ * - 날짜 이동은 위젯 리스트를 런처가 직접 스크롤하므로 저장하지 않음
+ */
+public final class WidgetState {
+
+    public static final WidgetState DEFAULT = new WidgetState(null);
+
+    @Nullable
+    public final String locationKey;
+
+    public WidgetState(@Nullable String locationKey) {
+        this.locationKey = locationKey;
+    }
+
+    public WidgetState withLocation(@Nullable String locationKey) {
+        return new WidgetState(locationKey);
+    }
+}
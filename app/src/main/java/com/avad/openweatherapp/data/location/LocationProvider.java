@@ -0,0 +1,246 @@
+package com.avad.openweatherapp.data.location;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.core.app.ActivityCompat;
+
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.google.android.gms.location.CurrentLocationRequest;
+import com.google.android.gms.location.FusedLocationProviderClient;
+import com.google.android.gms.location.LocationServices;
+import com.google.android.gms.location.Priority;
+import com.google.android.gms.tasks.CancellationTokenSource;
+
+/**
+ * LocationProvider
+ * - 위치 획득을 단계적으로 시도하고, 정해진 시간 안에 반드시 결과를 전달
+ *   1) getLastLocation() 캐시 위치
+ *   2) getCurrentLocation() (저전력 우선순위)
+ *   3) SettingsStore 에 저장된 마지막 위도/경도
+ * - 두 단계 모두 requestLocation() 시작 시 설정한 하나의 하드 타임아웃과 경합
+ * - 사용된 좌표의 출처(Source)와 나이(ageMillis)를 함께 전달
+ */
+public class LocationProvider {
+
+    private static final String TAG = "LocationProvider";
+
+    /** getCurrentLocation() 단계에 허용하는 최대 대기 시간 */
+    public static final long CURRENT_LOCATION_TIMEOUT_MS = 3000L;
+
+    /** 위치 조회 전체(getLastLocation + getCurrentLocation)에 허용하는 최대 대기 시간 */
+    public static final long LOCATION_TIMEOUT_MS = 4000L;
+
+    /** 이 시간보다 오래된 캐시 위치는 getCurrentLocation() 으로 한 번 더 시도 */
+    private static final long MAX_CACHED_AGE_MS = 30 * 60 * 1000L;
+
+    /**
+     * 좌표 출처
+     */
+    public enum Source {
+        CACHED,   // getLastLocation()
+        CURRENT,  // getCurrentLocation()
+        STORED,   // SettingsStore 에 저장된 값
+        NONE      // 사용 가능한 좌표 없음
+    }
+
+    /**
+     * 위치 조회 결과
+     */
+    public static class LocationFix {
+        public final double lat;
+        public final double lon;
+        public final Source source;
+        /** 좌표가 측정된 이후 경과 시간 (알 수 없으면 -1) */
+        public final long ageMillis;
+
+        LocationFix(double lat, double lon, Source source, long ageMillis) {
+            this.lat = lat;
+            this.lon = lon;
+            this.source = source;
+            this.ageMillis = ageMillis;
+        }
+
+        public boolean isAvailable() {
+            return source != Source.NONE;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "LocationFix{" + source + ", lat=" + lat + ", lon=" + lon
+                    + ", age=" + ageMillis + "ms}";
+        }
+    }
+
+    /**
+     * 위치 결과 콜백 (항상 메인 스레드에서 정확히 한 번 호출)
+     */
+    public interface Callback {
+        void onLocation(@NonNull LocationFix fix);
+    }
+
+    private final Context context;
+    private final FusedLocationProviderClient fusedLocationClient;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public LocationProvider(Context context) {
+        this.context = context.getApplicationContext();
+        this.fusedLocationClient = LocationServices.getFusedLocationProviderClient(this.context);
+    }
+
+    /**
+     * 위치 조회 시작
+     * - 권한이 없으면 곧바로 저장된 좌표로 대체
+     * - getLastLocation() 이 어떤 리스너도 호출하지 않더라도 LOCATION_TIMEOUT_MS 안에 결과 전달
+     */
+    public void requestLocation(@NonNull Callback callback) {
+        OneShot once = new OneShot(callback);
+
+        if (!hasPermission()) {
+            once.deliver(readStored());
+            return;
+        }
+
+        // 전체 조회에 하나의 하드 타임아웃: 진행 중인 요청을 취소하고 대체 좌표 전달
+        mainHandler.postDelayed(once, LOCATION_TIMEOUT_MS);
+
+        try {
+            fusedLocationClient.getLastLocation()
+                    .addOnSuccessListener(loc -> {
+                        if (loc != null && ageOf(loc) <= MAX_CACHED_AGE_MS) {
+                            once.deliver(fromLocation(loc, Source.CACHED));
+                        } else {
+                            requestCurrent(once, loc);
+                        }
+                    })
+                    .addOnFailureListener(e -> {
+                        Log.w(TAG, "getLastLocation 실패: " + e.getMessage());
+                        requestCurrent(once, null);
+                    });
+        } catch (SecurityException e) {
+            once.deliver(readStored());
+        }
+    }
+
+    /**
+     * getCurrentLocation() 요청 (requestLocation() 의 하드 타임아웃과 경합)
+     * @param stale 오래된 캐시 위치 (있다면 저장값보다 우선 사용)
+     */
+    @SuppressWarnings("MissingPermission")
+    private void requestCurrent(OneShot once, Location stale) {
+        if (once.isDone()) return;
+        once.stale = stale;
+        once.cts = new CancellationTokenSource();
+        CurrentLocationRequest request = new CurrentLocationRequest.Builder()
+                .setPriority(Priority.PRIORITY_BALANCED_POWER_ACCURACY)
+                .setDurationMillis(CURRENT_LOCATION_TIMEOUT_MS)
+                .build();
+
+        try {
+            fusedLocationClient.getCurrentLocation(request, once.cts.getToken())
+                    .addOnCompleteListener(task -> {
+                        Location loc = task.isSuccessful() ? task.getResult() : null;
+                        once.deliver(loc != null
+                                ? fromLocation(loc, Source.CURRENT)
+                                : fallback(stale));
+                    });
+        } catch (SecurityException e) {
+            once.deliver(fallback(stale));
+        }
+    }
+
+    /**
+     * 오래된 캐시 위치가 있으면 그것을, 없으면 저장된 좌표를 사용
+     */
+    private LocationFix fallback(Location stale) {
+        if (stale != null) return fromLocation(stale, Source.CACHED);
+        return readStored();
+    }
+
+    /**
+     * SettingsStore 에 저장된 마지막 좌표 조회
+     */
+    private LocationFix readStored() {
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        if (!settings.hasLocation()) {
+            return new LocationFix(0, 0, Source.NONE, -1);
+        }
+        long time = settings.getLocationTime();
+        long age = time > 0 ? Math.max(0, System.currentTimeMillis() - time) : -1;
+        return new LocationFix(settings.getLat(), settings.getLon(), Source.STORED, age);
+    }
+
+    /**
+     * 새로 얻은 좌표를 SettingsStore 에 저장 (STORED/NONE 은 저장하지 않음)
+     */
+    public void store(@NonNull LocationFix fix) {
+        if (fix.source == Source.STORED || fix.source == Source.NONE) return;
+        WeatherApplication.container().settingsStore().setLocation(
+                fix.lat, fix.lon, System.currentTimeMillis() - Math.max(0, fix.ageMillis));
+    }
+
+    private boolean hasPermission() {
+        return ActivityCompat.checkSelfPermission(context,
+                Manifest.permission.ACCESS_FINE_LOCATION) == PackageManager.PERMISSION_GRANTED
+                || ActivityCompat.checkSelfPermission(context,
+                Manifest.permission.ACCESS_COARSE_LOCATION) == PackageManager.PERMISSION_GRANTED;
+    }
+
+    private static LocationFix fromLocation(Location loc, Source source) {
+        return new LocationFix(loc.getLatitude(), loc.getLongitude(), source, ageOf(loc));
+    }
+
+    /**
+     * elapsedRealtime 기준 위치 나이 계산 (벽시계 변경 영향 없음)
+     */
+    private static long ageOf(Location loc) {
+        long nanos = SystemClock.elapsedRealtimeNanos() - loc.getElapsedRealtimeNanos();
+        return Math.max(0, nanos / 1_000_000L);
+    }
+
+    /**
+     * 콜백이 타임아웃/응답 경합 상황에서도 한 번만 호출되도록 보장
+     * - 자신이 하드 타임아웃 Runnable 이며, 전달 시 타임아웃과 진행 중인 요청을 정리
+     * (모든 호출은 메인 스레드에서 발생)
+     */
+    private class OneShot implements Runnable {
+        private Callback callback;
+        /** getLastLocation() 이 돌려준 오래된 위치 (타임아웃 시 대체 좌표) */
+        Location stale;
+        /** 진행 중인 getCurrentLocation() 취소용 */
+        CancellationTokenSource cts;
+
+        OneShot(Callback callback) {
+            this.callback = callback;
+        }
+
+        boolean isDone() {
+            return callback == null;
+        }
+
+        /** 하드 타임아웃 */
+        @Override
+        public void run() {
+            if (cts != null) cts.cancel();
+            deliver(fallback(stale));
+        }
+
+        void deliver(LocationFix fix) {
+            if (callback == null) return;
+            Callback c = callback;
+            callback = null;
+            mainHandler.removeCallbacks(this);
+            Log.d(TAG, "위치 결정: " + fix);
+            c.onLocation(fix);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.avad.openweatherapp.data.merge;
+
+import androidx.annotation.NonNull;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ForecastDiff
+ * - 이전 예보와 새 예보를 slot(예보 시각) 단위로 비교한 변경 내역
+ *   · added   : 새로 생긴 slot
+ *   · updated : 같은 시각이지만 기온/습도/날씨가 바뀐 slot (새 값)
+ *   · expired : 새 예보에서 사라진 slot (지나간 시간대)
+ *   · affectedDays : 위 변경이 속한 날짜 (yyyy-MM-dd, 시간순)
+ */
+public class ForecastDiff {
+
+    public final List<ForecastResponse.ForecastItem> added;
+    public final List<ForecastResponse.ForecastItem> updated;
+    public final List<ForecastResponse.ForecastItem> expired;
+    public final Set<String> affectedDays;
+
+    ForecastDiff(List<ForecastResponse.ForecastItem> added,
+                 List<ForecastResponse.ForecastItem> updated,
+                 List<ForecastResponse.ForecastItem> expired,
+                 Set<String> affectedDays) {
+        this.added = Collections.unmodifiableList(added);
+        this.updated = Collections.unmodifiableList(updated);
+        this.expired = Collections.unmodifiableList(expired);
+        this.affectedDays = Collections.unmodifiableSet(affectedDays);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && updated.isEmpty() && expired.isEmpty();
+    }
+
+    public boolean affects(String day) {
+        return affectedDays.contains(day);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ForecastDiff{added=" + added.size() + ", updated=" + updated.size()
+                + ", expired=" + expired.size() + ", days=" + affectedDays + "}";
+    }
+}
@@ -0,0 +1,176 @@
+package com.avad.openweatherapp.data.merge;
+
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * ForecastMerger
+ * - 새 예보 응답을 기존 예보와 slot 시각 기준으로 병합
+ * - 내용이 같은 slot 은 기존 인스턴스를 그대로 재사용하여
+ *   화면/위젯이 참조 비교만으로 변경 여부를 판단할 수 있게 함
+ */
+public final class ForecastMerger {
+
+    private ForecastMerger() {
+    }
+
+    /**
+     * 병합 결과
+     */
+    public static class Result {
+        /** 새 예보 순서를 따르는 병합 리스트 (변경 없는 slot 은 기존 인스턴스) */
+        public final List<ForecastResponse.ForecastItem> merged;
+        public final ForecastDiff diff;
+
+        Result(List<ForecastResponse.ForecastItem> merged, ForecastDiff diff) {
+            this.merged = merged;
+            this.diff = diff;
+        }
+    }
+
+    /**
+     * @param previous 기존 slot 리스트 (없으면 null → 전부 added)
+     * @param incoming 새로 받은 slot 리스트
+     */
+    public static Result merge(@Nullable List<ForecastResponse.ForecastItem> previous,
+                               List<ForecastResponse.ForecastItem> incoming) {
+        Map<Long, ForecastResponse.ForecastItem> old = new HashMap<>();
+        if (previous != null) {
+            for (ForecastResponse.ForecastItem item : previous) old.put(slotKey(item), item);
+        }
+
+        List<ForecastResponse.ForecastItem> merged = new ArrayList<>(incoming.size());
+        List<ForecastResponse.ForecastItem> added = new ArrayList<>();
+        List<ForecastResponse.ForecastItem> updated = new ArrayList<>();
+        TreeSet<String> days = new TreeSet<>();
+
+        for (ForecastResponse.ForecastItem item : incoming) {
+            ForecastResponse.ForecastItem prev = old.remove(slotKey(item));
+            if (prev == null) {
+                added.add(item);
+                days.add(dayOf(item));
+                merged.add(item);
+            } else if (!sameContent(prev, item)) {
+                updated.add(item);
+                days.add(dayOf(item));
+                merged.add(item);
+            } else {
+                merged.add(prev);
+            }
+        }
+
+        // 새 예보에 없는 기존 slot = 만료
+        List<ForecastResponse.ForecastItem> expired = new ArrayList<>(old.values());
+        for (ForecastResponse.ForecastItem item : expired) days.add(dayOf(item));
+        expired.sort((a, b) -> Long.compare(slotKey(a), slotKey(b)));
+
+        return new Result(merged, new ForecastDiff(added, updated, expired, days));
+    }
+
+    /**
+     * slot 식별 키 (epoch seconds)
+     * - 응답의 dt 우선, 없으면(이전 버전 캐시) dtTxt 를 UTC 로 해석
+     */
+    public static long slotKey(ForecastResponse.ForecastItem item) {
+        if (item.dt != 0) return item.dt;
+        return parseUtcSeconds(item.dtTxt);
+    }
+
+    /**
+     * slot 이 속한 날짜 (yyyy-MM-dd)
+     */
+    public static String dayOf(ForecastResponse.ForecastItem item) {
+        return item.dtTxt.substring(0, 10);
+    }
+
+    /**
+     * 화면에 영향을 주는 값이 같은지 비교
+     */
+    public static boolean sameContent(ForecastResponse.ForecastItem a,
+                                      ForecastResponse.ForecastItem b) {
+        if (a.main == null || b.main == null) return a.main == b.main;
+        if (Float.compare(a.main.temp, b.main.temp) != 0) return false;
+        if (Double.compare(a.main.feelsLike, b.main.feelsLike) != 0) return false;
+        if (a.main.humidity != b.main.humidity) return false;
+        if (Double.compare(a.main.temp_min, b.main.temp_min) != 0) return false;
+        if (Double.compare(a.main.temp_max, b.main.temp_max) != 0) return false;
+
+        ForecastResponse.Weather wa = firstWeather(a);
+        ForecastResponse.Weather wb = firstWeather(b);
+        if (wa == null || wb == null) return wa == wb;
+        return wa.id == wb.id
+                && Objects.equals(wa.icon, wb.icon)
+                && Objects.equals(wa.description, wb.description);
+    }
+
+    /**
+     * 날짜별 내용 서명 (slot 값의 해시 누적)
+     * - 두 시점의 서명이 같은 날짜는 다시 계산할 필요 없음
+     */
+    public static Map<String, Long> daySignatures(List<ForecastResponse.ForecastItem> list) {
+        Map<String, Long> signatures = new HashMap<>();
+        for (ForecastResponse.ForecastItem item : list) {
+            String day = dayOf(item);
+            Long prev = signatures.get(day);
+            long h = prev == null ? 17 : prev;
+            signatures.put(day, h * 31 + contentHash(item));
+        }
+        return signatures;
+    }
+
+    private static long contentHash(ForecastResponse.ForecastItem item) {
+        long h = slotKey(item);
+        if (item.main != null) {
+            h = h * 31 + Float.floatToIntBits(item.main.temp);
+            h = h * 31 + Double.hashCode(item.main.feelsLike);
+            h = h * 31 + item.main.humidity;
+            h = h * 31 + Double.hashCode(item.main.temp_min);
+            h = h * 31 + Double.hashCode(item.main.temp_max);
+        }
+        ForecastResponse.Weather w = firstWeather(item);
+        if (w != null) {
+            h = h * 31 + w.id;
+            h = h * 31 + Objects.hashCode(w.icon);
+            h = h * 31 + Objects.hashCode(w.description);
+        }
+        return h;
+    }
+
+    @Nullable
+    private static ForecastResponse.Weather firstWeather(ForecastResponse.ForecastItem item) {
+        return item.weather == null || item.weather.isEmpty() ? null : item.weather.get(0);
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss" → UTC epoch seconds (SimpleDateFormat 없이 계산)
+     */
+    static long parseUtcSeconds(String dtTxt) {
+        int y = Integer.parseInt(dtTxt.substring(0, 4));
+        int m = Integer.parseInt(dtTxt.substring(5, 7));
+        int d = Integer.parseInt(dtTxt.substring(8, 10));
+        int hh = Integer.parseInt(dtTxt.substring(11, 13));
+        int mm = Integer.parseInt(dtTxt.substring(14, 16));
+        int ss = Integer.parseInt(dtTxt.substring(17, 19));
+        return daysFromCivil(y, m, d) * 86400L + hh * 3600L + mm * 60L + ss;
+    }
+
+    /**
+     * 1970-01-01 기준 일수 (proleptic Gregorian)
+     */
+    private static long daysFromCivil(int y, int m, int d) {
+        y -= m <= 2 ? 1 : 0;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yoe = y - era * 400;
+        long doy = (153L * (m + (m > 2 ? -3 : 9)) + 2) / 5 + d - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+}
@@ -0,0 +1,42 @@
+package com.avad.openweatherapp.data.model;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * data/2.5/air_pollution/forecast 응답 (1시간 간격, 약 4일치)
+ */
+public class AirPollutionResponse {
+
+    @SerializedName("list")
+    public List<Entry> list;
+
+    public static class Entry {
+        /** 측정/예보 시각 (Unix epoch seconds, UTC) */
+        @SerializedName("dt")
+        public long dt;
+
+        @SerializedName("main")
+        public Index main;
+
+        @SerializedName("components")
+        public Components components;
+    }
+
+    public static class Index {
+        /** 대기질 지수 (1 = 좋음 ~ 5 = 매우 나쁨) */
+        @SerializedName("aqi")
+        public int aqi;
+    }
+
+    public static class Components {
+        /** 초미세먼지 (μg/m³) */
+        @SerializedName("pm2_5")
+        public float pm25;
+
+        /** 미세먼지 (μg/m³) */
+        @SerializedName("pm10")
+        public float pm10;
+    }
+}
@@ -9,6 +9,10 @@ public class ForecastResponse {
     public List<ForecastItem> list;
 
     public static class ForecastItem {
+        /** 예보 시각 (Unix epoch seconds, UTC) */
+        @SerializedName("dt")
+        public long dt;
+
         @SerializedName("dt_txt")
         public String dtTxt;
 
@@ -19,6 +23,39 @@ public class ForecastResponse {
         public List<Weather> weather;
     }
 
+    /**
+     * slot 단위 대기질 요약 (불변, ForecastResult.airQuality 에 slot 시각별로 담김)
+     * - 대기질은 자체 캐시/유효 시간을 가지므로 예보 slot/캐시에는 저장하지 않음
+     */
+    public static class AirQuality {
+        /** 구간 내 가장 나쁜 지수 (1 = 좋음 ~ 5 = 매우 나쁨) */
+        public final int aqi;
+        /** 구간 평균 초미세먼지 (μg/m³) */
+        public final float pm25;
+        /** 구간 평균 미세먼지 (μg/m³) */
+        public final float pm10;
+
+        public AirQuality(int aqi, float pm25, float pm10) {
+            this.aqi = aqi;
+            this.pm25 = pm25;
+            this.pm10 = pm10;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AirQuality)) return false;
+            AirQuality other = (AirQuality) o;
+            return aqi == other.aqi && Float.compare(pm25, other.pm25) == 0
+                    && Float.compare(pm10, other.pm10) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return (aqi * 31 + Float.floatToIntBits(pm25)) * 31 + Float.floatToIntBits(pm10);
+        }
+    }
+
     public static class Main {
         @SerializedName("temp")
         public float temp;
@@ -37,10 +74,36 @@ public class ForecastResponse {
     }
 
     public static class Weather {
+        /** 날씨 상태 코드 (예: 800 = 맑음), 이전 캐시에는 없음(0) */
+        @SerializedName("id")
+        public int id;
+
         @SerializedName("description")
         public String description;
 
         @SerializedName("icon")
         public String icon;
+
+        /** id 로 한 번만 분류해 두는 값 (직렬화 제외) */
+        private transient WeatherCondition condition;
+
+        /**
+         * 상태 코드 분류 (첫 호출 때 배열 조회 한 번, 이후 필드 재사용)
+         */
+        public WeatherCondition condition() {
+            WeatherCondition c = condition;
+            if (c == null) {
+                c = WeatherCondition.of(id);
+                condition = c;
+            }
+            return c;
+        }
+
+        /**
+         * 아이콘 코드 (응답에 없으면 분류의 기본 아이콘)
+         */
+        public String iconCode() {
+            return icon != null ? icon : condition().icon;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.avad.openweatherapp.data.model;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+
+/**
+ * WeatherCondition
+ * - OpenWeatherMap 상태 코드(weather.id)를 화면 분류 단위로 묶은 값
+ *   · background : 메인 화면 배경 (0 = 배경 없음)
+ *   · 짧은 문구   : 위젯처럼 좁은 곳에 쓰는 한두 단어 (언어별)
+ *   · icon       : 응답에 아이콘 코드가 없을 때 사용할 기본 아이콘 코드
+ * - 코드 → 분류는 배열 인덱스 한 번으로 조회 (언어/문구와 무관)
+ */
+public enum WeatherCondition {
+    THUNDERSTORM(R.drawable.ic_lightning_bg, "뇌우", "Storm", "11d"),
+    DRIZZLE(R.drawable.ic_rain_bg, "비", "Drizzle", "09d"),
+    RAIN(R.drawable.ic_rain_bg, "비", "Rain", "10d"),
+    HEAVY_RAIN(R.drawable.ic_rain_bg, "폭우", "Heavy rain", "10d"),
+    SNOW(R.drawable.ic_snow_bg, "눈", "Snow", "13d"),
+    HEAVY_SNOW(R.drawable.ic_snow_bg, "폭설", "Heavy snow", "13d"),
+    SLEET(R.drawable.ic_snow_bg, "진눈깨비", "Sleet", "13d"),
+    FOG(R.drawable.ic_hazy_bg, "안개", "Fog", "50d"),
+    DUST(R.drawable.ic_hazy_bg, "먼지", "Dust", "50d"),
+    WIND(R.drawable.ic_wind_bg, "돌풍", "Wind", "50d"),
+    CLEAR(R.drawable.ic_sunny_bg, "맑음", "Clear", "01d"),
+    PARTLY_CLOUDY(R.drawable.ic_wind_bg, "구름조금", "Partly cloudy", "02d"),
+    CLOUDY(R.drawable.ic_wind_bg, "흐림", "Cloudy", "04d"),
+    /** 상태 코드가 없거나(이전 캐시) 알 수 없는 코드 */
+    UNKNOWN(0, null, null, null);
+
+    private static final int MIN_ID = 200;
+    private static final int MAX_ID = 804;
+
+    /** [id - MIN_ID] → 분류 */
+    private static final WeatherCondition[] BY_ID = new WeatherCondition[MAX_ID - MIN_ID + 1];
+
+    static {
+        fill(200, 232, THUNDERSTORM);
+        fill(300, 321, DRIZZLE);
+        fill(500, 501, RAIN);
+        fill(502, 504, HEAVY_RAIN);
+        fill(511, 521, RAIN);
+        fill(522, 522, HEAVY_RAIN);
+        fill(531, 531, RAIN);
+        fill(600, 601, SNOW);
+        fill(602, 602, HEAVY_SNOW);
+        fill(611, 616, SLEET);
+        fill(620, 621, SNOW);
+        fill(622, 622, HEAVY_SNOW);
+        fill(701, 701, FOG);
+        fill(711, 711, DUST);
+        fill(721, 721, FOG);
+        fill(731, 731, DUST);
+        fill(741, 741, FOG);
+        fill(751, 762, DUST);
+        fill(771, 781, WIND);
+        fill(800, 800, CLEAR);
+        fill(801, 802, PARTLY_CLOUDY);
+        fill(803, 804, CLOUDY);
+    }
+
+    private static void fill(int from, int to, WeatherCondition condition) {
+        for (int id = from; id <= to; id++) BY_ID[id - MIN_ID] = condition;
+    }
+
+    @DrawableRes
+    public final int background;
+
+    @Nullable
+    public final String icon;
+
+    /** [DisplayLanguage.ordinal()] → 짧은 문구 */
+    private final String[] shortLabels;
+
+    WeatherCondition(@DrawableRes int background, @Nullable String korean,
+                     @Nullable String english, @Nullable String icon) {
+        this.background = background;
+        this.icon = icon;
+        this.shortLabels = new String[]{korean, english};
+    }
+
+    /**
+     * 상태 코드의 분류 (범위 밖/미정의 코드는 UNKNOWN)
+     */
+    public static WeatherCondition of(int id) {
+        if (id < MIN_ID || id > MAX_ID) return UNKNOWN;
+        WeatherCondition condition = BY_ID[id - MIN_ID];
+        return condition != null ? condition : UNKNOWN;
+    }
+
+    /**
+     * 비/눈처럼 강수가 있는 분류인지 (강수 알림 규칙용)
+     */
+    public boolean isPrecipitation() {
+        switch (this) {
+            case THUNDERSTORM:
+            case DRIZZLE:
+            case RAIN:
+            case HEAVY_RAIN:
+            case SNOW:
+            case HEAVY_SNOW:
+            case SLEET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 짧은 문구 (UNKNOWN 이면 null → 호출 측에서 전체 문구 사용)
+     */
+    @Nullable
+    public String shortLabel(DisplayLanguage language) {
+        return shortLabels[language.ordinal()];
+    }
+}
@@ -1,20 +1,69 @@
 package com.avad.openweatherapp.data.network;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
 public class RetrofitClient {
-    private static Retrofit retrofit = null;
+    private static final String BASE_URL = "https://api.openweathermap.org/";
+    private static WeatherApiService service = null;
+    private static OkHttpClient httpClient = null;
+    private static final TrafficInterceptor traffic = new TrafficInterceptor();
+
+    /** 호스트당 동시 요청 수 상한 (여러 위치 새로고침 + 헤징 요청 포함) */
+    private static final int MAX_REQUESTS_PER_HOST = 4;
+
+    // 여러 스레드(메인, 위젯 워커)에서 호출되므로 동기화하여 한 번만 생성
+    @NonNull
+    public static synchronized WeatherApiService getInstance() {
+        if (service == null) {
+            service = create(BASE_URL);
+        }
+        return service;
+    }
+
+    /**
+     * 모든 서비스가 공유하는 OkHttpClient
+     * - 연결 풀/Dispatcher 를 하나만 두어 여러 위치를 조회해도 같은 연결을 재사용
+     */
     @NonNull
-    public static WeatherApiService getInstance() {
-        if (retrofit == null) {
-            retrofit = new Retrofit.Builder()
-                    .baseUrl("https://api.openweathermap.org/")
-                    .addConverterFactory(GsonConverterFactory.create())
+    public static synchronized OkHttpClient httpClient() {
+        if (httpClient == null) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+            httpClient = new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(MAX_REQUESTS_PER_HOST, 5, TimeUnit.MINUTES))
+                    .addNetworkInterceptor(traffic)
                     .build();
         }
+        return httpClient;
+    }
+
+    /**
+     * 공유 OkHttpClient 의 요청별 전송량 수신자 (null 이면 기록 안 함)
+     */
+    public static void setTrafficListener(@Nullable TrafficInterceptor.Listener listener) {
+        traffic.setListener(listener);
+    }
+
+    /**
+     * 지정한 baseUrl 로 WeatherApiService 생성 (테스트용 로컬 서버 등)
+     */
+    @NonNull
+    public static WeatherApiService create(String baseUrl) {
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .client(httpClient())
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
         return retrofit.create(WeatherApiService.class);
     }
-}
\ No newline at end of file
+}
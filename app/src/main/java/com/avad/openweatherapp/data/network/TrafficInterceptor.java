@@ -0,0 +1,148 @@
+package com.avad.openweatherapp.data.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * TrafficInterceptor
+ * - 네트워크 인터셉터로 등록하여 요청마다 실제 전송 바이트(압축된 본문 + 헤더)와
+ *   시작~본문 수신 완료 시각을 Listener 에 전달 (에너지 기록용)
+ * - 응답 본문은 읽히는 대로 세고, 끝까지 읽거나 닫힐 때 한 번만 보고
+ * - 연결 자체가 실패한 요청은 네트워크 인터셉터까지 오지 않으므로 기록되지 않음
+ */
+public class TrafficInterceptor implements Interceptor {
+
+    /**
+     * 요청 하나의 전송량 (OkHttp 스레드에서 호출)
+     */
+    public interface Listener {
+        void onTransfer(long startMs, long endMs, long rxBytes, long txBytes);
+    }
+
+    @Nullable
+    private volatile Listener listener;
+
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Listener l = listener;
+        Request request = chain.request();
+        if (l == null) return chain.proceed(request);
+
+        long start = System.currentTimeMillis();
+        long tx = headerBytes(request.headers()) + bodyLength(request.body());
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            l.onTransfer(start, System.currentTimeMillis(), 0, tx);
+            throw e;
+        }
+        long headers = headerBytes(response.headers());
+        ResponseBody body = response.body();
+        if (body == null) {
+            l.onTransfer(start, System.currentTimeMillis(), headers, tx);
+            return response;
+        }
+        return response.newBuilder()
+                .body(new CountingBody(body, l, start, headers, tx))
+                .build();
+    }
+
+    /**
+     * HTTP/1.1 로 보냈을 때의 헤더 크기 ("이름: 값\r\n")
+     */
+    private static long headerBytes(Headers headers) {
+        long bytes = 0;
+        for (int i = 0; i < headers.size(); i++) {
+            bytes += headers.name(i).length() + headers.value(i).length() + 4;
+        }
+        return bytes;
+    }
+
+    private static long bodyLength(@Nullable RequestBody body) throws IOException {
+        return body != null ? Math.max(0, body.contentLength()) : 0;
+    }
+
+    /**
+     * 읽은 바이트를 세는 응답 본문
+     */
+    private static final class CountingBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final Listener listener;
+        private final long start;
+        private final long tx;
+        private long rx;
+        private boolean reported;
+        @Nullable
+        private BufferedSource source;
+
+        CountingBody(ResponseBody delegate, Listener listener, long start, long headers, long tx) {
+            this.delegate = delegate;
+            this.listener = listener;
+            this.start = start;
+            this.rx = headers;
+            this.tx = tx;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NonNull
+        @Override
+        public synchronized BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    @Override
+                    public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+                        long read = super.read(sink, byteCount);
+                        if (read == -1) report();
+                        else rx += read;
+                        return read;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        report();
+                        super.close();
+                    }
+                });
+            }
+            return source;
+        }
+
+        private void report() {
+            synchronized (this) {
+                if (reported) return;
+                reported = true;
+            }
+            listener.onTransfer(start, System.currentTimeMillis(), rx, tx);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.avad.openweatherapp.data.network;
 
+import com.avad.openweatherapp.data.model.AirPollutionResponse;
 import com.avad.openweatherapp.data.model.ForecastResponse;
 
 import retrofit2.Call;
@@ -17,4 +18,12 @@ public interface WeatherApiService {
             @Query("units") String units,
             @Query("lang") String lang
     );
+
+    // 대기질 예보 (1시간 간격, 약 4일치)
+    @GET("data/2.5/air_pollution/forecast")
+    Call<AirPollutionResponse> getAirPollutionForecast(
+            @Query("lat") double lat,
+            @Query("lon") double lon,
+            @Query("appid") String apiKey
+    );
 }
\ No newline at end of file
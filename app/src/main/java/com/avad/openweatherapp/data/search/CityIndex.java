@@ -0,0 +1,251 @@
+package com.avad.openweatherapp.data.search;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+
+import androidx.annotation.NonNull;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * CityIndex
+ * - 앱에 포함된 도시 목록(assets/cities.idx)을 메모리 매핑하여 이름 접두어로 검색
+ * - 정렬된 키 테이블(sorted string table) 위에서 이진 탐색 후 접두어가 맞는 동안만 순회
+ *   → 힙에 올리는 것은 결과로 돌려주는 도시뿐
+ * - 키는 normalize() 로 정규화된 UTF-8
+ *   · 한글은 자모 단위로 분해 (입력 중인 "서우" 도 "서울" 의 접두어가 되도록)
+ *   · 라틴 문자는 소문자 + 발음 기호 제거
+ *
+ * 파일 형식 (little-endian)
+ *   header : MAGIC, VERSION, cityCount, keyCount, citiesOffset, keysOffset, stringsOffset
+ *   cities : cityCount × (float lat, float lon, int nameRef, int detailRef)
+ *   keys   : keyCount × (int keyRef, int cityIndex) — 키 바이트 순으로 정렬
+ *   strings: (u16 length + UTF-8 bytes) 의 나열, *Ref 는 strings 시작 기준 오프셋
+ */
+public class CityIndex {
+
+    public static final String ASSET_NAME = "cities.idx";
+
+    static final int MAGIC = 0x59544943;  // "CITY"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 7 * 4;
+    static final int CITY_BYTES = 16;
+    static final int KEY_BYTES = 8;
+
+    /**
+     * 검색 결과 도시
+     */
+    public static class City {
+        /** 표시 이름 (한글 이름이 있으면 한글) */
+        public final String name;
+        /** 보조 표시 (영문 이름, 국가 코드) */
+        public final String detail;
+        public final double lat;
+        public final double lon;
+
+        public City(String name, String detail, double lat, double lon) {
+            this.name = name;
+            this.detail = detail;
+            this.lat = lat;
+            this.lon = lon;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return name + " (" + detail + ")";
+        }
+    }
+
+    private final ByteBuffer buf;
+    private final int cityCount;
+    private final int keyCount;
+    private final int citiesOffset;
+    private final int keysOffset;
+    private final int stringsOffset;
+
+    public CityIndex(ByteBuffer buffer) {
+        buf = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("잘못된 도시 인덱스 파일");
+        }
+        cityCount = buf.getInt(8);
+        keyCount = buf.getInt(12);
+        citiesOffset = buf.getInt(16);
+        keysOffset = buf.getInt(20);
+        stringsOffset = buf.getInt(24);
+    }
+
+    /**
+     * assets 의 인덱스를 메모리 매핑으로 열기
+     * (build.gradle 의 noCompress 설정으로 APK 안에 압축 없이 저장되어 있어야 함)
+     */
+    public static CityIndex open(Context context) throws IOException {
+        try (AssetFileDescriptor afd = context.getAssets().openFd(ASSET_NAME);
+             FileInputStream in = afd.createInputStream();
+             FileChannel channel = in.getChannel()) {
+            // 매핑은 채널을 닫아도 유지됨
+            return new CityIndex(channel.map(
+                    FileChannel.MapMode.READ_ONLY, afd.getStartOffset(), afd.getLength()));
+        }
+    }
+
+    public int cityCount() {
+        return cityCount;
+    }
+
+    /**
+     * 이름 접두어 검색
+     * @param query 사용자 입력 (조합 중인 한글 포함)
+     * @param limit 최대 결과 수
+     */
+    public List<City> search(String query, int limit) {
+        Set<Integer> hits = new LinkedHashSet<>();
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) return new ArrayList<>();
+        collect(normalized.getBytes(StandardCharsets.UTF_8), hits, limit);
+
+        // 조합 중인 마지막 글자의 받침이 다음 글자의 초성일 수도 있음 ("성" → "서ㅇ")
+        String alternative = splitTrailingFinal(query);
+        if (alternative != null && hits.size() < limit) {
+            collect(normalize(alternative).getBytes(StandardCharsets.UTF_8), hits, limit);
+        }
+
+        List<City> result = new ArrayList<>(hits.size());
+        for (int city : hits) result.add(readCity(city));
+        return result;
+    }
+
+    private void collect(byte[] prefix, Set<Integer> hits, int limit) {
+        for (int i = lowerBound(prefix); i < keyCount && hits.size() < limit; i++) {
+            int entry = keysOffset + i * KEY_BYTES;
+            if (!startsWith(buf.getInt(entry), prefix)) break;
+            hits.add(buf.getInt(entry + 4));
+        }
+    }
+
+    /**
+     * prefix 이상인 첫 키 위치
+     */
+    private int lowerBound(byte[] prefix) {
+        int lo = 0;
+        int hi = keyCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareKey(buf.getInt(keysOffset + mid * KEY_BYTES), prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * 키와 prefix 를 부호 없는 바이트 순으로 비교 (UTF-8 바이트 순 = 코드 포인트 순)
+     */
+    private int compareKey(int keyRef, byte[] prefix) {
+        int pos = stringsOffset + keyRef;
+        int len = buf.getShort(pos) & 0xFFFF;
+        pos += 2;
+        int n = Math.min(len, prefix.length);
+        for (int i = 0; i < n; i++) {
+            int a = buf.get(pos + i) & 0xFF;
+            int b = prefix[i] & 0xFF;
+            if (a != b) return a - b;
+        }
+        return len - prefix.length;
+    }
+
+    private boolean startsWith(int keyRef, byte[] prefix) {
+        int pos = stringsOffset + keyRef;
+        int len = buf.getShort(pos) & 0xFFFF;
+        if (len < prefix.length) return false;
+        pos += 2;
+        for (int i = 0; i < prefix.length; i++) {
+            if (buf.get(pos + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private City readCity(int index) {
+        int pos = citiesOffset + index * CITY_BYTES;
+        return new City(
+                readString(buf.getInt(pos + 8)),
+                readString(buf.getInt(pos + 12)),
+                buf.getFloat(pos),
+                buf.getFloat(pos + 4));
+    }
+
+    private String readString(int ref) {
+        int pos = stringsOffset + ref;
+        int len = buf.getShort(pos) & 0xFFFF;
+        byte[] bytes = new byte[len];
+        ByteBuffer slice = buf.duplicate();
+        slice.position(pos + 2);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---- 정규화 ----
+
+    /** 호환용 자모 자음(ㄱ~ㅎ, U+3131~) → 초성 인덱스 (-1 = 겹자음 등 초성 아님) */
+    private static final int[] COMPAT_TO_CHO = {
+            0, 1, -1, 2, -1, -1, 3, 4, 5, -1, -1, -1, -1, -1, -1, -1,
+            6, 7, 8, -1, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18};
+
+    /** 받침 인덱스 → 분리 후 남는 받침 (겹받침의 앞 자음) */
+    private static final int[] JONG_REST = {
+            0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+
+    /** 받침 인덱스 → 다음 글자 초성으로 옮겨 갈 자음 */
+    private static final int[] JONG_TO_CHO = {
+            -1, 0, 1, 9, 2, 12, 18, 3, 5, 0, 6, 7, 9, 16, 17, 18, 6, 7, 9, 9, 10, 11, 12, 14, 15, 16, 17, 18};
+
+    /**
+     * 검색 키 정규화
+     * - 한글 음절 → 초성/중성/종성 자모 (NFD), 호환 자모 자음 → 초성
+     * - 라틴 문자 발음 기호 제거, 소문자화
+     * - 공백, 하이픈, 점, 아포스트로피 제거
+     */
+    public static String normalize(String s) {
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (Character.isWhitespace(c) || c == '-' || c == '.' || c == '\'') continue;
+            if (c >= 0x3131 && c <= 0x314E) {
+                int cho = COMPAT_TO_CHO[c - 0x3131];
+                if (cho >= 0) c = (char) (0x1100 + cho);
+            }
+            sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 마지막 글자가 받침 있는 한글 음절이면, 받침을 다음 글자의 초성으로 분리한 질의
+     * (예: "성" → "서" + 초성 ㅇ, "닭" → "달" + 초성 ㄱ), 해당 없으면 null
+     */
+    static String splitTrailingFinal(String query) {
+        String q = query.trim();
+        if (q.isEmpty()) return null;
+        char last = q.charAt(q.length() - 1);
+        if (last < 0xAC00 || last > 0xD7A3) return null;
+        int code = last - 0xAC00;
+        int jong = code % 28;
+        if (jong == 0) return null;
+        char base = (char) (last - jong + JONG_REST[jong]);
+        char cho = (char) (0x1100 + JONG_TO_CHO[jong]);
+        return q.substring(0, q.length() - 1) + base + cho;
+    }
+}
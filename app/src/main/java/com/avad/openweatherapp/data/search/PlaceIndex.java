@@ -0,0 +1,204 @@
+package com.avad.openweatherapp.data.search;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * PlaceIndex
+ * - 앱에 포함된 행정구역 중심점 목록(assets/places.idx)을 메모리 매핑하여
+ *   좌표에서 가장 가까운 지역 이름("시/도 시/군/구")을 찾음
+ * - 위도/경도 격자(cell) 단위로 묶어 저장하고, 질의 좌표의 cell 에서 시작해
+ *   바깥 고리로 넓혀 가며 탐색 (찾은 거리보다 고리가 멀어지면 중단)
+ * - Geocoder 와 달리 네트워크/파일 읽기 없이 (페이지 폴트 외) 마이크로초 단위로 응답
+ *
+ * 파일 형식 (little-endian)
+ *   header : MAGIC, VERSION, placeCount, cellCount, cellsOffset, placesOffset, stringsOffset,
+ *            float cellDegrees
+ *   cells  : cellCount × (int cellId, int firstPlace, int placeCount) — cellId 순 정렬
+ *   places : placeCount × (float lat, float lon, int labelRef) — cell 순으로 묶여 있음
+ *   strings: (u16 length + UTF-8 bytes) 의 나열
+ */
+public class PlaceIndex {
+
+    public static final String ASSET_NAME = "places.idx";
+
+    static final int MAGIC = 0x45434C50;  // "PLCE"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8 * 4;
+    static final int CELL_BYTES = 12;
+    static final int PLACE_BYTES = 12;
+
+    /** 이 거리(km)보다 먼 지역은 "가까운 지역 없음" 으로 처리 */
+    public static final double MAX_DISTANCE_KM = 60;
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    /**
+     * 조회 결과
+     */
+    public static class Place {
+        public final String label;
+        public final double lat;
+        public final double lon;
+        public final double distanceKm;
+
+        Place(String label, double lat, double lon, double distanceKm) {
+            this.label = label;
+            this.lat = lat;
+            this.lon = lon;
+            this.distanceKm = distanceKm;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return label + " (" + String.format(Locale.ROOT, "%.1f", distanceKm) + "km)";
+        }
+    }
+
+    private final ByteBuffer buf;
+    private final int placeCount;
+    private final int cellCount;
+    private final int cellsOffset;
+    private final int placesOffset;
+    private final int stringsOffset;
+    private final float cellDegrees;
+    private final int columns;
+
+    public PlaceIndex(ByteBuffer buffer) {
+        buf = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("잘못된 지역 인덱스 파일");
+        }
+        placeCount = buf.getInt(8);
+        cellCount = buf.getInt(12);
+        cellsOffset = buf.getInt(16);
+        placesOffset = buf.getInt(20);
+        stringsOffset = buf.getInt(24);
+        cellDegrees = buf.getFloat(28);
+        columns = columns(cellDegrees);
+    }
+
+    /**
+     * assets 의 인덱스를 메모리 매핑으로 열기 (noCompress 설정 필요)
+     */
+    public static PlaceIndex open(Context context) throws IOException {
+        try (AssetFileDescriptor afd = context.getAssets().openFd(ASSET_NAME);
+             FileInputStream in = afd.createInputStream();
+             FileChannel channel = in.getChannel()) {
+            return new PlaceIndex(channel.map(
+                    FileChannel.MapMode.READ_ONLY, afd.getStartOffset(), afd.getLength()));
+        }
+    }
+
+    public int placeCount() {
+        return placeCount;
+    }
+
+    /**
+     * 가장 가까운 지역 (MAX_DISTANCE_KM 안에 없으면 null)
+     */
+    @Nullable
+    public Place nearest(double lat, double lon) {
+        int row = row(lat, cellDegrees);
+        int col = col(lon, cellDegrees);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        // 한 고리(cell 한 칸)가 보장하는 최소 거리 (경도 방향이 더 짧음)
+        double ringKm = cellDegrees * KM_PER_DEGREE * Math.max(0.1, cosLat);
+        int maxRing = (int) Math.ceil(MAX_DISTANCE_KM / ringKm) + 1;
+
+        int best = -1;
+        double bestKm = MAX_DISTANCE_KM;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 이번 고리의 가장 가까운 점도 현재 최단 거리보다 멀면 종료
+            if (best >= 0 && (ring - 1) * ringKm > bestKm) break;
+            for (int r = row - ring; r <= row + ring; r++) {
+                for (int c = col - ring; c <= col + ring; c++) {
+                    // 고리의 테두리만 검사
+                    if (r != row - ring && r != row + ring && c != col - ring && c != col + ring) continue;
+                    int cell = findCell(r * columns + Math.floorMod(c, columns));
+                    if (cell < 0) continue;
+                    int entry = cellsOffset + cell * CELL_BYTES;
+                    int first = buf.getInt(entry + 4);
+                    int count = buf.getInt(entry + 8);
+                    for (int p = first; p < first + count; p++) {
+                        int pos = placesOffset + p * PLACE_BYTES;
+                        double km = distanceKm(lat, lon, cosLat, buf.getFloat(pos), buf.getFloat(pos + 4));
+                        if (km < bestKm) {
+                            bestKm = km;
+                            best = p;
+                        }
+                    }
+                }
+            }
+        }
+        if (best < 0) return null;
+
+        int pos = placesOffset + best * PLACE_BYTES;
+        return new Place(readString(buf.getInt(pos + 8)), buf.getFloat(pos), buf.getFloat(pos + 4), bestKm);
+    }
+
+    /**
+     * cellId 이진 탐색 (없으면 -1)
+     */
+    private int findCell(int cellId) {
+        int lo = 0;
+        int hi = cellCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int id = buf.getInt(cellsOffset + mid * CELL_BYTES);
+            if (id < cellId) lo = mid + 1;
+            else if (id > cellId) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private String readString(int ref) {
+        int pos = stringsOffset + ref;
+        int len = buf.getShort(pos) & 0xFFFF;
+        byte[] bytes = new byte[len];
+        ByteBuffer slice = buf.duplicate();
+        slice.position(pos + 2);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 가까운 거리용 등장방형(equirectangular) 근사
+     */
+    static double distanceKm(double lat1, double lon1, double cosLat, double lat2, double lon2) {
+        double dx = (lon2 - lon1) * cosLat;
+        double dy = lat2 - lat1;
+        return Math.sqrt(dx * dx + dy * dy) * KM_PER_DEGREE;
+    }
+
+    // ---- 격자 계산 (빌더와 공유) ----
+
+    static int columns(float cellDegrees) {
+        return (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    static int row(double lat, float cellDegrees) {
+        return (int) Math.floor((lat + 90.0) / cellDegrees);
+    }
+
+    static int col(double lon, float cellDegrees) {
+        return (int) Math.floor((lon + 180.0) / cellDegrees);
+    }
+
+    static int cellId(double lat, double lon, float cellDegrees) {
+        return row(lat, cellDegrees) * columns(cellDegrees) + col(lon, cellDegrees);
+    }
+}
@@ -0,0 +1,148 @@
+package com.avad.openweatherapp.data.timeline;
+
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HourlyInterpolator
+ * - 3시간 단위 예보를 1시간 단위 기온/체감 온도/습도로 보간
+ * - 생성 시에는 slot 값을 기본형 배열로 옮기기만 하고,
+ *   각 시간 값은 처음 조회될 때 계산하여 메모이즈 (화면에 바인딩된 행만 계산됨)
+ * - 박싱 없이 float 배열과 비트셋(long[])으로만 보관
+ * - UI 스레드 전용 (동기화 없음)
+ */
+public final class HourlyInterpolator {
+
+    public static final long SECONDS_PER_HOUR = 3600L;
+
+    // slot 원본 (시간순)
+    private final List<ForecastResponse.ForecastItem> slots;
+    private final long[] slotEpochs;
+    private final float[] slotTemp;
+    private final float[] slotFeels;
+    private final float[] slotHumidity;
+
+    /** 0번 시간 = 첫 slot 시각 */
+    private final long firstEpoch;
+    private final int hourCount;
+
+    // 시간별 메모이즈 값 + 계산 여부 비트셋
+    private final float[] temp;
+    private final float[] feels;
+    private final float[] humidity;
+    private final long[] computed;
+
+    /** 실제로 계산된 시간 수 (진단용) */
+    private int evaluatedCount;
+
+    /**
+     * @param slots 3시간 단위 예보 리스트 (시간순)
+     */
+    public HourlyInterpolator(List<ForecastResponse.ForecastItem> slots) {
+        this.slots = slots;
+        int n = slots.size();
+        slotEpochs = new long[n];
+        slotTemp = new float[n];
+        slotFeels = new float[n];
+        slotHumidity = new float[n];
+        for (int i = 0; i < n; i++) {
+            ForecastResponse.ForecastItem item = slots.get(i);
+            slotEpochs[i] = ForecastMerger.slotKey(item);
+            if (item.main != null) {
+                slotTemp[i] = item.main.temp;
+                slotFeels[i] = (float) item.main.feelsLike;
+                slotHumidity[i] = item.main.humidity;
+            }
+        }
+
+        firstEpoch = n == 0 ? 0 : slotEpochs[0];
+        hourCount = n == 0 ? 0 : (int) ((slotEpochs[n - 1] - firstEpoch) / SECONDS_PER_HOUR) + 1;
+        temp = new float[hourCount];
+        feels = new float[hourCount];
+        humidity = new float[hourCount];
+        computed = new long[(hourCount + 63) >>> 6];
+    }
+
+    public int hourCount() {
+        return hourCount;
+    }
+
+    public int evaluatedCount() {
+        return evaluatedCount;
+    }
+
+    /** hour 번째 시간의 시각 (epoch seconds, UTC) */
+    public long epochAt(int hour) {
+        return firstEpoch + hour * SECONDS_PER_HOUR;
+    }
+
+    /**
+     * 주어진 시각과 가장 가까운 시간 인덱스 (범위 밖이면 양 끝으로 고정)
+     */
+    public int hourIndexAt(long epochSeconds) {
+        if (hourCount == 0) return -1;
+        long offset = epochSeconds - firstEpoch + SECONDS_PER_HOUR / 2;
+        int hour = (int) Math.floorDiv(offset, SECONDS_PER_HOUR);
+        return Math.max(0, Math.min(hourCount - 1, hour));
+    }
+
+    /**
+     * hour 시간이 속한 slot 인덱스 (해당 시각 이하의 마지막 slot)
+     * - 아이콘/설명 등 보간할 수 없는 값은 이 slot 의 값을 사용
+     */
+    public int slotIndexAt(int hour) {
+        int i = Arrays.binarySearch(slotEpochs, epochAt(hour));
+        return i >= 0 ? i : Math.max(0, -i - 2);
+    }
+
+    /** hour 시간이 속한 slot (아이콘/설명용) */
+    public ForecastResponse.ForecastItem slotAt(int hour) {
+        return slots.get(slotIndexAt(hour));
+    }
+
+    public float temperatureAt(int hour) {
+        ensure(hour);
+        return temp[hour];
+    }
+
+    public float feelsLikeAt(int hour) {
+        ensure(hour);
+        return feels[hour];
+    }
+
+    public float humidityAt(int hour) {
+        ensure(hour);
+        return humidity[hour];
+    }
+
+    /**
+     * 아직 계산되지 않은 시간이면 양쪽 slot 사이 선형 보간 후 저장
+     */
+    private void ensure(int hour) {
+        long bit = 1L << (hour & 63);
+        int word = hour >>> 6;
+        if ((computed[word] & bit) != 0) return;
+
+        int k = slotIndexAt(hour);
+        long epoch = epochAt(hour);
+        if (k >= slotEpochs.length - 1 || slotEpochs[k] == epoch) {
+            temp[hour] = slotTemp[k];
+            feels[hour] = slotFeels[k];
+            humidity[hour] = slotHumidity[k];
+        } else {
+            float t = (float) (epoch - slotEpochs[k]) / (slotEpochs[k + 1] - slotEpochs[k]);
+            temp[hour] = lerp(slotTemp[k], slotTemp[k + 1], t);
+            feels[hour] = lerp(slotFeels[k], slotFeels[k + 1], t);
+            humidity[hour] = lerp(slotHumidity[k], slotHumidity[k + 1], t);
+        }
+        computed[word] |= bit;
+        evaluatedCount++;
+    }
+
+    private static float lerp(float a, float b, float t) {
+        return a + (b - a) * t;
+    }
+}
@@ -0,0 +1,157 @@
+package com.avad.openweatherapp.di;
+
+import android.content.Context;
+import android.location.Geocoder;
+
+import androidx.annotation.NonNull;
+
+import com.avad.openweatherapp.data.alert.AlertEngine;
+import com.avad.openweatherapp.data.energy.EnergyTracker;
+import com.avad.openweatherapp.data.history.ForecastArchive;
+import com.avad.openweatherapp.data.local.ForecastDiskCache;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.data.search.CityIndex;
+import com.avad.openweatherapp.data.search.PlaceIndex;
+import com.avad.openweatherapp.repository.AirQualitySource;
+import com.avad.openweatherapp.repository.WeatherRepository;
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AppContainer
+ * - 앱 전역에서 공유하는 서비스들을 지연 생성하여 보관
+ *   (Activity, 위젯 Receiver, 백그라운드 Service 가 같은 인스턴스 사용)
+ * - 각 서비스는 최초 사용 시 한 번만, 스레드 안전하게 생성
+ */
+public class AppContainer {
+
+    private final Lazy<Gson> gson;
+    private final Lazy<WeatherRepository> weatherRepository;
+    private final Lazy<ForecastArchive> forecastArchive;
+    private final Lazy<Geocoder> geocoder;
+    private final Lazy<ExecutorService> backgroundExecutor;
+    private final Lazy<ExecutorService> geocodeExecutor;
+    private final Lazy<SettingsStore> settingsStore;
+    private final Lazy<CityIndex> cityIndex;
+    private final Lazy<PlaceIndex> placeIndex;
+    private final Lazy<AlertEngine> alertEngine;
+    private final Lazy<EnergyTracker> energyTracker;
+
+    public AppContainer(Context context) {
+        Context app = context.getApplicationContext();
+        gson = new Lazy<>("Gson", Gson::new);
+        forecastArchive = new Lazy<>("ForecastArchive", () -> new ForecastArchive(app));
+        weatherRepository = new Lazy<>("WeatherRepository", () -> new WeatherRepository(
+                RetrofitClient.getInstance(), new ForecastDiskCache(app, gson.get()),
+                forecastArchive.get(), new AirQualitySource(RetrofitClient.getInstance())));
+        geocoder = new Lazy<>("Geocoder", () -> new Geocoder(app, Locale.KOREA));
+        backgroundExecutor = new Lazy<>("BackgroundExecutor",
+                () -> Executors.newSingleThreadExecutor(r -> new Thread(r, "weather-bg")));
+        geocodeExecutor = new Lazy<>("GeocodeExecutor",
+                () -> Executors.newSingleThreadExecutor(r -> new Thread(r, "weather-geocode")));
+        settingsStore = new Lazy<>("SettingsStore",
+                () -> new SettingsStore(app, backgroundExecutor.get()));
+        cityIndex = new Lazy<>("CityIndex", () -> {
+            try {
+                return CityIndex.open(app);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        alertEngine = new Lazy<>("AlertEngine",
+                () -> new AlertEngine(settingsStore.get().getAlertState()));
+        energyTracker = new Lazy<>("EnergyTracker",
+                () -> new EnergyTracker(app, settingsStore.get(), backgroundExecutor.get()));
+        placeIndex = new Lazy<>("PlaceIndex", () -> {
+            try {
+                return PlaceIndex.open(app);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @NonNull
+    public Gson gson() {
+        return gson.get();
+    }
+
+    @NonNull
+    public WeatherRepository weatherRepository() {
+        return weatherRepository.get();
+    }
+
+    /**
+     * 위치별 예보 이력 (조회는 워커 스레드에서)
+     */
+    @NonNull
+    public ForecastArchive forecastArchive() {
+        return forecastArchive.get();
+    }
+
+    @NonNull
+    public Geocoder geocoder() {
+        return geocoder.get();
+    }
+
+    /**
+     * 디스크 I/O, 위젯 브로드캐스트 후처리용 단일 백그라운드 스레드
+     * (작업이 제출 순서대로 실행됨)
+     */
+    @NonNull
+    public ExecutorService backgroundExecutor() {
+        return backgroundExecutor.get();
+    }
+
+    /**
+     * 동기 Geocoder 조회 전용 스레드 (API 33 미만)
+     * - 네트워크를 쓸 수 있어 느리므로 설정 저장/위젯 후처리가 도는 backgroundExecutor 와 분리
+     */
+    @NonNull
+    public ExecutorService geocodeExecutor() {
+        return geocodeExecutor.get();
+    }
+
+    @NonNull
+    public SettingsStore settingsStore() {
+        return settingsStore.get();
+    }
+
+    /**
+     * 오프라인 도시 검색 인덱스 (assets 메모리 매핑, 도시 검색 화면 진입 시 생성)
+     */
+    @NonNull
+    public CityIndex cityIndex() {
+        return cityIndex.get();
+    }
+
+    /**
+     * 오프라인 최근접 지역 인덱스 (assets 메모리 매핑)
+     */
+    @NonNull
+    public PlaceIndex placeIndex() {
+        return placeIndex.get();
+    }
+
+    /**
+     * 예보 알림 규칙 평가기 (위젯 새로고침 중 백그라운드 스레드에서 사용)
+     */
+    @NonNull
+    public AlertEngine alertEngine() {
+        return alertEngine.get();
+    }
+
+    /**
+     * 새로고침 원인별 에너지 사용 기록 (디버그 화면에서 조회)
+     */
+    @NonNull
+    public EnergyTracker energyTracker() {
+        return energyTracker.get();
+    }
+}
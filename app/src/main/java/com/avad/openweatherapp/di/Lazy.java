@@ -0,0 +1,55 @@
+package com.avad.openweatherapp.di;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Lazy
+ * - 최초 get() 호출 시 한 번만 생성하는 스레드 안전 지연 초기화 홀더
+ *   (double-checked locking)
+ * - 생성 시점은 StartupTrace 에 기록
+ *
+ * @param <T> 보관할 객체 타입
+ */
+public final class Lazy<T> {
+
+    /**
+     * 실제 인스턴스 생성기
+     */
+    public interface Factory<T> {
+        @NonNull
+        T create();
+    }
+
+    private final String name;
+    private final Factory<T> factory;
+    private volatile T value;
+
+    public Lazy(String name, Factory<T> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    @NonNull
+    public T get() {
+        T v = value;
+        if (v == null) {
+            synchronized (this) {
+                v = value;
+                if (v == null) {
+                    StartupTrace.begin(name);
+                    try {
+                        v = factory.create();
+                    } finally {
+                        StartupTrace.end(name);
+                    }
+                    value = v;
+                }
+            }
+        }
+        return v;
+    }
+
+    public boolean isInitialized() {
+        return value != null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.avad.openweatherapp.di;
+
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StartupTrace
+ * - 앱 시작 시 어떤 객체가 첫 프레임 이전에 생성되었고
+ *   어떤 객체가 이후로 지연되었는지 기록
+ * - systrace/Perfetto 에서도 보이도록 android.os.Trace 섹션을 함께 남김
+ * - 첫 프레임 이후 markFirstFrame() 에서 logcat 으로 요약 출력
+ *   (adb logcat -s StartupTrace)
+ */
+public final class StartupTrace {
+
+    private static final String TAG = "StartupTrace";
+
+    private static final List<String> beforeFirstFrame = new ArrayList<>();
+    private static final List<String> afterFirstFrame = new ArrayList<>();
+    private static boolean firstFrameDrawn = false;
+
+    private StartupTrace() {
+    }
+
+    /**
+     * 초기화 구간 시작
+     */
+    public static void begin(String name) {
+        Trace.beginSection(name);
+    }
+
+    /**
+     * 초기화 구간 종료 및 기록 (프로세스 시작 이후 경과 시간)
+     */
+    public static void end(String name) {
+        Trace.endSection();
+        String entry = name + " @" + sinceProcessStart() + "ms";
+        boolean deferred;
+        synchronized (StartupTrace.class) {
+            deferred = firstFrameDrawn;
+            if (deferred) afterFirstFrame.add(entry);
+            else beforeFirstFrame.add(entry);
+        }
+        if (deferred) Log.d(TAG, "deferred init: " + entry);
+    }
+
+    /**
+     * 첫 프레임 이후 지연 생성된 항목 목록
+     */
+    public static synchronized List<String> deferredEntries() {
+        return new ArrayList<>(afterFirstFrame);
+    }
+
+    /**
+     * 첫 프레임이 그려진 시점 표시 후 요약 로그 출력 (최초 1회)
+     */
+    public static void markFirstFrame() {
+        synchronized (StartupTrace.class) {
+            if (firstFrameDrawn) return;
+            firstFrameDrawn = true;
+            Log.i(TAG, "first frame @" + sinceProcessStart() + "ms");
+            Log.i(TAG, "initialised before first frame: " + beforeFirstFrame);
+        }
+    }
+
+    private static long sinceProcessStart() {
+        return SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+    }
+}
@@ -0,0 +1,182 @@
+package com.avad.openweatherapp.repository;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.BuildConfig;
+import com.avad.openweatherapp.data.model.AirPollutionResponse;
+import com.avad.openweatherapp.data.network.WeatherApiService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * AirQualitySource
+ * - 위치(key)별 대기질 예보 조회 + 메모리 캐시
+ *   · FRESH_MS 안에 받은 값이 있으면 요청하지 않고 그대로 사용
+ *     (대기질 예보는 1시간마다 갱신되므로 예보보다 짧게 자주 바꿀 필요 없음)
+ *   · 실패/마감 초과 시 MAX_AGE_MS 안의 이전 값 사용, 없으면 null
+ * - 예보 요청과 같은 OkHttpClient(RetrofitClient) 로 동시에 보냄
+ * - 부가 정보이므로 재시도/헤징 없이 한 번만 요청 (예보 CircuitBreaker 와도 분리)
+ */
+public class AirQualitySource {
+
+    private static final String TAG = "AirQualitySource";
+
+    /** 이 시간 안에 받은 대기질은 다시 요청하지 않음 */
+    static final long FRESH_MS = 60 * 60 * 1000L;
+
+    /** 요청 실패 시 대신 쓸 수 있는 최대 나이 */
+    static final long MAX_AGE_MS = 6 * 60 * 60 * 1000L;
+
+    private static final class Entry {
+        final AirPollutionResponse response;
+        final long fetchedAt;
+
+        Entry(AirPollutionResponse response, long fetchedAt) {
+            this.response = response;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    /**
+     * 진행 중인 대기질 조회 하나 (결과는 정확히 한 번 확정)
+     */
+    static final class Request {
+        private final ScheduledExecutorService scheduler;
+        private final List<Consumer<AirPollutionResponse>> waiting = new ArrayList<>();
+        @Nullable
+        private Call<AirPollutionResponse> call;
+        @Nullable
+        private ScheduledFuture<?> timer;
+        private boolean done;
+        @Nullable
+        private AirPollutionResponse result;
+
+        Request(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * 결과가 확정되면 scheduler 스레드에서 consumer 실행 (이미 확정되었으면 바로 예약)
+         */
+        synchronized void whenDone(Consumer<AirPollutionResponse> consumer) {
+            if (done) {
+                AirPollutionResponse r = result;
+                scheduler.execute(() -> consumer.accept(r));
+            } else {
+                waiting.add(consumer);
+            }
+        }
+
+        /**
+         * whenDone 과 같되 maxWaitMs 안에 확정되지 않으면 fallback 값으로 실행 (consumer 는 한 번만)
+         */
+        void whenDone(long maxWaitMs, Supplier<AirPollutionResponse> fallback,
+                      Consumer<AirPollutionResponse> consumer) {
+            AtomicBoolean delivered = new AtomicBoolean();
+            ScheduledFuture<?> wait = scheduler.schedule(() -> {
+                if (delivered.compareAndSet(false, true)) consumer.accept(fallback.get());
+            }, Math.max(0, maxWaitMs), TimeUnit.MILLISECONDS);
+            whenDone(response -> {
+                if (!delivered.compareAndSet(false, true)) return;
+                wait.cancel(false);
+                consumer.accept(response);
+            });
+        }
+
+        private void complete(@Nullable AirPollutionResponse response) {
+            List<Consumer<AirPollutionResponse>> consumers;
+            synchronized (this) {
+                if (done) return;
+                done = true;
+                result = response;
+                if (timer != null) timer.cancel(false);
+                // 마감으로 확정된 경우 진행 중인 요청 취소 (이미 끝난 요청이면 영향 없음)
+                if (call != null) call.cancel();
+                consumers = new ArrayList<>(waiting);
+                waiting.clear();
+            }
+            for (Consumer<AirPollutionResponse> c : consumers) {
+                scheduler.execute(() -> c.accept(response));
+            }
+        }
+    }
+
+    private final WeatherApiService apiService;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public AirQualitySource(WeatherApiService apiService) {
+        this.apiService = apiService;
+    }
+
+    /**
+     * 캐시가 유효하면 즉시 확정된 Request, 아니면 요청을 보내고 deadlineMs 뒤에는 이전 값으로 확정
+     */
+    @NonNull
+    Request fetch(String key, double lat, double lon, long deadlineMs,
+                  ScheduledExecutorService scheduler) {
+        Request request = new Request(scheduler);
+        Entry entry = cache.get(key);
+        long now = System.currentTimeMillis();
+        if (entry != null && now - entry.fetchedAt < FRESH_MS) {
+            request.complete(entry.response);
+            return request;
+        }
+
+        Call<AirPollutionResponse> call =
+                apiService.getAirPollutionForecast(lat, lon, BuildConfig.BASE_URL);
+        synchronized (request) {
+            request.call = call;
+            request.timer = scheduler.schedule(() -> {
+                Log.w(TAG, "deadline exceeded: " + key);
+                request.complete(cached(key));
+            }, deadlineMs, TimeUnit.MILLISECONDS);
+        }
+        call.enqueue(new Callback<AirPollutionResponse>() {
+            @Override
+            public void onResponse(@NonNull Call<AirPollutionResponse> c,
+                                   @NonNull Response<AirPollutionResponse> response) {
+                AirPollutionResponse body = response.body();
+                if (response.isSuccessful() && body != null && body.list != null) {
+                    cache.put(key, new Entry(body, System.currentTimeMillis()));
+                    request.complete(body);
+                } else {
+                    Log.w(TAG, "HTTP " + response.code() + ": " + key);
+                    request.complete(cached(key));
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<AirPollutionResponse> c, @NonNull Throwable t) {
+                if (!c.isCanceled()) Log.w(TAG, "fetch failed: " + key, t);
+                request.complete(cached(key));
+            }
+        });
+        return request;
+    }
+
+    /**
+     * MAX_AGE_MS 안에 받은 대기질 (없으면 null)
+     */
+    @Nullable
+    AirPollutionResponse cached(String key) {
+        Entry entry = cache.get(key);
+        if (entry == null || System.currentTimeMillis() - entry.fetchedAt > MAX_AGE_MS) return null;
+        return entry.response;
+    }
+}
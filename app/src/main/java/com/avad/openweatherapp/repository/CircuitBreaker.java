@@ -0,0 +1,112 @@
+package com.avad.openweatherapp.repository;
+
+/**
+ * CircuitBreaker
+ * - 연속 실패가 failureThreshold 회 이상이면 openMs 동안 요청을 막음(OPEN)
+ * - openMs 경과 후 시험 요청 1건만 허용(HALF_OPEN), 성공하면 다시 CLOSED
+ *   · 시험 요청이 결과 없이 끝나면(취소, 4xx) releaseTrial() 로 다음 시험 요청 허용
+ *   · 헤징 요청은 CLOSED 에서만 허용 (시험 요청과 별개로 세지 않음)
+ * - 네트워크가 끊긴 상황에서 재시도/헤징이 배터리와 데이터를 낭비하지 않도록 함
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** acquire() 결과: 거부 / 일반 요청 / HALF_OPEN 시험 요청 */
+    public enum Permit { DENIED, NORMAL, TRIAL }
+
+    /**
+     * 현재 시각 공급자 (테스트에서 교체 가능)
+     */
+    public interface Clock {
+        long now();
+    }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean trialInFlight = false;
+
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        this(failureThreshold, openMs, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openMs, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인 (HALF_OPEN 에서는 한 건만 허용)
+     */
+    public boolean allowRequest() {
+        return acquire() != Permit.DENIED;
+    }
+
+    /**
+     * allowRequest 와 같지만 시험 요청인지 함께 반환
+     * (TRIAL 을 받은 쪽이 recordSuccess/recordFailure/releaseTrial 중 하나를 반드시 호출)
+     */
+    public synchronized Permit acquire() {
+        if (state == State.OPEN && clock.now() - openedAt >= openMs) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return Permit.NORMAL;
+            case HALF_OPEN:
+                if (trialInFlight) return Permit.DENIED;
+                trialInFlight = true;
+                return Permit.TRIAL;
+            default:
+                return Permit.DENIED;
+        }
+    }
+
+    /**
+     * 지금 acquire() 를 부르면 거부될지 (상태를 바꾸지 않음, 부가 요청을 보낼지 판단용)
+     */
+    public synchronized boolean wouldDeny() {
+        if (state == State.OPEN) return clock.now() - openedAt < openMs;
+        return state == State.HALF_OPEN && trialInFlight;
+    }
+
+    /**
+     * 헤징 요청 허용 여부 (CLOSED 에서만, 상태를 바꾸지 않음)
+     */
+    public synchronized boolean allowHedge() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * 시험 요청이 성공/실패 판정 없이 끝남 (취소, 4xx) → 다음 요청이 다시 시험 요청이 됨
+     */
+    public synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN) trialInFlight = false;
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.now();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
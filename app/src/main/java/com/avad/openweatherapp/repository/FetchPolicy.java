@@ -0,0 +1,33 @@
+package com.avad.openweatherapp.repository;
+
+/**
+ * FetchPolicy
+ * - 예보 조회 시 호출자별 시간 예산과 재시도/헤징 설정
+ *   · deadlineMs   : 이 시간이 지나면 진행 중인 요청을 취소하고 캐시로 응답
+ *   · maxRetries   : 실패 후 추가 시도 횟수 (IOException, 5xx, 429 만 재시도)
+ *   · backoffMs    : 재시도 대기 기준값 (full jitter: 0 ~ backoffMs * 2^n)
+ *   · hedgeAfterMs : 첫 요청이 이 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보냄 (0 = 사용 안 함)
+ */
+public class FetchPolicy {
+
+    /** 위젯: 백그라운드 작업 시간이 짧으므로 빠르게 포기하고 캐시 사용 */
+    public static final FetchPolicy WIDGET = new FetchPolicy(4_000, 1, 300, 1_500);
+
+    /** 화면: 사용자가 기다리는 중이므로 조금 더 여유 있게 */
+    public static final FetchPolicy ACTIVITY = new FetchPolicy(10_000, 3, 500, 2_500);
+
+    /** 저장된 위치 일괄 새로고침: 헤징 없이 (요청 수가 위치 수만큼 늘어나므로) */
+    public static final FetchPolicy BACKGROUND = new FetchPolicy(15_000, 2, 1_000, 0);
+
+    public final long deadlineMs;
+    public final int maxRetries;
+    public final long backoffMs;
+    public final long hedgeAfterMs;
+
+    public FetchPolicy(long deadlineMs, int maxRetries, long backoffMs, long hedgeAfterMs) {
+        this.deadlineMs = deadlineMs;
+        this.maxRetries = maxRetries;
+        this.backoffMs = backoffMs;
+        this.hedgeAfterMs = hedgeAfterMs;
+    }
+}
@@ -0,0 +1,65 @@
+package com.avad.openweatherapp.repository;
+
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.merge.ForecastDiff;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ForecastResult
+ * - 정책 기반 조회 결과
+ *   · 새로 받은 예보: stale=false
+ *   · 마감 시간 초과/실패/차단 시 가장 최근 캐시: stale=true, ageMillis=캐시 나이
+ *   · 캐시도 없으면 forecast=null
+ * - 대기질은 slot 을 바꾸지 않고 airQuality 맵으로 함께 전달 (불변, 콜백 스레드에서 읽음)
+ */
+public class ForecastResult {
+
+    @Nullable
+    public final ForecastResponse forecast;
+    public final boolean stale;
+    /** 데이터를 받아온 이후 경과 시간 (새 데이터면 0) */
+    public final long ageMillis;
+    /** stale 이거나 데이터가 없을 때 원인 */
+    @Nullable
+    public final Throwable error;
+    /** 새 데이터일 때, 저장소에 있던 이전 예보 대비 slot 변경 내역 */
+    @Nullable
+    public final ForecastDiff diff;
+    /** slot 시각(epoch seconds) → 대기질 (대기질을 조회하지 않았거나 없으면 빈 맵) */
+    public final Map<Long, ForecastResponse.AirQuality> airQuality;
+
+    ForecastResult(@Nullable ForecastResponse forecast, boolean stale,
+                   long ageMillis, @Nullable Throwable error) {
+        this(forecast, stale, ageMillis, error, null, Collections.emptyMap());
+    }
+
+    private ForecastResult(@Nullable ForecastResponse forecast, boolean stale, long ageMillis,
+                           @Nullable Throwable error, @Nullable ForecastDiff diff,
+                           Map<Long, ForecastResponse.AirQuality> airQuality) {
+        this.forecast = forecast;
+        this.stale = stale;
+        this.ageMillis = ageMillis;
+        this.error = error;
+        this.diff = diff;
+        this.airQuality = airQuality;
+    }
+
+    /**
+     * 같은 결과에 대기질 맵만 바꾼 사본
+     */
+    ForecastResult withAirQuality(Map<Long, ForecastResponse.AirQuality> airQuality) {
+        return new ForecastResult(forecast, stale, ageMillis, error, diff, airQuality);
+    }
+
+    public boolean hasData() {
+        return forecast != null && forecast.list != null;
+    }
+
+    static ForecastResult fresh(ForecastResponse forecast, ForecastDiff diff) {
+        return new ForecastResult(forecast, false, 0, null, diff, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,144 @@
+package com.avad.openweatherapp.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.local.SavedLocation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LocationRefreshPipeline
+ * - 저장된 여러 위치의 예보를 동시 요청 수를 제한하여 새로고침
+ *   · 같은 cell 의 위치는 한 번만 조회 (대기/진행 중인 cell 은 다시 넣지 않음)
+ *   · 화면에 보이는 위치를 가장 먼저, 이후 prioritize() 로 순서 변경 가능
+ *   · 동시에 maxConcurrent 건까지만 진행, 하나가 끝나면 다음 cell 시작
+ * - 각 결과는 WeatherRepository 가 key(cellKey) 별 캐시에 병합/저장한 뒤 전달
+ *   (연결 풀은 RetrofitClient 의 OkHttpClient 하나를 공유)
+ */
+public class LocationRefreshPipeline {
+
+    /**
+     * cell 별 새로고침 결과 (WeatherRepository 의 callbackExecutor 에서 호출)
+     */
+    public interface Listener {
+        void onLocationRefreshed(@NonNull String cellKey, @NonNull ForecastResult result);
+    }
+
+    private static class Job {
+        final String key;
+        final double lat;
+        final double lon;
+
+        Job(String key, double lat, double lon) {
+            this.key = key;
+            this.lat = lat;
+            this.lon = lon;
+        }
+    }
+
+    private final WeatherRepository repository;
+    private final int maxConcurrent;
+    private final FetchPolicy policy;
+
+    private final ArrayDeque<Job> queue = new ArrayDeque<>();
+    private final Set<String> inflight = new HashSet<>();
+
+    @Nullable
+    private Listener listener;
+
+    public LocationRefreshPipeline(WeatherRepository repository, int maxConcurrent,
+                                   FetchPolicy policy) {
+        if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent < 1");
+        this.repository = repository;
+        this.maxConcurrent = maxConcurrent;
+        this.policy = policy;
+    }
+
+    /**
+     * 위치 목록 새로고침 요청
+     * @param visibleKey 화면에 보이는 위치의 cellKey (가장 먼저 조회, 없으면 null)
+     * @param listener   결과 수신 (이전 refresh 의 listener 를 대체)
+     */
+    public void refresh(List<SavedLocation> locations, @Nullable String visibleKey,
+                        @NonNull Listener listener) {
+        synchronized (this) {
+            this.listener = listener;
+            for (SavedLocation l : locations) {
+                String key = l.cellKey();
+                if (inflight.contains(key) || isQueued(key)) continue;
+                queue.addLast(new Job(key, l.lat, l.lon));
+            }
+            if (visibleKey != null) moveToFront(visibleKey);
+        }
+        pump();
+    }
+
+    /**
+     * 대기 중인 cell 을 다음 순서로 당김 (이미 진행 중이거나 없으면 무시)
+     */
+    public synchronized void prioritize(String cellKey) {
+        moveToFront(cellKey);
+    }
+
+    /** 대기 중인 cell 수 */
+    public synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    /** 진행 중인 cell 수 */
+    public synchronized int inflightCount() {
+        return inflight.size();
+    }
+
+    /**
+     * 빈 자리만큼 대기열에서 꺼내 요청 시작 (요청 발송은 락 밖에서)
+     */
+    private void pump() {
+        List<Job> start = new ArrayList<>();
+        synchronized (this) {
+            while (inflight.size() < maxConcurrent && !queue.isEmpty()) {
+                Job job = queue.pollFirst();
+                inflight.add(job.key);
+                start.add(job);
+            }
+        }
+        for (Job job : start) {
+            repository.fetchForecast(job.key, job.lat, job.lon, policy,
+                    result -> onDone(job, result));
+        }
+    }
+
+    private void onDone(Job job, ForecastResult result) {
+        Listener l;
+        synchronized (this) {
+            inflight.remove(job.key);
+            l = listener;
+        }
+        if (l != null) l.onLocationRefreshed(job.key, result);
+        pump();
+    }
+
+    private boolean isQueued(String key) {
+        for (Job job : queue) {
+            if (job.key.equals(key)) return true;
+        }
+        return false;
+    }
+
+    private void moveToFront(String key) {
+        for (Iterator<Job> it = queue.iterator(); it.hasNext(); ) {
+            Job job = it.next();
+            if (job.key.equals(key)) {
+                it.remove();
+                queue.addFirst(job);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.avad.openweatherapp.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * PolicyFetch
+ * - FetchPolicy 에 따라 한 번의 예보 조회를 수행하는 상태 객체
+ *   · 마감 시간 타이머
+ *   · 지터가 적용된 재시도
+ *   · 느린 요청에 대한 헤징(동일 요청 1회 추가)
+ *   · CircuitBreaker 확인 (헤징 요청은 CLOSED 일 때만, 시험 요청은 끝나는 방식과 관계없이 반납)
+ *   · 원 요청/헤징/재시도가 여러 번 실패해도 차단기에는 조회 한 번당 실패 한 번만 기록
+ * - 결과는 정확히 한 번 callbackExecutor 로 전달
+ */
+class PolicyFetch {
+
+    /** 새 Retrofit Call 생성 */
+    interface CallFactory {
+        Call<ForecastResponse> newCall();
+    }
+
+    /** 실패/마감 시 캐시 결과 생성 (워커 스레드에서 호출) */
+    interface Fallback {
+        ForecastResult fallback(Throwable cause);
+    }
+
+    private final CallFactory calls;
+    private final FetchPolicy policy;
+    private final CircuitBreaker breaker;
+    private final ScheduledExecutorService scheduler;
+    private final Executor callbackExecutor;
+    private final Fallback fallback;
+    private final WeatherRepository.ForecastCallback callback;
+    private final WeatherRepository.SuccessProcessor successProcessor;
+
+    private final List<Call<ForecastResponse>> inflight = new ArrayList<>();
+    private final List<ScheduledFuture<?>> timers = new ArrayList<>();
+    /** HALF_OPEN 시험 요청으로 보낸 call (판정/반납 전까지) */
+    @Nullable
+    private Call<ForecastResponse> trialCall;
+    private long startedAt;
+    private int attempts = 0;
+    private boolean hedged = false;
+    private boolean done = false;
+    /** 이 조회에서 차단기에 실패를 기록했는지 */
+    private boolean failureRecorded = false;
+
+    PolicyFetch(CallFactory calls, FetchPolicy policy, CircuitBreaker breaker,
+                ScheduledExecutorService scheduler, Executor callbackExecutor,
+                Fallback fallback, WeatherRepository.SuccessProcessor successProcessor,
+                WeatherRepository.ForecastCallback callback) {
+        this.calls = calls;
+        this.policy = policy;
+        this.breaker = breaker;
+        this.scheduler = scheduler;
+        this.callbackExecutor = callbackExecutor;
+        this.fallback = fallback;
+        this.successProcessor = successProcessor;
+        this.callback = callback;
+    }
+
+    synchronized void start() {
+        startedAt = System.currentTimeMillis();
+        timers.add(scheduler.schedule(this::onDeadline, policy.deadlineMs, TimeUnit.MILLISECONDS));
+        launch(false);
+    }
+
+    /**
+     * 요청 1건 발송
+     * @param hedge true 면 재시도가 아닌 헤징 요청 (시도 횟수에 포함하지 않음)
+     */
+    private synchronized void launch(boolean hedge) {
+        if (done) return;
+        CircuitBreaker.Permit permit;
+        if (hedge) {
+            // 헤징은 원 요청이 진행 중일 때의 추가 요청이므로 차단기 상태만 확인
+            if (!breaker.allowHedge()) return;
+            permit = CircuitBreaker.Permit.NORMAL;
+        } else {
+            permit = breaker.acquire();
+        }
+        if (permit == CircuitBreaker.Permit.DENIED) {
+            finishWithFallback(new IOException("circuit open"));
+            return;
+        }
+        if (!hedge) attempts++;
+
+        Call<ForecastResponse> call = calls.newCall();
+        inflight.add(call);
+        if (permit == CircuitBreaker.Permit.TRIAL) trialCall = call;
+        call.enqueue(new Callback<ForecastResponse>() {
+            @Override
+            public void onResponse(@NonNull Call<ForecastResponse> c,
+                                   @NonNull Response<ForecastResponse> response) {
+                handleResponse(c, response);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<ForecastResponse> c, @NonNull Throwable t) {
+                handleFailure(c, t);
+            }
+        });
+
+        if (!hedge && !hedged && policy.hedgeAfterMs > 0) {
+            timers.add(scheduler.schedule(() -> hedgeIfSlow(call),
+                    policy.hedgeAfterMs, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private synchronized void hedgeIfSlow(Call<ForecastResponse> call) {
+        if (done || hedged || !inflight.contains(call)) return;
+        hedged = true;
+        launch(true);
+    }
+
+    private synchronized void handleResponse(Call<ForecastResponse> call,
+                                             Response<ForecastResponse> response) {
+        inflight.remove(call);
+        if (done) return;
+
+        boolean trial = call == trialCall;
+        if (trial) trialCall = null;
+        if (response.isSuccessful() && response.body() != null) {
+            breaker.recordSuccess();
+            complete(response.body());
+            return;
+        }
+
+        // 5xx, 429 만 일시적 오류로 보고 재시도 (4xx 는 API 키/파라미터 문제)
+        int code = response.code();
+        boolean retryable = code >= 500 || code == 429;
+        if (retryable) recordFailure(trial);
+        else if (trial) breaker.releaseTrial();
+        onFailed(new IOException("HTTP " + code), retryable);
+    }
+
+    private synchronized void handleFailure(Call<ForecastResponse> call, Throwable t) {
+        inflight.remove(call);
+        if (done || call.isCanceled()) {
+            releaseTrial(call);
+            return;
+        }
+        boolean trial = call == trialCall;
+        if (trial) trialCall = null;
+        recordFailure(trial);
+        onFailed(t, true);
+    }
+
+    /**
+     * 차단기에 실패 기록 (조회 한 번에 한 번만)
+     * - 시험 요청의 실패는 판정이므로 항상 기록 (HALF_OPEN → OPEN)
+     */
+    private void recordFailure(boolean trial) {
+        if (failureRecorded && !trial) return;
+        failureRecorded = true;
+        breaker.recordFailure();
+    }
+
+    private void onFailed(Throwable error, boolean retryable) {
+        // 헤징 요청이 아직 진행 중이면 그 결과를 기다림
+        if (!inflight.isEmpty()) return;
+
+        if (retryable && attempts <= policy.maxRetries) {
+            long delay = jitteredBackoff();
+            long elapsed = System.currentTimeMillis() - startedAt;
+            if (elapsed + delay < policy.deadlineMs) {
+                timers.add(scheduler.schedule(() -> launch(false), delay, TimeUnit.MILLISECONDS));
+                return;
+            }
+        }
+        finishWithFallback(error);
+    }
+
+    private synchronized void onDeadline() {
+        if (done) return;
+        finishWithFallback(new InterruptedIOException("deadline " + policy.deadlineMs + "ms exceeded"));
+    }
+
+    /**
+     * full jitter: 0 ~ backoffMs * 2^(attempts-1)
+     */
+    private long jitteredBackoff() {
+        long cap = policy.backoffMs << Math.min(attempts - 1, 10);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void complete(ForecastResponse body) {
+        done = true;
+        cancelAll();
+        // 병합/저장은 워커 스레드에서 처리 후 결과 전달
+        scheduler.execute(() -> {
+            ForecastResult result = successProcessor.process(body);
+            callbackExecutor.execute(() -> callback.onResult(result));
+        });
+    }
+
+    private void finishWithFallback(Throwable cause) {
+        done = true;
+        cancelAll();
+        // 캐시 조회(디스크 I/O 가능)는 워커 스레드에서
+        scheduler.execute(() -> {
+            ForecastResult result = fallback.fallback(cause);
+            callbackExecutor.execute(() -> callback.onResult(result));
+        });
+    }
+
+    /**
+     * 판정 없이 끝난 시험 요청 반납 (이미 판정/반납했으면 무시)
+     */
+    private void releaseTrial(Call<ForecastResponse> call) {
+        if (call != trialCall) return;
+        trialCall = null;
+        breaker.releaseTrial();
+    }
+
+    private void cancelAll() {
+        for (Call<ForecastResponse> c : inflight) {
+            c.cancel();
+            releaseTrial(c);
+        }
+        inflight.clear();
+        for (ScheduledFuture<?> f : timers) f.cancel(false);
+        timers.clear();
+    }
+}
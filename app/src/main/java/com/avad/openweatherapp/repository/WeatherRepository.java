@@ -1,24 +1,189 @@
 package com.avad.openweatherapp.repository;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 import com.avad.openweatherapp.BuildConfig;
+import com.avad.openweatherapp.data.air.AirQualityJoin;
+import com.avad.openweatherapp.data.history.ForecastArchive;
+import com.avad.openweatherapp.data.local.ForecastDiskCache;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.AirPollutionResponse;
 import com.avad.openweatherapp.data.model.ForecastResponse;
 import com.avad.openweatherapp.data.network.RetrofitClient;
 import com.avad.openweatherapp.data.network.WeatherApiService;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
 import retrofit2.Callback;
 
 public class WeatherRepository {
 
+    /**
+     * 정책 기반 조회 결과 콜백
+     */
+    public interface ForecastCallback {
+        void onResult(@NonNull ForecastResult result);
+    }
+
+    /**
+     * 새 예보 수신 후 병합/저장 처리 (내부용, 워커 스레드)
+     */
+    interface SuccessProcessor {
+        ForecastResult process(ForecastResponse response);
+    }
+
     private final WeatherApiService apiService;
 
     /**
      * OpenWeatherMap API 공통 파라미터
+     * - 캐시는 위치별 한 벌뿐이므로 단위/언어 설정과 무관하게 항상 같은 값으로 요청
+     *   (표시 단위 변환과 상태 문구는 DisplayOptions 가 로컬에서 처리)
+     */
+    private static final String UNIT = "metric";  // 캐시 기준 단위: 섭씨
+    private static final String LANG = "kr";      // 테이블에 없는 상태 코드의 대체 문구용
+
+    /** 연속 3회 실패 시 30초간 요청 차단 */
+    private final CircuitBreaker breaker = new CircuitBreaker(3, 30_000);
+
+    /** 마감/재시도/헤징 타이머 및 캐시 I/O 용 */
+    private final ScheduledExecutorService scheduler = newScheduler();
+
+    /** 현재 위치(기본 캐시)를 나타내는 키 */
+    public static final String DEFAULT_KEY = "current";
+
+    /**
+     * 위치별 캐시 (메모리 최신값 + 디스크)
+     */
+    private static class LocationCache {
+        /** DEFAULT_KEY 또는 SavedLocation.cellKey (예보 이력 key) */
+        final String key;
+
+        @Nullable
+        final ForecastDiskCache disk;
+
+        /** 메모리에 보관하는 가장 최근 예보 */
+        @Nullable
+        volatile ForecastDiskCache.Entry latest;
+
+        LocationCache(String key, @Nullable ForecastDiskCache disk) {
+            this.key = key;
+            this.disk = disk;
+        }
+    }
+
+    @Nullable
+    private final ForecastDiskCache diskCache;
+
+    /** 받은 예보를 모두 기록하는 이력 (없으면 기록하지 않음) */
+    @Nullable
+    private final ForecastArchive archive;
+
+    /**
+     * 이력 기록/compaction 전용 스레드 (archive 가 없으면 null)
+     * - 파일 I/O 가 scheduler 의 마감/재시도/헤징 타이머를 늦추지 않도록 분리
      */
-    private static final String UNIT = "metric";  // 섭씨
-    private static final String LANG = "kr";      // 한글 응답
+    @Nullable
+    private final ExecutorService archiveExecutor;
+
+    /** 예보와 함께 조회해 slot 에 붙일 대기질 (없으면 예보만 조회) */
+    @Nullable
+    private final AirQualitySource airQuality;
+
+    /** key(DEFAULT_KEY 또는 SavedLocation.cellKey) → 캐시 */
+    private final Map<String, LocationCache> caches = new ConcurrentHashMap<>();
+
+    private Executor callbackExecutor;
 
     public WeatherRepository() {
-        this.apiService = RetrofitClient.getInstance();
+        this(RetrofitClient.getInstance());
+    }
+
+    /**
+     * @param apiService 사용할 API 서비스 (테스트 시 로컬 서버용 서비스 주입)
+     */
+    public WeatherRepository(WeatherApiService apiService) {
+        this(apiService, null);
+    }
+
+    /**
+     * @param diskCache 마감 초과 시 사용할 디스크 캐시 (없으면 메모리 캐시만 사용)
+     */
+    public WeatherRepository(WeatherApiService apiService, @Nullable ForecastDiskCache diskCache) {
+        this(apiService, diskCache, null);
+    }
+
+    /**
+     * @param archive 받은 예보를 병합 전 원본 그대로 기록할 이력 저장소
+     */
+    public WeatherRepository(WeatherApiService apiService, @Nullable ForecastDiskCache diskCache,
+                             @Nullable ForecastArchive archive) {
+        this(apiService, diskCache, archive, null);
+    }
+
+    /**
+     * @param airQuality 예보와 동시에 조회할 대기질 (결과는 ForecastResult.airQuality 로 전달)
+     */
+    public WeatherRepository(WeatherApiService apiService, @Nullable ForecastDiskCache diskCache,
+                             @Nullable ForecastArchive archive,
+                             @Nullable AirQualitySource airQuality) {
+        this.apiService = apiService;
+        this.diskCache = diskCache;
+        this.archive = archive;
+        this.archiveExecutor = archive != null ? newArchiveExecutor() : null;
+        this.airQuality = airQuality;
+        caches.put(DEFAULT_KEY, new LocationCache(DEFAULT_KEY, diskCache));
+    }
+
+    /**
+     * 단일 스레드 scheduler
+     * - 취소된 타이머는 큐에서 바로 제거 (기본값이면 마감 시각까지 남아
+     *   PolicyFetch 와 그 콜백이 잡고 있는 ViewModel 을 계속 참조함)
+     */
+    private static ScheduledExecutorService newScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "weather-fetch");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * 이력 기록용 단일 스레드 (기록 순서 = 수신 순서)
+     */
+    private static ExecutorService newArchiveExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "weather-archive");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 정책 결과를 전달할 Executor 지정 (기본: 메인 스레드)
+     */
+    public synchronized void setCallbackExecutor(Executor executor) {
+        this.callbackExecutor = executor;
+    }
+
+    private synchronized Executor callbackExecutor() {
+        if (callbackExecutor == null) {
+            Handler main = new Handler(Looper.getMainLooper());
+            callbackExecutor = main::post;
+        }
+        return callbackExecutor;
     }
 
     /**
@@ -28,4 +193,134 @@ public class WeatherRepository {
         apiService.getWeekendWeather(lat, lon, BuildConfig.BASE_URL, UNIT, LANG)
                 .enqueue(callback);
     }
-}
\ No newline at end of file
+
+    /**
+     * 정책 기반 예보 조회
+     * - policy.deadlineMs 안에 새 데이터를 못 받으면 가장 최근 캐시를 stale 로 전달
+     * - 결과는 항상 정확히 한 번 전달
+     */
+    public void fetchForecast(double lat, double lon, FetchPolicy policy,
+                              @NonNull ForecastCallback callback) {
+        fetchForecast(DEFAULT_KEY, lat, lon, policy, callback);
+    }
+
+    /**
+     * 저장된 위치의 정책 기반 예보 조회
+     * - 병합/캐시는 key 별로 분리 (현재 위치 캐시와 섞이지 않음)
+     * - 대기질을 쓰면 예보와 동시에 요청하고, 새 예보를 받으면 마감까지 남은 시간 안에서만
+     *   대기질을 기다려 붙여서 전달 → 전체 시간은 두 요청의 합이 아니라 느린 쪽 하나에 가까움
+     * - 캐시 예보(stale)나 실패 결과는 대기질을 기다리지 않고 이미 받아 둔 대기질만 붙여 바로 전달
+     * - 차단기가 예보 요청을 막는 중이면 대기질 요청도 보내지 않음
+     * @param key DEFAULT_KEY 또는 SavedLocation.cellKey()
+     */
+    public void fetchForecast(String key, double lat, double lon, FetchPolicy policy,
+                              @NonNull ForecastCallback callback) {
+        LocationCache cache = cache(key);
+        Executor executor = callbackExecutor();
+        if (airQuality == null) {
+            startFetch(cache, lat, lon, policy, executor, callback);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AirQualitySource.Request air = breaker.wouldDeny()
+                ? null : airQuality.fetch(key, lat, lon, policy.deadlineMs, scheduler);
+        // 예보 결과는 scheduler 스레드에서 바로 받아 대기질을 slot 별 맵으로 붙인 뒤 전달
+        startFetch(cache, lat, lon, policy, Runnable::run, result -> {
+            if (air == null || result.stale || !result.hasData()) {
+                ForecastResult joined = withAirQuality(result, airQuality.cached(key));
+                executor.execute(() -> callback.onResult(joined));
+                return;
+            }
+            long left = policy.deadlineMs - (System.currentTimeMillis() - startedAt);
+            air.whenDone(left, () -> airQuality.cached(key), response -> {
+                ForecastResult joined = withAirQuality(result, response);
+                executor.execute(() -> callback.onResult(joined));
+            });
+        });
+    }
+
+    private static ForecastResult withAirQuality(ForecastResult result,
+                                                 @Nullable AirPollutionResponse air) {
+        return result.hasData()
+                ? result.withAirQuality(AirQualityJoin.join(result.forecast.list, air))
+                : result;
+    }
+
+    private void startFetch(LocationCache cache, double lat, double lon, FetchPolicy policy,
+                            Executor executor, @NonNull ForecastCallback callback) {
+        new PolicyFetch(
+                () -> apiService.getWeekendWeather(lat, lon, BuildConfig.BASE_URL, UNIT, LANG),
+                policy, breaker, scheduler, executor,
+                cause -> fallback(cache, cause),
+                response -> remember(cache, response),
+                callback
+        ).start();
+    }
+
+    /**
+     * 네트워크 없이 캐시된 예보만 조회 (메모리 → 디스크)
+     * - 위치 전환 시 사용, 캐시가 없으면 response 가 null 인 결과 전달
+     * - 유효한 대기질 캐시가 있으면 함께 붙임
+     */
+    public void loadCached(String key, @NonNull ForecastCallback callback) {
+        LocationCache cache = cache(key);
+        Executor executor = callbackExecutor();
+        scheduler.execute(() -> {
+            ForecastResult cached = fallback(cache, null);
+            ForecastResult result = airQuality != null
+                    ? withAirQuality(cached, airQuality.cached(key)) : cached;
+            executor.execute(() -> callback.onResult(result));
+        });
+    }
+
+    private LocationCache cache(String key) {
+        return caches.computeIfAbsent(key, k ->
+                new LocationCache(k, diskCache != null ? diskCache.forLocation(k) : null));
+    }
+
+    /**
+     * 새 예보를 기존 예보와 slot 단위로 병합
+     * - 메모리에는 병합 결과 보관, 디스크에는 변경된 slot 만 저장
+     * - 이력에는 병합 전 받은 그대로의 예보를 archive 스레드에서 기록 (지난 slot 이 섞이지 않도록)
+     * - scheduler 스레드에서만 호출
+     */
+    private ForecastResult remember(LocationCache cache, ForecastResponse response) {
+        long now = System.currentTimeMillis();
+        if (archive != null) {
+            // 아래에서 response.list 가 병합 결과로 바뀌므로 받은 리스트를 따로 넘김
+            ForecastResponse received = new ForecastResponse();
+            received.list = response.list;
+            archiveExecutor.execute(() -> archive.append(cache.key, received, now));
+        }
+        ForecastDiskCache.Entry previous = cache.latest;
+        if (previous == null && cache.disk != null) previous = cache.disk.load();
+
+        ForecastMerger.Result merge = ForecastMerger.merge(
+                previous != null ? previous.response.list : null, response.list);
+        response.list = merge.merged;
+        cache.latest = new ForecastDiskCache.Entry(response, now);
+
+        if (cache.disk != null) {
+            int written = cache.disk.apply(merge.diff, now);
+            Log.d("WeatherRepository", merge.diff + " → " + written + " slot files");
+        }
+        return ForecastResult.fresh(response, merge.diff);
+    }
+
+    /**
+     * 메모리 → 디스크 순으로 가장 최근 예보 조회
+     */
+    private ForecastResult fallback(LocationCache cache, @Nullable Throwable cause) {
+        ForecastDiskCache.Entry entry = cache.latest;
+        if (entry == null && cache.disk != null) {
+            entry = cache.disk.load();
+            if (entry != null && cache.latest == null) cache.latest = entry;
+        }
+        if (entry == null) {
+            return new ForecastResult(null, false, 0, cause);
+        }
+        long age = Math.max(0, System.currentTimeMillis() - entry.fetchedAt);
+        return new ForecastResult(entry.response, true, age, cause);
+    }
+}
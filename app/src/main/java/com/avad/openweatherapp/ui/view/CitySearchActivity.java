@@ -0,0 +1,101 @@
+package com.avad.openweatherapp.ui.view;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.util.Log;
+import android.view.View;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.graphics.Insets;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.WindowInsetsCompat;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.adapter.CityAdapter;
+import com.avad.openweatherapp.data.search.CityIndex;
+import com.avad.openweatherapp.databinding.ActivityCitySearchBinding;
+
+import java.util.List;
+
+/**
+ * CitySearchActivity
+ * - 앱에 포함된 도시 인덱스(CityIndex)로 입력할 때마다 오프라인 검색
+ * - 선택한 도시의 이름/위도/경도를 결과 Intent 로 돌려줌
+ */
+public class CitySearchActivity extends AppCompatActivity {
+
+    public static final String EXTRA_NAME = "city_name";
+    public static final String EXTRA_LAT = "city_lat";
+    public static final String EXTRA_LON = "city_lon";
+
+    /** 한 번에 보여줄 최대 결과 수 */
+    private static final int MAX_RESULTS = 30;
+
+    private ActivityCitySearchBinding binding;
+    private CityAdapter adapter;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityCitySearchBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        ViewCompat.setOnApplyWindowInsetsListener(binding.citySearchRoot, (v, insets) -> {
+            Insets sys = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            v.setPadding(sys.left, sys.top, sys.right, sys.bottom);
+            return insets;
+        });
+
+        adapter = new CityAdapter(this::returnCity);
+        binding.cityRv.setLayoutManager(new LinearLayoutManager(this));
+        binding.cityRv.setAdapter(adapter);
+
+        // 인덱스 검색은 메모리 매핑 위 이진 탐색이라 입력 이벤트에서 바로 실행
+        binding.queryEt.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                search(s.toString());
+            }
+        });
+        binding.queryEt.requestFocus();
+    }
+
+    private void search(String query) {
+        List<CityIndex.City> result;
+        try {
+            result = WeatherApplication.container().cityIndex().search(query, MAX_RESULTS);
+        } catch (RuntimeException e) {
+            Log.e("CitySearch", "도시 인덱스 열기 실패", e);
+            return;
+        }
+        adapter.submitList(result);
+        boolean empty = result.isEmpty() && !query.trim().isEmpty();
+        binding.emptyTv.setVisibility(empty ? View.VISIBLE : View.GONE);
+    }
+
+    private void returnCity(CityIndex.City city) {
+        Intent data = new Intent()
+                .putExtra(EXTRA_NAME, city.name)
+                .putExtra(EXTRA_LAT, city.lat)
+                .putExtra(EXTRA_LON, city.lon);
+        setResult(RESULT_OK, data);
+        finish();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        binding = null;
+    }
+}
@@ -4,12 +4,11 @@ import static android.view.View.GONE;
 import static android.view.View.VISIBLE;
 
 import android.Manifest;
-import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
 import android.location.Address;
 import android.location.Geocoder;
+import android.os.Build;
 import android.os.Bundle;
 import android.util.Log;
 import android.widget.Toast;
@@ -17,6 +16,8 @@ import android.widget.Toast;
 import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.app.ActivityCompat;
 import androidx.core.graphics.Insets;
@@ -25,36 +26,77 @@ import androidx.core.view.WindowInsetsCompat;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
-import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.BuildConfig;
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.adapter.DayHeaderDecoration;
+import com.avad.openweatherapp.adapter.DaySnapListener;
 import com.avad.openweatherapp.adapter.ForecastDailyAdapter;
 import com.avad.openweatherapp.adapter.WeekendWeatherAdapter;
+import com.avad.openweatherapp.data.alert.AlertRule;
+import com.avad.openweatherapp.data.cache.ForecastCacheManager;
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+import com.avad.openweatherapp.data.energy.EnergyLedger;
+import com.avad.openweatherapp.data.energy.RefreshTrigger;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.local.SavedLocation;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.location.LocationProvider;
+import com.avad.openweatherapp.data.merge.ForecastDiff;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
 import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.data.search.PlaceIndex;
+import com.avad.openweatherapp.data.timeline.HourlyInterpolator;
 import com.avad.openweatherapp.databinding.ActivityMainBinding;
+import com.avad.openweatherapp.di.StartupTrace;
 import com.avad.openweatherapp.ui.viewmodel.WeatherViewModel;
+import com.avad.openweatherapp.widget.WeatherUpdateService;
 import com.bumptech.glide.Glide;
-import com.google.android.gms.location.FusedLocationProviderClient;
-import com.google.android.gms.location.LocationServices;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 public class MainActivity extends AppCompatActivity {
 
     private ActivityMainBinding binding;
     private WeatherViewModel viewModel;
-    private FusedLocationProviderClient fusedLocationClient;
+    private LocationProvider locationProvider;
 
     /**
      * 위젯에서 전달된 클릭 인덱스 저장 (0=오늘, 1=내일, 2=모레…)
      */
     private int widgetIndex = 0;
 
+    /** summary 에 표시 중인 slot 시각 (epoch seconds, 없으면 -1) */
+    private long summarySlot = -1;
+
+    /** 앱 실행(ACTIVITY_LAUNCH) 에너지 기록, 첫 예보 표시까지 (재생성 시 null) */
+    private EnergyLedger.Session launchSession;
+
+    /** 도시 검색 화면 결과 수신 */
+    private final ActivityResultLauncher<Intent> citySearchLauncher = registerForActivityResult(
+            new ActivityResultContracts.StartActivityForResult(),
+            result -> {
+                Intent data = result.getData();
+                if (result.getResultCode() != RESULT_OK || data == null) return;
+                onCitySelected(
+                        data.getStringExtra(CitySearchActivity.EXTRA_NAME),
+                        data.getDoubleExtra(CitySearchActivity.EXTRA_LAT, 0),
+                        data.getDoubleExtra(CitySearchActivity.EXTRA_LON, 0));
+            });
+
+    /** 알림 권한 요청 (Android 13 이상, 알림 규칙을 켤 때) */
+    private final ActivityResultLauncher<String> notificationPermissionLauncher =
+            registerForActivityResult(new ActivityResultContracts.RequestPermission(), granted -> {
+                if (!granted) {
+                    Toast.makeText(this, "알림 권한이 없어 날씨 알림을 표시할 수 없습니다.",
+                            Toast.LENGTH_LONG).show();
+                }
+            });
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -63,6 +105,15 @@ public class MainActivity extends AppCompatActivity {
         binding = ActivityMainBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
 
+        // 첫 프레임 이후 시작 추적 요약 출력
+        binding.getRoot().post(StartupTrace::markFirstFrame);
+
+        // 새로 실행된 경우만 첫 예보 표시까지를 앱 실행 작업으로 기록
+        if (savedInstanceState == null) {
+            launchSession = WeatherApplication.container().energyTracker()
+                    .begin(RefreshTrigger.ACTIVITY_LAUNCH);
+        }
+
         // 위젯에서 전달된 인덱스 읽기
         widgetIndex = getIntent().getIntExtra("widget_index", 0);
 
@@ -78,6 +129,19 @@ public class MainActivity extends AppCompatActivity {
 
         // LiveData 관찰 및 UI 세팅 (위젯 인덱스 적용)
         observeWeatherData();
+
+        // 도시 검색 화면 열기
+        binding.searchIv.setOnClickListener(v ->
+                citySearchLauncher.launch(new Intent(this, CitySearchActivity.class)));
+
+        // 표시 단위/언어 설정
+        binding.settingIv.setOnClickListener(v -> showDisplayOptionsDialog());
+
+        // 위치 이름 탭 → 다음 저장 위치로 전환 (캐시에서 바로 표시)
+        binding.locationTv.setOnClickListener(v -> viewModel.pageLocation(1));
+
+        // 저장된 위치는 백그라운드에서 일괄 새로고침
+        viewModel.refreshSavedLocations();
     }
 
     /**
@@ -111,11 +175,10 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * FusedLocationProviderClient 인스턴스 획득
+     * LocationProvider 인스턴스 생성
      */
     private void initLocationClient() {
-        fusedLocationClient = LocationServices
-                .getFusedLocationProviderClient(this);
+        locationProvider = new LocationProvider(this);
     }
 
     /**
@@ -146,60 +209,227 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * 마지막 위치 정보 조회 후
-     * - SharedPreferences 에 위도/경도 저장
+     * LocationProvider 로 위치 조회 (캐시 -> 현재 위치 -> 저장된 좌표, 전체 하드 타임아웃)
+     * - 새로 얻은 좌표는 LocationProvider.store() 로 SettingsStore 에 저장
      * - 뷰모델 fetchForecast() 호출
      * - 주소(행정구/동) 텍스트뷰에 세팅
+     * - 사용할 좌표가 전혀 없으면 로딩 표시를 내리고 안내
      */
     private void getCurrentLocation() {
-        if (ActivityCompat.checkSelfPermission(this,
-                Manifest.permission.ACCESS_FINE_LOCATION)
-                != PackageManager.PERMISSION_GRANTED) return;
-
-        fusedLocationClient.getLastLocation()
-                .addOnSuccessListener(this, loc -> {
-                    if (loc != null) {
-                        SharedPreferences prefs =
-                                this.getSharedPreferences("prefs", Context.MODE_PRIVATE);
-                        prefs.edit()
-                                .putLong("lat", Double.doubleToRawLongBits(loc.getLatitude()))
-                                .putLong("lon", Double.doubleToRawLongBits(loc.getLongitude()))
-                                .apply();
-
-                        viewModel.fetchForecast(loc.getLatitude(), loc.getLongitude());
-                        showAddressFromLatLng(loc.getLatitude(), loc.getLongitude());
+        locationProvider.requestLocation(fix -> {
+            if (binding == null) return;
+
+            if (!fix.isAvailable()) {
+                if (!viewModel.isCurrentLocationVisible()) return;
+                binding.loadingLl.setVisibility(GONE);
+                endLaunchSession();
+                Toast.makeText(this,
+                        "위치를 확인할 수 없습니다.\n잠시 후 다시 시도해주세요.",
+                        Toast.LENGTH_LONG).show();
+                return;
+            }
+
+            Log.d("MainActivity", "위치 출처: " + fix.source + ", " + fix.ageMillis + "ms 전");
+            locationProvider.store(fix);
+            viewModel.fetchForecast(fix.lat, fix.lon);
+            showAddressFromLatLng(fix.lat, fix.lon);
+        });
+    }
+
+    /**
+     * 도시 검색에서 선택한 도시를 저장 위치로 추가하고 그 페이지로 이동
+     * - 캐시가 없으면 뷰모델이 새로고침 파이프라인에서 우선 조회
+     */
+    private void onCitySelected(String name, double lat, double lon) {
+        binding.locationTv.setVisibility(VISIBLE);
+        viewModel.saveLocation(name, lat, lon);
+    }
+
+    /**
+     * 표시 단위/언어, 알림 규칙 선택 대화상자
+     * - 단위/언어는 선택 즉시 메모리의 예보로 화면을 다시 그리고, 위젯은 캐시 스냅샷으로 다시 렌더링
+     *   (어느 쪽도 네트워크 요청 없음)
+     * - 알림 규칙은 켜고 끄기만 저장 (다음 위젯 새로고침부터 적용)
+     * - 디버그 빌드는 마지막에 에너지 사용 기록 항목 추가
+     */
+    private void showDisplayOptionsDialog() {
+        DisplayOptions current = viewModel.currentDisplayOptions();
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        List<AlertRule> rules = settings.getAlertRules();
+        int energyItem = BuildConfig.DEBUG ? 4 + rules.size() : -1;
+        String[] items = new String[4 + rules.size() + (BuildConfig.DEBUG ? 1 : 0)];
+        items[0] = check(current.unit == TemperatureUnit.CELSIUS) + "섭씨 (°C)";
+        items[1] = check(current.unit == TemperatureUnit.FAHRENHEIT) + "화씨 (°F)";
+        items[2] = check(current.language == DisplayLanguage.KOREAN) + "한국어";
+        items[3] = check(current.language == DisplayLanguage.ENGLISH) + "English";
+        for (int i = 0; i < rules.size(); i++) {
+            items[4 + i] = check(rules.get(i).enabled) + ruleLabel(rules.get(i));
+        }
+        if (energyItem >= 0) items[energyItem] = "    에너지 사용 기록 (디버그)";
+        new AlertDialog.Builder(this)
+                .setTitle("표시 설정")
+                .setItems(items, (dialog, which) -> {
+                    if (which == energyItem) {
+                        showEnergyReport();
+                        return;
                     }
-                });
+                    if (which >= 4) {
+                        toggleAlertRule(settings, rules, which - 4);
+                        return;
+                    }
+                    if (which == 0) viewModel.setTemperatureUnit(TemperatureUnit.CELSIUS);
+                    else if (which == 1) viewModel.setTemperatureUnit(TemperatureUnit.FAHRENHEIT);
+                    else if (which == 2) viewModel.setLanguage(DisplayLanguage.KOREAN);
+                    else viewModel.setLanguage(DisplayLanguage.ENGLISH);
+                    if (!current.equals(viewModel.currentDisplayOptions())) {
+                        WeatherUpdateService.enqueueWork(this);
+                    }
+                })
+                .show();
     }
 
     /**
-     * Geocoder 로 행정구/동 문자열 얻어와서 TextView 및 SharedPreferences에 저장
+     * 날짜별/새로고침 원인별 깨움 횟수, 작업 시간, 전송량, 무선 활성 시간 (디버그 빌드)
      */
+    private void showEnergyReport() {
+        new AlertDialog.Builder(this)
+                .setTitle("에너지 사용 기록")
+                .setMessage(WeatherApplication.container().energyTracker().report())
+                .setPositiveButton("닫기", null)
+                .show();
+    }
+
+    private static String ruleLabel(AlertRule rule) {
+        if (rule.kind == AlertRule.Kind.PRECIPITATION) {
+            return rule.windowHours + "시간 내 비/눈 알림";
+        }
+        return rule.windowHours + "시간 내 기온 " + Math.round(rule.threshold) + "°C 이상 변화 알림";
+    }
+
+    /**
+     * 알림 규칙 켜기/끄기 (켤 때 알림 권한이 없으면 요청)
+     */
+    private void toggleAlertRule(SettingsStore settings, List<AlertRule> rules, int index) {
+        List<AlertRule> next = new ArrayList<>(rules);
+        AlertRule rule = next.get(index).withEnabled(!rules.get(index).enabled);
+        next.set(index, rule);
+        settings.setAlertRules(next);
+
+        if (rule.enabled && Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU
+                && ActivityCompat.checkSelfPermission(this, Manifest.permission.POST_NOTIFICATIONS)
+                != PackageManager.PERMISSION_GRANTED) {
+            notificationPermissionLauncher.launch(Manifest.permission.POST_NOTIFICATIONS);
+        }
+    }
+
+    private static String check(boolean selected) {
+        return selected ? "✓ " : "    ";
+    }
+
+    /**
+     * 좌표 → "시/도 시/군/구" 문자열을 TextView 및 SettingsStore 에 저장
+     * 1) 앱에 포함된 PlaceIndex 로 즉시 조회 (오프라인, 네트워크/디스크 I/O 없음)
+     * 2) Geocoder 가 있으면 더 자세한 주소로 보강 (선택 사항)
+     *    - API 33 이상은 비동기 조회, 그 미만은 전용 geocodeExecutor 에서 동기 조회
+     *      (느린 조회가 공용 backgroundExecutor 의 설정 저장/위젯 작업을 막지 않도록)
+     */
+    @SuppressWarnings("deprecation")
     private void showAddressFromLatLng(double lat, double lon) {
         try {
-            List<Address> list = new Geocoder(this, Locale.KOREA)
-                    .getFromLocation(lat, lon, 1);
-            if (!list.isEmpty()) {
-                Address a = list.get(0);
-                String addr = a.getAdminArea() + " " + a.getSubLocality();
-                binding.locationTv.setText(addr);
-                getSharedPreferences("prefs", Context.MODE_PRIVATE)
-                        .edit().putString("location", addr).apply();
-            }
-        } catch (IOException e) {
-            Log.e("Geocoder", e.getMessage());
+            PlaceIndex.Place place = WeatherApplication.container().placeIndex().nearest(lat, lon);
+            if (place != null) applyLocationLabel(place.label);
+        } catch (RuntimeException e) {
+            Log.e("PlaceIndex", "지역 인덱스 조회 실패", e);
         }
+
+        if (!Geocoder.isPresent()) return;
+        Geocoder geocoder = WeatherApplication.container().geocoder();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+            geocoder.getFromLocation(lat, lon, 1, this::applyGeocodedAddress);
+            return;
+        }
+        WeatherApplication.container().geocodeExecutor().execute(() -> {
+            try {
+                applyGeocodedAddress(geocoder.getFromLocation(lat, lon, 1));
+            } catch (IOException e) {
+                Log.e("Geocoder", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Geocoder 결과를 "시/도 구/동" 라벨로 반영 (어느 스레드에서 호출되어도 UI 스레드에서 적용)
+     */
+    private void applyGeocodedAddress(@Nullable List<Address> list) {
+        if (list == null || list.isEmpty()) return;
+        Address a = list.get(0);
+        if (a.getAdminArea() == null || a.getSubLocality() == null) return;
+        String addr = a.getAdminArea() + " " + a.getSubLocality();
+        runOnUiThread(() -> {
+            if (binding != null) applyLocationLabel(addr);
+        });
+    }
+
+    /**
+     * 현재 위치 라벨 저장 (현재 위치 페이지가 보일 때만 화면에 표시)
+     */
+    private void applyLocationLabel(String label) {
+        WeatherApplication.container().settingsStore().setLocationLabel(label);
+        if (viewModel.isCurrentLocationVisible()) binding.locationTv.setText(label);
     }
 
     /**
      * LiveData 관찰 및 위젯 클릭 인덱스 적용 로직
-     * 1) groupedForecast 로드 시에는 아무 것도 하지 않음
+     * 1) groupedForecast 변경 시에만 5일 요약/차트 데이터 갱신 (어댑터는 한 번만 생성)
      * 2) 첫 selectedDate emit 시 widgetIndex > 0 이면 moveDate 호출
-     * 3) 이후 selectedDate 변경 시에만 updateForecastUI() 실행
+     * 3) 이후 selectedDate 변경 시에는 가로 타임라인/summary 와 차트 위치만 갱신
      */
     private void observeWeatherData() {
-        // groupedForecast 단순 로드 트리거용
+        // 예보 변경 시 5일 요약 + 차트 (changes 가 먼저 emit 되므로 최신 변경 내역 사용)
         viewModel.getGroupedForecast().observe(this, grouped -> {
+            if (grouped != null) updateWeeklyUI(viewModel.getChanges().getValue());
+        });
+
+        // 새로고침 변경 내역: 보간기가 교체되므로 가로 리스트는 재제출 (바뀐 시간만 다시 바인딩됨)
+        viewModel.getChanges().observe(this, diff -> {
+            String selDate = viewModel.getSelectedDate().getValue();
+            if (diff == null || selDate == null) return;
+            if (!diff.isEmpty()) updateHourlyUI(false);
+        });
+
+        // 위치 페이지 전환 시 위치 이름 표시
+        viewModel.getLocationPage().observe(this, page -> {
+            if (page == null) return;
+            List<SavedLocation> saved = viewModel.getSavedLocations();
+            String label = page == 0
+                    ? WeatherApplication.container().settingsStore().getLocationLabel()
+                    : saved.get(page - 1).name;
+            if (label != null) binding.locationTv.setText(label);
+        });
+
+        // 캐시 데이터 표시 여부
+        viewModel.getStaleAgeMillis().observe(this, age -> {
+            if (age == null || age < 0) {
+                binding.staleTv.setVisibility(GONE);
+            } else {
+                binding.staleTv.setText("네트워크 지연 · " + (age / 60_000) + "분 전 데이터");
+                binding.staleTv.setVisibility(VISIBLE);
+            }
+        });
+
+        // 대기질만 바뀐 새로고침도 summary 에 반영
+        viewModel.getAirQuality().observe(this, air -> updateAirQuality());
+
+        // 표시 단위/언어 변경 시: 어댑터는 다시 바인딩만, summary 는 보간기에서 다시 계산
+        viewModel.getDisplayOptions().observe(this, options -> {
+            if (options == null) return;
+            if (binding.weatherRv.getAdapter() instanceof WeekendWeatherAdapter) {
+                ((WeekendWeatherAdapter) binding.weatherRv.getAdapter()).setDisplayOptions(options);
+            }
+            if (binding.weekRv.getAdapter() instanceof ForecastDailyAdapter) {
+                ((ForecastDailyAdapter) binding.weekRv.getAdapter()).setDisplayOptions(options);
+            }
+            updateHourlyUI(false);
         });
 
         // selectedDate 변경 시
@@ -221,108 +451,171 @@ public class MainActivity extends AppCompatActivity {
 
     /**
      * 현재 selectedDate 기준으로
-     * - 3시간 단위 예보(가로 RecyclerView)
-     * - 5일 요약 세로 RecyclerView
-     * - summary 정보 갱신
+     * - 1시간 단위 예보(가로 RecyclerView) 위치 + summary 정보 갱신
+     * - 기온 추이 차트를 선택 날짜로 스크롤 (5일 요약은 날짜와 무관하므로 그대로 둠)
      */
     private void updateForecastUI() {
+        updateHourlyUI(true);
+        String selDate = viewModel.getSelectedDate().getValue();
+        if (selDate != null) binding.tempChartV.scrollToDate(selDate);
+    }
+
+    /**
+     * 전체 기간 1시간 단위 타임라인 + 선택 날짜 summary 갱신
+     * - 어댑터는 한 번만 만들고, 이후에는 바뀐 시간만 다시 바인딩
+     * - 날짜 선택은 어댑터 교체 없이 그 날짜의 시작 위치로 스크롤
+     *
+     * @param scrollToSelected true 면 선택 날짜 시작 위치로 이동
+     */
+    private void updateHourlyUI(boolean scrollToSelected) {
         Map<String, List<ForecastResponse.ForecastItem>> grouped =
                 viewModel.getGroupedForecast().getValue();
         String selDate = viewModel.getSelectedDate().getValue();
-        if (grouped == null || selDate == null) return;
+        HourlyInterpolator timeline = viewModel.getTimeline();
+        if (grouped == null || selDate == null || timeline == null) return;
 
-        // 3시간 단위 예보: Horizontal
+        // 1시간 단위 예보: Horizontal (전체 기간 하나의 리스트)
         List<ForecastResponse.ForecastItem> list = grouped.get(selDate);
-        if (list != null) {
-            binding.weatherRv.setLayoutManager(
-                    new LinearLayoutManager(this, LinearLayoutManager.HORIZONTAL, false));
-            binding.weatherRv.setAdapter(new WeekendWeatherAdapter(list));
+        if (list != null && !list.isEmpty()) {
+            WeekendWeatherAdapter adapter;
+            boolean smooth = true;
+            if (binding.weatherRv.getAdapter() instanceof WeekendWeatherAdapter) {
+                adapter = (WeekendWeatherAdapter) binding.weatherRv.getAdapter();
+                // 만료된 slot 이 빠져 위치가 밀렸으면 선택 날짜로 다시 맞춤
+                if (adapter.submitTimeline(timeline)) {
+                    scrollToSelected = true;
+                    smooth = false;
+                }
+            } else {
+                adapter = new WeekendWeatherAdapter(timeline, viewModel.currentDisplayOptions());
+                binding.weatherRv.setLayoutManager(
+                        new LinearLayoutManager(this, LinearLayoutManager.HORIZONTAL, false));
+                binding.weatherRv.addItemDecoration(new DayHeaderDecoration(this));
+                binding.weatherRv.addOnScrollListener(new DaySnapListener(viewModel::selectDate));
+                binding.weatherRv.setAdapter(adapter);
+                smooth = false;
+            }
+            if (scrollToSelected && !selDate.equals(visibleDay(adapter))) {
+                DaySnapListener.scrollToDay(binding.weatherRv, adapter.positionOfDay(selDate), smooth);
+            }
             binding.loadingLl.setVisibility(GONE);
+            endLaunchSession();
             binding.topDivider.setVisibility(VISIBLE);
             binding.currentTempTv.setVisibility(VISIBLE);
             binding.locationTv.setVisibility(VISIBLE);
-            updateSummaryWeather(list);
+            updateSummaryWeather(timeline, list);
         }
+    }
 
-        // 5일 요약: Vertical
-        List<ForecastResponse.ForecastItem> fullList = new ArrayList<>();
-        for (List<ForecastResponse.ForecastItem> dayList : grouped.values()) {
-            fullList.addAll(dayList);
+    /**
+     * 가로 타임라인 왼쪽 끝에 보이는 날짜 (아직 배치 전이면 null)
+     */
+    private String visibleDay(WeekendWeatherAdapter adapter) {
+        if (!(binding.weatherRv.getLayoutManager() instanceof LinearLayoutManager)) return null;
+        int first = ((LinearLayoutManager) binding.weatherRv.getLayoutManager())
+                .findFirstVisibleItemPosition();
+        return adapter.dayAt(first);
+    }
+
+    /**
+     * 5일 요약 + 기온 추이 차트 갱신 (groupedForecast 가 바뀔 때만 호출)
+     * - 어댑터/레이아웃 매니저는 처음 한 번만 만들고, 이후에는 영향받은 날짜 행만 다시 바인딩
+     * @param diff 새로고침 변경 내역 (null 이면 모든 행을 다시 바인딩)
+     */
+    private void updateWeeklyUI(ForecastDiff diff) {
+        Map<String, List<ForecastResponse.ForecastItem>> grouped =
+                viewModel.getGroupedForecast().getValue();
+        if (grouped == null) return;
+
+        // 5일 요약: Vertical (공용 캐시의 원본 리스트를 그대로 사용, 복사본 생성 안 함)
+        ForecastResponse source = ForecastCacheManager.getInstance().getSource();
+        List<ForecastResponse.ForecastItem> fullList;
+        if (source != null && source.list != null) {
+            fullList = source.list;
+        } else {
+            fullList = new ArrayList<>();
+            for (List<ForecastResponse.ForecastItem> dayList : grouped.values()) {
+                fullList.addAll(dayList);
+            }
+        }
+
+        // 기온 추이 차트 (데이터가 바뀔 때만 좌표 재계산)
+        binding.tempChartV.setForecast(fullList);
+        String selDate = viewModel.getSelectedDate().getValue();
+        if (selDate != null) binding.tempChartV.scrollToDate(selDate);
+
+        if (binding.weekRv.getAdapter() instanceof ForecastDailyAdapter) {
+            if (diff == null || !diff.affectedDays.isEmpty()) {
+                ((ForecastDailyAdapter) binding.weekRv.getAdapter()).applyChanges(fullList, diff);
+            }
+            return;
         }
         binding.weekRv.setLayoutManager(
                 new LinearLayoutManager(this, LinearLayoutManager.VERTICAL, false));
         binding.weekRv.setAdapter(
-                new ForecastDailyAdapter(fullList, pos -> viewModel.moveDate(pos))
+                new ForecastDailyAdapter(fullList, viewModel.currentDisplayOptions(),
+                        pos -> viewModel.moveDate(pos))
         );
     }
 
     /**
-     * summary 영역 (현재 시각과 가장 가까운 예보 아이템)
+     * summary 영역 (선택 날짜의 현재 시각에 해당하는 1시간 단위 보간값)
      * 텍스트·아이콘·배경 업데이트
      */
-    private void updateSummaryWeather(List<ForecastResponse.ForecastItem> list) {
-        String now = new SimpleDateFormat("HH:mm", Locale.getDefault())
-                .format(new Date());
-        ForecastResponse.ForecastItem near = null;
-        long minDiff = Long.MAX_VALUE;
-
-        for (ForecastResponse.ForecastItem item : list) {
-            try {
-                String t = item.dtTxt.split(" ")[1].substring(0, 5);
-                Date ft = new SimpleDateFormat("HH:mm", Locale.getDefault()).parse(t);
-                Date nt = new SimpleDateFormat("HH:mm", Locale.getDefault()).parse(now);
-                long diff = Math.abs(ft.getTime() - nt.getTime());
-                if (diff < minDiff) {
-                    minDiff = diff;
-                    near = item;
-                }
-            } catch (ParseException e) {
-                Log.e("TimeParse", e.getMessage());
-            }
-        }
+    private void updateSummaryWeather(HourlyInterpolator timeline,
+                                      List<ForecastResponse.ForecastItem> list) {
+        // 선택 날짜 00:00 + 현재 시:분 (둘 다 dtTxt 와 같은 UTC 기준, 가로 타임라인 시각과 동일)
+        long firstEpoch = ForecastMerger.slotKey(list.get(0));
+        long dayStart = firstEpoch - Math.floorMod(firstEpoch, 86400L);
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        long target = dayStart + Math.floorMod(nowSeconds, 86400L) / 60 * 60;
+        int hour = timeline.hourIndexAt(target);
+        ForecastResponse.ForecastItem near = timeline.slotAt(hour);
 
         if (near != null && !near.weather.isEmpty()) {
-            binding.tempTv.setText(Math.round(near.main.temp) + "°C");
-            binding.descriptionTv.setText(near.weather.get(0).description);
+            DisplayOptions options = viewModel.currentDisplayOptions();
+            ForecastResponse.Weather weather = near.weather.get(0);
+            binding.tempTv.setText(options.roundedTemperature(timeline.temperatureAt(hour)));
+            binding.descriptionTv.setText(options.description(weather));
             Glide.with(this)
-                    .load("https://openweathermap.org/img/wn/"
-                            + near.weather.get(0).icon + "@2x.png")
+                    .load(WeatherFormatter.getInstance().iconUrl(weather.iconCode()))
                     .into(binding.iconIv);
-            binding.humidityTv.setText("습도: " + near.main.humidity + "%");
-            binding.feelsLikeTv.setText("체감: " + near.main.feelsLike + "°C");
+            binding.humidityTv.setText(
+                    WeatherFormatter.getInstance().humidity(Math.round(timeline.humidityAt(hour))));
+            binding.feelsLikeTv.setText(options.temperatureLabel(
+                    timeline.feelsLikeAt(hour), WeatherFormatter.Style.FEELS_LIKE));
 
-            int bgRes = getBgRes(near);
+            summarySlot = ForecastMerger.slotKey(near);
+            updateAirQuality();
 
+            // 배경: 상태 코드 분류(WeatherCondition)의 배경 리소스
             binding.weatherBackgroundV.setAlpha(0.2f);
-            binding.weatherBackgroundV.setBackgroundResource(bgRes);
+            binding.weatherBackgroundV.setBackgroundResource(weather.condition().background);
         }
     }
 
     /**
-     * 가장 가까운 날씨 아이템을 받아 백그라운드 변경
-     * @param near
-     * @return
+     * summary slot 의 대기질 (값이 있을 때만 표시)
      */
-    private static int getBgRes(ForecastResponse.ForecastItem near) {
-        int bgRes;
-        String desc = near.weather.get(0).description;
-        if (desc.contains("맑음")) bgRes = R.drawable.ic_sunny_bg;
-        else if (desc.contains("구름") ||
-                desc.contains("흐림")) bgRes = R.drawable.ic_wind_bg;
-        else if (desc.contains("비") ||
-                desc.contains("소나기") ||
-                desc.contains("우박")) bgRes = R.drawable.ic_rain_bg;
-        else if (desc.contains("눈") ||
-                desc.contains("진눈깨비")) bgRes = R.drawable.ic_snow_bg;
-        else if (desc.contains("번개") ||
-                desc.contains("천둥")) bgRes = R.drawable.ic_lightning_bg;
-        else bgRes = 0;
-        return bgRes;
+    private void updateAirQuality() {
+        Map<Long, ForecastResponse.AirQuality> map = viewModel.getAirQuality().getValue();
+        ForecastResponse.AirQuality air = map != null ? map.get(summarySlot) : null;
+        binding.airTv.setVisibility(air != null ? VISIBLE : GONE);
+        if (air != null) {
+            binding.airTv.setText(WeatherFormatter.getInstance().airQuality(air.aqi, air.pm25));
+        }
+    }
+
+    private void endLaunchSession() {
+        if (launchSession == null) return;
+        WeatherApplication.container().energyTracker().end(launchSession);
+        launchSession = null;
     }
 
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        endLaunchSession();
         binding = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,285 @@
+package com.avad.openweatherapp.ui.view;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewConfiguration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import java.util.List;
+
+/**
+ * TemperatureChartView
+ * - 5일치 3시간 단위 기온 곡선과 날짜 구분선을 그리는 가로 스크롤 차트
+ * - Path/Paint 는 미리 생성하고, 꼭짓점 좌표는 float 배열에 보관
+ *   · 데이터/크기가 바뀔 때만 좌표와 Path 를 다시 계산 (dirty 플래그)
+ *   · onDraw 와 스크롤 처리에서는 객체를 생성하지 않음
+ */
+public class TemperatureChartView extends View {
+
+    /** 한 화면에 보이는 slot 수 (2일) */
+    private static final int VISIBLE_SLOTS = 16;
+
+    private static final float STROKE_DP = 2f;
+    private static final float TEXT_SP = 11f;
+    private static final float PADDING_DP = 16f;
+
+    private final Paint curvePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint separatorPaint = new Paint();
+    private final Paint labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path curvePath = new Path();
+
+    private final float density;
+    /** 가로 드래그로 판단하기 전까지 허용하는 이동 거리 (px) */
+    private final int touchSlop;
+
+    // ---- 데이터 (setForecast 시에만 갱신) ----
+    private float[] temps = new float[0];
+    private int slotCount;
+    /** 날짜가 바뀌는 slot 인덱스와 그 날짜 라벨 (MM.dd) */
+    private int[] dayStarts = new int[0];
+    private String[] dayLabels = new String[0];
+    private String[] dayKeys = new String[0];
+    private int dayCount;
+    private float minTemp;
+    private float maxTemp;
+
+    // ---- 좌표 (rebuild 시에만 갱신) ----
+    /** 꼭짓점 좌표 (x0, y0, x1, y1, …) */
+    private float[] vertices = new float[0];
+    /** 날짜 구분선 x 좌표 */
+    private float[] separatorX = new float[0];
+    private float contentWidth;
+    private boolean dirty = true;
+    private int rebuildCount;
+
+    // ---- 스크롤 ----
+    private float scrollOffset;
+    private float lastTouchX;
+    private float downX;
+    private float downY;
+    /** 가로 드래그로 확정되었는지 (확정 전에는 부모가 세로 스크롤을 가로챌 수 있음) */
+    private boolean dragging;
+    /** 레이아웃 전에 요청된 스크롤 날짜 (크기 확정 후 적용) */
+    @Nullable
+    private String pendingDate;
+
+    private int viewWidth;
+    private int viewHeight;
+
+    public TemperatureChartView(Context context) {
+        this(context, null);
+    }
+
+    public TemperatureChartView(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        // 리소스가 없는 환경(레이아웃 미리보기, 로컬 유닛 테스트)에서는 1배율
+        density = getResources() != null ? getResources().getDisplayMetrics().density : 1f;
+        ViewConfiguration configuration = context != null ? ViewConfiguration.get(context) : null;
+        touchSlop = configuration != null
+                ? configuration.getScaledTouchSlop() : Math.round(8 * density);
+
+        curvePaint.setStyle(Paint.Style.STROKE);
+        curvePaint.setStrokeWidth(STROKE_DP * density);
+        curvePaint.setColor(Color.parseColor("#2196F3"));
+
+        separatorPaint.setStrokeWidth(density);
+        separatorPaint.setColor(Color.parseColor("#BDBDBD"));
+
+        labelPaint.setTextSize(TEXT_SP * density);
+        labelPaint.setColor(Color.parseColor("#757575"));
+    }
+
+    /**
+     * 3시간 단위 전체 예보로 차트 데이터 교체
+     * - 기존 배열 크기가 맞으면 재사용
+     */
+    public void setForecast(List<ForecastResponse.ForecastItem> list) {
+        int n = list.size();
+        if (temps.length < n) temps = new float[n];
+        if (dayStarts.length < n) {
+            dayStarts = new int[n];
+            dayLabels = new String[n];
+            dayKeys = new String[n];
+        }
+
+        slotCount = n;
+        dayCount = 0;
+        minTemp = Float.MAX_VALUE;
+        maxTemp = -Float.MAX_VALUE;
+        String prevDay = null;
+        for (int i = 0; i < n; i++) {
+            ForecastResponse.ForecastItem item = list.get(i);
+            float t = item.main != null ? item.main.temp : 0f;
+            temps[i] = t;
+            minTemp = Math.min(minTemp, t);
+            maxTemp = Math.max(maxTemp, t);
+
+            if (prevDay == null || !item.dtTxt.startsWith(prevDay)) {
+                prevDay = item.dtTxt.substring(0, 10);
+                dayStarts[dayCount] = i;
+                dayKeys[dayCount] = prevDay;
+                dayLabels[dayCount] = WeatherFormatter.getInstance().dateLabels(prevDay).shortDate;
+                dayCount++;
+            }
+        }
+        dirty = true;
+        invalidate();
+    }
+
+    /**
+     * 선택 날짜의 시작 위치로 스크롤
+     */
+    public void scrollToDate(String date) {
+        if (viewWidth == 0) {
+            pendingDate = date;
+            return;
+        }
+        for (int d = 0; d < dayCount; d++) {
+            if (dayKeys[d].equals(date)) {
+                ensureGeometry();
+                setScrollOffset(separatorX[d] - PADDING_DP * density);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 가로 스크롤 위치 지정 (콘텐츠 범위로 고정)
+     */
+    public void setScrollOffset(float offset) {
+        float max = Math.max(0f, contentWidth - viewWidth);
+        float clamped = Math.max(0f, Math.min(max, offset));
+        if (clamped == scrollOffset) return;
+        scrollOffset = clamped;
+        invalidate();
+    }
+
+    public float getScrollOffset() {
+        return scrollOffset;
+    }
+
+    @VisibleForTesting
+    int rebuildCount() {
+        return rebuildCount;
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        viewWidth = w;
+        viewHeight = h;
+        dirty = true;
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                downX = event.getX();
+                downY = event.getY();
+                lastTouchX = downX;
+                dragging = false;
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                float x = event.getX();
+                if (!dragging) {
+                    // 가로로 touchSlop 이상, 세로보다 많이 움직였을 때만 드래그로 확정하고
+                    // 그때부터 부모(스크롤뷰 등)가 가로채지 않도록 (세로 스크롤은 부모에 맡김)
+                    float dx = Math.abs(x - downX);
+                    if (dx <= touchSlop || dx <= Math.abs(event.getY() - downY)) return true;
+                    dragging = true;
+                    lastTouchX = x;
+                    if (getParent() != null) getParent().requestDisallowInterceptTouchEvent(true);
+                    return true;
+                }
+                setScrollOffset(scrollOffset + (lastTouchX - x));
+                lastTouchX = x;
+                return true;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                dragging = false;
+                return super.onTouchEvent(event);
+            default:
+                return super.onTouchEvent(event);
+        }
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        if (slotCount < 2 || viewWidth == 0) return;
+        ensureGeometry();
+
+        float left = scrollOffset;
+        float right = scrollOffset + viewWidth;
+        float labelY = viewHeight - labelPaint.getTextSize() * 0.5f;
+
+        canvas.save();
+        canvas.translate(-scrollOffset, 0f);
+
+        // 날짜 구분선 + 라벨 (보이는 범위만)
+        for (int d = 0; d < dayCount; d++) {
+            float x = separatorX[d];
+            float nextX = d + 1 < dayCount ? separatorX[d + 1] : contentWidth;
+            if (nextX < left || x > right) continue;
+            if (d > 0) canvas.drawLine(x, 0f, x, viewHeight, separatorPaint);
+            canvas.drawText(dayLabels[d], x + 4f * density, labelY, labelPaint);
+        }
+
+        // 기온 곡선 (Path 는 rebuild 시 구성 완료)
+        canvas.drawPath(curvePath, curvePaint);
+
+        canvas.restore();
+    }
+
+    /**
+     * 데이터/크기가 바뀐 경우에만 꼭짓점과 Path 재계산
+     */
+    private void ensureGeometry() {
+        if (!dirty) return;
+        dirty = false;
+        rebuildCount++;
+
+        float padding = PADDING_DP * density;
+        float slotWidth = (float) viewWidth / VISIBLE_SLOTS;
+        float top = padding;
+        float bottom = viewHeight - padding - labelPaint.getTextSize();
+        float range = Math.max(1f, maxTemp - minTemp);
+
+        if (vertices.length < slotCount * 2) vertices = new float[slotCount * 2];
+        if (separatorX.length < dayCount) separatorX = new float[dayCount];
+
+        curvePath.reset();
+        for (int i = 0; i < slotCount; i++) {
+            float x = padding + i * slotWidth;
+            float y = bottom - (temps[i] - minTemp) / range * (bottom - top);
+            vertices[i * 2] = x;
+            vertices[i * 2 + 1] = y;
+            if (i == 0) curvePath.moveTo(x, y);
+            else curvePath.lineTo(x, y);
+        }
+        for (int d = 0; d < dayCount; d++) {
+            separatorX[d] = padding + dayStarts[d] * slotWidth;
+        }
+        contentWidth = padding * 2 + (slotCount - 1) * slotWidth;
+        setScrollOffset(scrollOffset);
+
+        if (pendingDate != null) {
+            String date = pendingDate;
+            pendingDate = null;
+            scrollToDate(date);
+        }
+    }
+}
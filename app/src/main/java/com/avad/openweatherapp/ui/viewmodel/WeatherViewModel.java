@@ -2,31 +2,53 @@ package com.avad.openweatherapp.ui.viewmodel;
 
 import android.util.Log;
 
-import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.cache.ForecastCacheManager;
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+import com.avad.openweatherapp.data.local.SavedLocation;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.merge.ForecastDiff;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
 import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.data.timeline.HourlyInterpolator;
+import com.avad.openweatherapp.repository.FetchPolicy;
+import com.avad.openweatherapp.repository.ForecastResult;
+import com.avad.openweatherapp.repository.LocationRefreshPipeline;
 import com.avad.openweatherapp.repository.WeatherRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-
 /**
  * WeatherViewModel
  * - OpenWeather 3시간 간격 예보 데이터를 받아
  *   날짜별로 그룹화(groupedForecast)하고,
  *   현재 선택된 날짜(selectedDate)를 관리
+ * - 현재 위치와 저장된 위치를 페이지(locationPage)로 전환 (전환 시 위치별 캐시 사용)
+ * - 표시 단위/언어(displayOptions)는 메모리의 예보로 다시 그리기만 함 (재조회 없음)
  */
 public class WeatherViewModel extends ViewModel {
-    private final WeatherRepository repository = new WeatherRepository();
+    private final WeatherRepository repository = WeatherApplication.container().weatherRepository();
+    private final SettingsStore settings = WeatherApplication.container().settingsStore();
+
+    /** 저장된 위치 일괄 새로고침 (동시 2건) */
+    private final LocationRefreshPipeline pipeline =
+            new LocationRefreshPipeline(repository, 2, FetchPolicy.BACKGROUND);
+
+    /** 화면에 보이는 위치 페이지 (0 = 현재 위치, 1.. = 저장된 위치) */
+    private final MutableLiveData<Integer> locationPage = new MutableLiveData<>(0);
+
+    /** 화면에 보이는 위치의 캐시 key */
+    private String visibleKey = WeatherRepository.DEFAULT_KEY;
 
     /**
      * 해당 날짜의 ForecastItem 리스트
@@ -36,49 +58,207 @@ public class WeatherViewModel extends ViewModel {
     /** 현재 화면에 표시할 날짜 문자열 (ex: "2025-05-20") */
     private final MutableLiveData<String> selectedDate = new MutableLiveData<>();
 
+    /** 새로고침 시 slot 단위 변경 내역 */
+    private final MutableLiveData<ForecastDiff> changes = new MutableLiveData<>();
+
+    /** 현재 표시 중인 slot 리스트 (병합 기준) */
+    private List<ForecastResponse.ForecastItem> currentList;
+
+    /** currentList 의 1시간 단위 보간기 (값은 조회 시점에 계산) */
+    private HourlyInterpolator timeline;
+
+    /** 표시 중인 예보가 캐시 데이터일 때 그 나이(ms), 최신 데이터면 -1 */
+    private final MutableLiveData<Long> staleAgeMillis = new MutableLiveData<>(-1L);
+
+    /**
+     * 보이는 위치의 slot 시각 → 대기질
+     * - 예보 slot 변경과 별개로 알림 (대기질만 바뀐 새로고침도 반영)
+     */
+    private final MutableLiveData<Map<Long, ForecastResponse.AirQuality>> airQuality =
+            new MutableLiveData<>(Collections.emptyMap());
+
+    /** 표시 단위/언어 */
+    private final MutableLiveData<DisplayOptions> displayOptions =
+            new MutableLiveData<>(settings.getDisplayOptions());
+
+    /**
+     * 기온 표시 단위 변경 (저장 후 displayOptions 로 알림)
+     */
+    public void setTemperatureUnit(TemperatureUnit unit) {
+        updateDisplayOptions(currentDisplayOptions().withUnit(unit));
+    }
+
+    /**
+     * 상태 문구 언어 변경 (저장 후 displayOptions 로 알림)
+     */
+    public void setLanguage(DisplayLanguage language) {
+        updateDisplayOptions(currentDisplayOptions().withLanguage(language));
+    }
+
+    private void updateDisplayOptions(DisplayOptions next) {
+        if (next.equals(displayOptions.getValue())) return;
+        settings.setDisplayOptions(next);
+        displayOptions.setValue(next);
+    }
+
+    /** 현재 표시 설정 (항상 값 있음) */
+    public DisplayOptions currentDisplayOptions() {
+        DisplayOptions options = displayOptions.getValue();
+        return options != null ? options : DisplayOptions.DEFAULT;
+    }
+
     /**
      * 5일치 예보(3시간 단위) 요청
-     * - 응답 수신 시:
-     *   1) dtTxt의 날짜 부분(yyyy-MM-dd)으로 그룹화
-     *   2) groupedForecast LiveData에 setValue
-     *   3) groupedForecast 최초 비어 있지 않을 때, 첫 날짜(dateList[0])를 selectedDate에 초기 설정
+     * - 화면용 정책(FetchPolicy.ACTIVITY)으로 조회: 마감 시간 초과 시 캐시 데이터를 stale 로 수신
+     * - 현재 위치(WeatherRepository.DEFAULT_KEY) 캐시에 저장, 현재 위치가 보일 때만 화면 반영
+     * - 이전 예보와 slot 단위로 병합하여 바뀐 것이 없으면 UI 갱신 생략,
+     *   바뀐 날짜는 changes 로 알림
      *
      * @param lat 위도
      * @param lon 경도
      */
     public void fetchForecast(double lat, double lon) {
-        repository.getWeekendWeather(lat, lon, new Callback<ForecastResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<ForecastResponse> call,
-                                   @NonNull Response<ForecastResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    Log.d("WeatherViewModel", "API 요청 URL: " + call.request().url());
-
-                    // 날짜별 그룹화
-                    Map<String, List<ForecastResponse.ForecastItem>> grouped = new LinkedHashMap<>();
-                    for (ForecastResponse.ForecastItem item : response.body().list) {
-                        String date = item.dtTxt.split(" ")[0];  // yyyy-MM-dd
-                        grouped.computeIfAbsent(date, k -> new ArrayList<>()).add(item);
-                    }
-
-                    // LiveData에 반영 -> groupedForecast 옵저버 트리거
-                    groupedForecast.setValue(grouped);
-
-                    // 최초 그룹이 있으면 첫 날짜로 selectedDate 초기화
-                    if (!grouped.isEmpty()) {
-                        String firstDate = new ArrayList<>(grouped.keySet()).get(0);
-                        selectedDate.setValue(firstDate);
-                    }
-                }
-            }
+        repository.fetchForecast(WeatherRepository.DEFAULT_KEY, lat, lon, FetchPolicy.ACTIVITY,
+                result -> applyResult(WeatherRepository.DEFAULT_KEY, result));
+    }
+
+    /**
+     * 저장된 위치 전체 새로고침 (동시 요청 수 제한, 보이는 위치 우선)
+     * - 결과는 위치별 캐시에 저장되고, 보이는 위치의 결과만 화면에 반영
+     */
+    public void refreshSavedLocations() {
+        List<SavedLocation> saved = settings.getSavedLocations();
+        if (saved.isEmpty()) return;
+        pipeline.refresh(saved, visibleKey, this::applyResult);
+    }
+
+    /**
+     * 위치 저장 후 그 위치로 이동
+     * @return 이동한 페이지 (0 = 현재 위치, 1.. = 저장된 위치)
+     */
+    public int saveLocation(String name, double lat, double lon) {
+        int index = settings.addSavedLocation(new SavedLocation(name, lat, lon));
+        showLocation(index + 1);
+        return index + 1;
+    }
+
+    /**
+     * 페이지를 delta 만큼 이동 (끝에서는 처음으로 순환)
+     */
+    public void pageLocation(int delta) {
+        int count = settings.getSavedLocations().size() + 1;
+        Integer page = locationPage.getValue();
+        int current = page != null ? page : 0;
+        showLocation(Math.floorMod(current + delta, count));
+    }
+
+    /**
+     * 위치 페이지 전환
+     * - 네트워크 없이 위치별 캐시(메모리 → 디스크)에서 바로 표시
+     * - 캐시가 없을 때만 새로고침 파이프라인에서 그 위치를 우선 조회
+     *
+     * @param page 0 = 현재 위치, 1.. = 저장된 위치
+     */
+    public void showLocation(int page) {
+        List<SavedLocation> saved = settings.getSavedLocations();
+        if (page < 0 || page > saved.size()) return;
+        Integer shown = locationPage.getValue();
+        if (shown != null && shown == page) return;
 
-            @Override
-            public void onFailure(@NonNull Call<ForecastResponse> call, @NonNull Throwable t) {
-                Log.e("WeatherViewModel", "예보 API 호출 실패: " + t.getMessage());
+        String key = page == 0 ? WeatherRepository.DEFAULT_KEY : saved.get(page - 1).cellKey();
+        visibleKey = key;
+        currentList = null;  // 다른 위치의 slot 과 병합하지 않음
+        locationPage.setValue(page);
+
+        repository.loadCached(key, result -> {
+            if (result.hasData()) {
+                applyResult(key, result);
+            } else if (page > 0) {
+                pipeline.refresh(Collections.singletonList(saved.get(page - 1)), key,
+                        this::applyResult);
             }
         });
     }
 
+    /**
+     * 조회 결과를 화면 상태에 반영 (보이는 위치의 결과만)
+     * - 응답 수신 시:
+     *   1) dtTxt의 날짜 부분(yyyy-MM-dd)으로 그룹화
+     *   2) groupedForecast LiveData에 setValue
+     *   3) groupedForecast 최초 비어 있지 않을 때, 첫 날짜(dateList[0])를 selectedDate에 초기 설정
+     *   4) stale 여부를 staleAgeMillis 에 반영
+     */
+    private void applyResult(String key, ForecastResult result) {
+        if (!key.equals(visibleKey)) return;
+        if (!result.hasData()) {
+            Log.e("WeatherViewModel", "예보 API 호출 실패: "
+                    + (result.error != null ? result.error.getMessage() : "unknown"));
+            return;
+        }
+        if (result.stale) {
+            Log.w("WeatherViewModel", "캐시 예보 사용 (" + result.ageMillis + "ms 전): "
+                    + (result.error != null ? result.error.getMessage() : ""));
+        }
+
+        // 이전 예보와 slot 단위 병합
+        ForecastMerger.Result merge = ForecastMerger.merge(currentList, result.forecast.list);
+        boolean firstLoad = currentList == null;
+        currentList = merge.merged;
+
+        // stale 표시 갱신 (최신 데이터거나 페이지 전환으로 캐시를 읽은 경우 -1)
+        staleAgeMillis.setValue(result.stale && result.error != null ? result.ageMillis : -1L);
+
+        // 대기질은 slot 병합과 별개로 비교 (같으면 알리지 않음)
+        if (!result.airQuality.equals(airQuality.getValue())) airQuality.setValue(result.airQuality);
+
+        // 바뀐 slot 이 없으면 UI 갱신 생략
+        if (!firstLoad && merge.diff.isEmpty()) return;
+
+        // 원본 응답은 공용 캐시에 보관 (메모리 압박 시에도 유지)
+        ForecastResponse source = new ForecastResponse();
+        source.list = merge.merged;
+        ForecastCacheManager.getInstance().setSource(source);
+
+        // 1시간 단위 보간기 교체 (slot 값 복사만 수행, 보간은 바인딩 시점에)
+        timeline = new HourlyInterpolator(merge.merged);
+
+        // 날짜별 그룹화: 변경 없는 날짜는 기존 리스트 인스턴스 재사용
+        Map<String, List<ForecastResponse.ForecastItem>> grouped = groupByDate(merge.merged);
+        Map<String, List<ForecastResponse.ForecastItem>> previous = groupedForecast.getValue();
+        if (previous != null) {
+            for (Map.Entry<String, List<ForecastResponse.ForecastItem>> e : grouped.entrySet()) {
+                List<ForecastResponse.ForecastItem> kept = previous.get(e.getKey());
+                if (kept != null && !merge.diff.affects(e.getKey())) e.setValue(kept);
+            }
+        }
+
+        // 변경 이벤트 -> 영향받은 부분만 다시 그리도록
+        changes.setValue(merge.diff);
+
+        // LiveData에 반영 -> groupedForecast 옵저버 트리거
+        groupedForecast.setValue(grouped);
+
+        // 선택된 날짜가 없거나 만료되었으면 첫 날짜로 selectedDate 초기화
+        String current = selectedDate.getValue();
+        if (!grouped.isEmpty() && (current == null || !grouped.containsKey(current))) {
+            String firstDate = grouped.keySet().iterator().next();
+            selectedDate.setValue(firstDate);
+        }
+    }
+
+    /**
+     * dtTxt 의 날짜 부분(yyyy-MM-dd)으로 그룹화 (응답 순서 유지)
+     */
+    public static Map<String, List<ForecastResponse.ForecastItem>> groupByDate(
+            List<ForecastResponse.ForecastItem> list) {
+        Map<String, List<ForecastResponse.ForecastItem>> grouped = new LinkedHashMap<>();
+        for (ForecastResponse.ForecastItem item : list) {
+            String date = item.dtTxt.split(" ")[0];  // yyyy-MM-dd
+            grouped.computeIfAbsent(date, k -> new ArrayList<>()).add(item);
+        }
+        return grouped;
+    }
+
     /**
      * groupedForecast LiveData 접근자
      */
@@ -86,11 +266,61 @@ public class WeatherViewModel extends ViewModel {
         return groupedForecast;
     }
 
+    /** 1시간 단위 보간기 (groupedForecast 와 함께 갱신, 로드 전이면 null) */
+    public HourlyInterpolator getTimeline() {
+        return timeline;
+    }
+
+    /** locationPage LiveData 접근자 */
+    public LiveData<Integer> getLocationPage() {
+        return locationPage;
+    }
+
+    /** 현재 위치 페이지가 보이는지 */
+    public boolean isCurrentLocationVisible() {
+        return WeatherRepository.DEFAULT_KEY.equals(visibleKey);
+    }
+
+    /** 저장된 위치 목록 (페이지 1.. 순서) */
+    public List<SavedLocation> getSavedLocations() {
+        return settings.getSavedLocations();
+    }
+
+    /** changes LiveData 접근자 */
+    public LiveData<ForecastDiff> getChanges() {
+        return changes;
+    }
+
+    /** airQuality LiveData 접근자 */
+    public LiveData<Map<Long, ForecastResponse.AirQuality>> getAirQuality() {
+        return airQuality;
+    }
+
+    /** staleAgeMillis LiveData 접근자 */
+    public LiveData<Long> getStaleAgeMillis() {
+        return staleAgeMillis;
+    }
+
+    /** displayOptions LiveData 접근자 */
+    public LiveData<DisplayOptions> getDisplayOptions() {
+        return displayOptions;
+    }
+
     /** selectedDate LiveData 접근자 */
     public LiveData<String> getSelectedDate() {
         return selectedDate;
     }
 
+    /**
+     * 날짜 키로 selectedDate 변경 (가로 타임라인 스크롤이 멈춘 날짜 동기화용)
+     * - 같은 날짜거나 예보에 없는 날짜면 무시
+     */
+    public void selectDate(String date) {
+        Map<String, List<ForecastResponse.ForecastItem>> map = groupedForecast.getValue();
+        if (map == null || !map.containsKey(date) || date.equals(selectedDate.getValue())) return;
+        selectedDate.setValue(date);
+    }
+
     /**
      * 특정 인덱스(value)에 해당하는 날짜로 selectedDate 변경
      * - map: groupedForecast의 현재 값
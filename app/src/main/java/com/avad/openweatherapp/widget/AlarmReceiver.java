@@ -1,42 +1,90 @@
 package com.avad.openweatherapp.widget;
 
+import android.appwidget.AppWidgetManager;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
+
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.energy.RefreshTrigger;
+import com.avad.openweatherapp.data.local.SavedLocation;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.local.WidgetState;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * AlarmReceiver
- * - 위젯의 이전/다음/새로고침 버튼 클릭 이벤트 수신
- * - forecast_index 값을 증가/감소/초기화하고
- *   빠른 위젯 업데이트 또는 전체 서비스 재실행 트리거
+ * - 위젯의 새로고침/위치 버튼 클릭 이벤트와 1시간 반복 알람 수신
+ * - 클릭한 인스턴스(EXTRA_APPWIDGET_ID)의 표시 위치를 바꾸거나 그 위치를 새로고침
+ *   (날짜 이동은 위젯 리스트를 런처가 직접 스크롤하므로 broadcast 없음)
+ * - 메인 스레드에서는 goAsync() 후 곧바로 반환하고,
+ *   설정 읽기/쓰기는 백그라운드 Executor 에서 처리
  */
 public class AlarmReceiver extends BroadcastReceiver {
 
     @Override
     public void onReceive(Context context, Intent intent) {
-        // SharedPreferences에서 현재 forecast_index 읽기 (0~4)
-        SharedPreferences prefs = context.getSharedPreferences("prefs", Context.MODE_PRIVATE);
-        int index = prefs.getInt("forecast_index", 0);
         String action = intent.getAction();
+        int appWidgetId = intent.getIntExtra(
+                AppWidgetManager.EXTRA_APPWIDGET_ID, AppWidgetManager.INVALID_APPWIDGET_ID);
+        Context app = context.getApplicationContext();
+        ExecutorService executor = WeatherApplication.container().backgroundExecutor();
+        PendingResult pending = goAsync();
+
+        // 1시간 반복 알람 (action 없음): 모든 인스턴스 새로고침, 위치(cell) 당 한 번 조회
+        if (action == null) {
+            executor.execute(() -> {
+                try {
+                    WeatherUpdateService.enqueueWork(app, RefreshTrigger.ALARM, true, null);
+                } finally {
+                    pending.finish();
+                }
+            });
+        } else if (appWidgetId == AppWidgetManager.INVALID_APPWIDGET_ID) {
+            pending.finish();
+
+            // 위치 클릭: 현재 위치 → 저장 위치 순환 (캐시가 없으면 서비스가 조회)
+        } else if ("com.avad.widget.LOCATION".equals(action)) {
+            executor.execute(() -> {
+                try {
+                    nextLocation(appWidgetId);
+                    WeatherUpdateService.enqueueWork(app, false, new int[]{appWidgetId});
+                } finally {
+                    pending.finish();
+                }
+            });
 
-        // NEXT 버튼 클릭: 인덱스 +1 -> 5일치 순환
-        if ("com.avad.widget.NEXT".equals(action)) {
-            index = (index + 1) % 5;
-            prefs.edit().putInt("forecast_index", index).apply();
-            // 빠른 UI 업데이트 (서비스 전체 실행 없이)
-            WeatherUpdateService.quickUpdateWidget(context);
-
-            // PREV 버튼 클릭: 인덱스 -1 -> 0 미만 시 4로 순환
-        } else if ("com.avad.widget.PREV".equals(action)) {
-            index = (index - 1 + 5) % 5;
-            prefs.edit().putInt("forecast_index", index).apply();
-            // 빠른 UI 업데이트
-            WeatherUpdateService.quickUpdateWidget(context);
-
-            // REFRESH 버튼 클릭: 전체 서비스 재실행 (새 데이터 fetch)
+            // REFRESH 버튼 클릭: 이 인스턴스 위치의 새 데이터 fetch (같은 위치 인스턴스도 함께 갱신)
         } else if ("com.avad.widget.REFRESH".equals(action)) {
-            WeatherUpdateService.enqueueWork(context, true);
+            executor.execute(() -> {
+                try {
+                    WeatherUpdateService.enqueueWork(app, RefreshTrigger.REFRESH_TAP, true,
+                            new int[]{appWidgetId});
+                } finally {
+                    pending.finish();
+                }
+            });
+        } else {
+            pending.finish();
+        }
+    }
+
+    /**
+     * 표시 위치를 다음 저장 위치로 (마지막 다음은 현재 위치)
+     */
+    private static void nextLocation(int appWidgetId) {
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        WidgetState state = settings.getWidgetState(appWidgetId);
+        List<SavedLocation> saved = settings.getSavedLocations();
+
+        int current = -1;  // -1 = 현재 위치
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i).cellKey().equals(state.locationKey)) current = i;
         }
+        int next = current + 1;
+        String key = next < saved.size() ? saved.get(next).cellKey() : null;
+        settings.setWidgetState(appWidgetId, state.withLocation(key));
     }
 }
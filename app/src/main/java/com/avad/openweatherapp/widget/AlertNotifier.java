@@ -0,0 +1,104 @@
+package com.avad.openweatherapp.widget;
+
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.core.app.NotificationCompat;
+import androidx.core.app.NotificationManagerCompat;
+
+import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.data.alert.AlertRule;
+import com.avad.openweatherapp.data.alert.WeatherAlert;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.model.WeatherCondition;
+import com.avad.openweatherapp.ui.view.MainActivity;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * AlertNotifier
+ * - AlertEngine 이 낸 알림을 시스템 알림으로 게시
+ * - 같은 위치/규칙의 알림은 하나만 유지 (새 알림이 이전 알림을 대체)
+ * - 알림 권한이 없거나 꺼져 있으면 아무것도 하지 않음
+ */
+final class AlertNotifier {
+
+    private static final String TAG = "AlertNotifier";
+    private static final String CHANNEL_ID = "weather_alerts";
+
+    private AlertNotifier() {
+    }
+
+    /**
+     * @param label 위치 이름 (알림 제목)
+     */
+    static void post(Context context, String label, List<WeatherAlert> alerts,
+                     DisplayOptions options) {
+        if (alerts.isEmpty()) return;
+        NotificationManagerCompat manager = NotificationManagerCompat.from(context);
+        if (!manager.areNotificationsEnabled()) {
+            Log.d(TAG, "알림 꺼짐, " + alerts.size() + "건 생략");
+            return;
+        }
+        createChannel(context);
+
+        Intent launch = new Intent(context, MainActivity.class)
+                .setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TOP);
+        PendingIntent content = PendingIntent.getActivity(context, 0, launch,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
+
+        for (WeatherAlert alert : alerts) {
+            NotificationCompat.Builder builder = new NotificationCompat.Builder(context, CHANNEL_ID)
+                    .setSmallIcon(R.drawable.ic_notification)
+                    .setContentTitle(label + " 날씨 알림")
+                    .setContentText(message(alert, options))
+                    .setContentIntent(content)
+                    .setAutoCancel(true)
+                    .setPriority(NotificationCompat.PRIORITY_DEFAULT);
+            try {
+                manager.notify(alert.notificationId(), builder.build());
+            } catch (SecurityException e) {
+                // 권한이 새로고침 도중 회수된 경우
+                Log.w(TAG, "알림 권한 없음", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 알림 문구 (시각은 기기 시간대의 "HH:00")
+     */
+    static String message(WeatherAlert alert, DisplayOptions options) {
+        int hour = Instant.ofEpochSecond(alert.eventEpoch).atZone(ZoneId.systemDefault()).getHour();
+        String time = WeatherFormatter.getInstance().hour(hour);
+        int window = alert.rule.windowHours;
+
+        if (alert.rule.kind == AlertRule.Kind.PRECIPITATION) {
+            String condition = WeatherCondition.of(alert.conditionId).shortLabel(options.language);
+            if (condition == null) condition = "비";
+            return window + "시간 이내 " + condition + " 예보 (" + time + "부터)";
+        }
+
+        // 기온 차는 단위 간격만 변환 (화씨는 1.8배)
+        float delta = options.unit == TemperatureUnit.FAHRENHEIT ? alert.value * 1.8f : alert.value;
+        return window + "시간 이내 기온 차 " + Math.round(delta) + options.unit.symbol
+                + " 예상 (" + time + ")";
+    }
+
+    private static void createChannel(Context context) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) return;
+        NotificationManager manager = context.getSystemService(NotificationManager.class);
+        if (manager == null || manager.getNotificationChannel(CHANNEL_ID) != null) return;
+        manager.createNotificationChannel(new NotificationChannel(
+                CHANNEL_ID, "날씨 알림", NotificationManager.IMPORTANCE_DEFAULT));
+    }
+}
@@ -0,0 +1,114 @@
+package com.avad.openweatherapp.widget;
+
+import android.content.Context;
+import android.content.Intent;
+import android.graphics.Bitmap;
+import android.widget.RemoteViews;
+import android.widget.RemoteViewsService;
+
+import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+
+/**
+ * DailyForecastViewsFactory
+ * - 위젯 인스턴스 하나의 5일 요약 리스트 항목 생성
+ * - 데이터는 로컬 스냅샷(ForecastSnapshot), 아이콘은 WidgetIconCache 에서만 읽음
+ *   (표시 단위/언어는 SettingsStore 의 DisplayOptions 로 바인딩 시 변환)
+ *   (네트워크 요청 없음, 날짜 스크롤은 런처가 처리)
+ * - onDataSetChanged() 는 notifyAppWidgetViewDataChanged() 때만 호출되며 binder 스레드에서 실행
+ */
+class DailyForecastViewsFactory implements RemoteViewsService.RemoteViewsFactory {
+
+    private final Context context;
+    private final int appWidgetId;
+
+    /** 표시 중인 스냅샷 (로드 전이면 null) */
+    private volatile ForecastSnapshot snapshot;
+
+    /** 표시 단위/언어 (onDataSetChanged 시점 값) */
+    private volatile DisplayOptions options = DisplayOptions.DEFAULT;
+
+    DailyForecastViewsFactory(Context context, int appWidgetId) {
+        this.context = context;
+        this.appWidgetId = appWidgetId;
+    }
+
+    @Override
+    public void onCreate() {
+    }
+
+    @Override
+    public void onDataSetChanged() {
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        String key = WeatherUpdateService.locationKey(settings, settings.getWidgetState(appWidgetId));
+        snapshot = ForecastSnapshot.get(context, key);
+        options = settings.getDisplayOptions();
+    }
+
+    @Override
+    public void onDestroy() {
+        snapshot = null;
+    }
+
+    @Override
+    public int getCount() {
+        ForecastSnapshot s = snapshot;
+        return s != null ? s.size() : 0;
+    }
+
+    @Override
+    public RemoteViews getViewAt(int position) {
+        RemoteViews views = new RemoteViews(context.getPackageName(), R.layout.widget_day_item);
+        ForecastSnapshot s = snapshot;
+        if (s == null || position >= s.size()) return views;
+
+        ForecastResponse.ForecastItem item = s.items.get(position);
+        DisplayOptions o = options;
+        views.setTextViewText(R.id.widget_date_tv,
+                WeatherFormatter.getInstance().dateLabels(item.dtTxt).monthDayWithWeekday);
+        views.setTextViewText(R.id.widget_high_temp_tv,
+                o.temperatureLabel(item.main.temp_max, WeatherFormatter.Style.HIGH));
+        views.setTextViewText(R.id.widget_low_temp_tv,
+                o.temperatureLabel(item.main.temp_min, WeatherFormatter.Style.LOW));
+
+        if (item.weather != null && !item.weather.isEmpty()) {
+            ForecastResponse.Weather weather = item.weather.get(0);
+            views.setTextViewText(R.id.widget_description_tv,
+                    o.shortDescription(weather));
+            Bitmap icon = WidgetIconCache.getInstance(context).get(weather.iconCode());
+            if (icon != null) views.setImageViewBitmap(R.id.widget_icon_iv, icon);
+        }
+
+        // 항목 클릭 → 그 날짜로 MainActivity 실행 (템플릿은 WeatherUpdateService 에서 설정)
+        Intent fillIn = new Intent().putExtra("widget_index", position);
+        views.setOnClickFillInIntent(R.id.widget_day_ll, fillIn);
+        return views;
+    }
+
+    @Override
+    public RemoteViews getLoadingView() {
+        return null;
+    }
+
+    @Override
+    public int getViewTypeCount() {
+        return 1;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        ForecastSnapshot s = snapshot;
+        return s != null && position < s.size() ? ForecastMerger.slotKey(s.items.get(position)) : position;
+    }
+
+    @Override
+    public boolean hasStableIds() {
+        return true;
+    }
+}
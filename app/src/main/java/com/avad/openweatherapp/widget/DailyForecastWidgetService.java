@@ -0,0 +1,19 @@
+package com.avad.openweatherapp.widget;
+
+import android.appwidget.AppWidgetManager;
+import android.content.Intent;
+import android.widget.RemoteViewsService;
+
+/**
+ * DailyForecastWidgetService
+ * - 위젯 5일 요약 리스트의 항목을 제공 (인스턴스별 Factory)
+ */
+public class DailyForecastWidgetService extends RemoteViewsService {
+
+    @Override
+    public RemoteViewsFactory onGetViewFactory(Intent intent) {
+        int appWidgetId = intent.getIntExtra(
+                AppWidgetManager.EXTRA_APPWIDGET_ID, AppWidgetManager.INVALID_APPWIDGET_ID);
+        return new DailyForecastViewsFactory(getApplicationContext(), appWidgetId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.avad.openweatherapp.widget;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.repository.WeatherRepository;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ForecastSnapshot
+ * - 위젯이 표시하는 일별 요약 예보의 불변(immutable) 스냅샷 (위치 key 별)
+ * - 모든 위젯 경로(JobIntentService 워커, Retrofit 콜백, AlarmReceiver)는
+ *   current() / get() 으로 락 없이 읽고,
+ *   새로고침 후에는 publish() 로 한 번의 원자적 교체만 수행
+ * - 디스크(prefs "forecast_list", 저장 위치는 "forecast_list_<cellKey>") 에서의
+ *   지연 로딩은 key 별로 동시에 하나만 실행
+ * - key 는 WeatherRepository.DEFAULT_KEY(현재 위치) 또는 SavedLocation.cellKey()
+ */
+public final class ForecastSnapshot {
+
+    private static final String TAG = "ForecastSnapshot";
+
+    private static final String PREFS_KEY = "forecast_list";
+
+    /** key 별 현재 게시된 스냅샷 (값이 null = 아직 디스크에서 로드 전) */
+    private static final Map<String, AtomicReference<ForecastSnapshot>> CURRENT =
+            new ConcurrentHashMap<>();
+
+    /** key 별 진행 중인 지연 로더 (단일 실행 보장용) */
+    private static final Map<String, AtomicReference<FutureTask<ForecastSnapshot>>> LOADER =
+            new ConcurrentHashMap<>();
+
+    /** 게시 순번 (0 = 디스크에서 복원된 초기값) */
+    public final long version;
+
+    /** 일별 요약 리스트 (수정 불가) */
+    public final List<ForecastResponse.ForecastItem> items;
+
+    /**
+     * 요약을 만든 원본 slot 의 날짜별 서명 (ForecastMerger.daySignatures)
+     * - 디스크에서 복원한 경우 비어 있음 → 다음 새로고침에서 전체 재계산
+     */
+    public final Map<String, Long> daySignatures;
+
+    private ForecastSnapshot(long version, List<ForecastResponse.ForecastItem> items,
+                             Map<String, Long> daySignatures) {
+        this.version = version;
+        this.items = items;
+        this.daySignatures = daySignatures;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * 현재 스냅샷을 락 없이 조회 (로드 전이면 null)
+     */
+    @Nullable
+    public static ForecastSnapshot current(String key) {
+        return slot(key, CURRENT).get();
+    }
+
+    /**
+     * 스냅샷을 저장하는 prefs 키
+     */
+    static String prefsKey(String key) {
+        return WeatherRepository.DEFAULT_KEY.equals(key) ? PREFS_KEY : PREFS_KEY + "_" + key;
+    }
+
+    private static <T> AtomicReference<T> slot(String key, Map<String, AtomicReference<T>> map) {
+        return map.computeIfAbsent(key, k -> new AtomicReference<>());
+    }
+
+    /**
+     * 현재 스냅샷 조회, 아직 없으면 prefs 에서 한 번만 복원
+     * - 동시에 여러 스레드가 호출해도 Gson 역직렬화는 한 번만 실행되고
+     *   나머지는 그 결과를 기다렸다가 공유
+     */
+    @NonNull
+    public static ForecastSnapshot get(Context context, String key) {
+        AtomicReference<ForecastSnapshot> ref = slot(key, CURRENT);
+        ForecastSnapshot snapshot = ref.get();
+        if (snapshot != null) return snapshot;
+
+        AtomicReference<FutureTask<ForecastSnapshot>> loader = slot(key, LOADER);
+        FutureTask<ForecastSnapshot> task = loader.get();
+        if (task == null) {
+            Context app = context.getApplicationContext();
+            FutureTask<ForecastSnapshot> created = new FutureTask<>(() -> load(app, key, ref));
+            if (loader.compareAndSet(null, created)) {
+                created.run();
+            }
+            task = loader.get();
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.e(TAG, "캐시 복원 실패", e.getCause());
+            // 다음 호출에서 다시 시도할 수 있도록 로더 해제
+            loader.compareAndSet(task, null);
+        }
+        snapshot = ref.get();
+        return snapshot != null
+                ? snapshot
+                : new ForecastSnapshot(0, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * 새로고침 결과를 새 스냅샷으로 게시 (한 번의 원자적 교체)
+     * @param daySignatures 요약의 원본 slot 날짜별 서명
+     * @return 게시된 스냅샷
+     */
+    @NonNull
+    public static ForecastSnapshot publish(String key, List<ForecastResponse.ForecastItem> items,
+                                           Map<String, Long> daySignatures) {
+        AtomicReference<ForecastSnapshot> ref = slot(key, CURRENT);
+        List<ForecastResponse.ForecastItem> frozen =
+                Collections.unmodifiableList(new ArrayList<>(items));
+        Map<String, Long> frozenSignatures =
+                Collections.unmodifiableMap(new HashMap<>(daySignatures));
+        while (true) {
+            ForecastSnapshot prev = ref.get();
+            long nextVersion = prev == null ? 1 : prev.version + 1;
+            ForecastSnapshot next = new ForecastSnapshot(nextVersion, frozen, frozenSignatures);
+            if (ref.compareAndSet(prev, next)) return next;
+        }
+    }
+
+    /**
+     * prefs 의 JSON 을 역직렬화하여 초기 스냅샷(version 0)으로 설치
+     * - 그 사이 publish() 가 먼저 일어났다면 더 새로운 값을 유지
+     */
+    private static ForecastSnapshot load(Context context, String key,
+                                         AtomicReference<ForecastSnapshot> ref) {
+        SharedPreferences prefs = context.getSharedPreferences("prefs", Context.MODE_PRIVATE);
+        String json = prefs.getString(prefsKey(key), "");
+        Type type = new TypeToken<List<ForecastResponse.ForecastItem>>() {}.getType();
+        List<ForecastResponse.ForecastItem> list =
+                WeatherApplication.container().gson().fromJson(json, type);
+
+        ForecastSnapshot loaded = new ForecastSnapshot(0,
+                list == null
+                        ? Collections.emptyList()
+                        : Collections.unmodifiableList(list),
+                Collections.emptyMap());
+        if (ref.compareAndSet(null, loaded)) return loaded;
+        return ref.get();
+    }
+}
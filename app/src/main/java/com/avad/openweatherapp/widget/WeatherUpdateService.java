@@ -5,40 +5,51 @@ import android.appwidget.AppWidgetManager;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Build;
 import android.util.Log;
 import android.view.View;
 import android.widget.RemoteViews;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.app.JobIntentService;
 
 import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.aggregate.DailyAggregator;
+import com.avad.openweatherapp.data.alert.AlertEngine;
+import com.avad.openweatherapp.data.alert.WeatherAlert;
+import com.avad.openweatherapp.data.energy.EnergyLedger;
+import com.avad.openweatherapp.data.energy.EnergyTracker;
+import com.avad.openweatherapp.data.energy.RefreshTrigger;
+import com.avad.openweatherapp.data.local.SavedLocation;
+import com.avad.openweatherapp.data.local.SettingsStore;
+import com.avad.openweatherapp.data.local.WidgetState;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
 import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.repository.FetchPolicy;
+import com.avad.openweatherapp.repository.ForecastResult;
 import com.avad.openweatherapp.repository.WeatherRepository;
 import com.avad.openweatherapp.ui.view.MainActivity;
-import com.bumptech.glide.Glide;
-import com.bumptech.glide.request.target.AppWidgetTarget;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 
-import java.lang.reflect.Type;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-
-import retrofit2.Call;
-import retrofit2.Response;
+import java.util.Set;
 
 /**
  * WeatherUpdateService
  * - 위젯의 날씨 정보를 백그라운드에서 업데이트
+ * - 일별 요약 스냅샷을 게시하고 헤더/버튼/리스트 연결을 렌더링
+ *   (리스트 항목은 DailyForecastWidgetService 가 제공)
  * - JobIntentService를 사용 (SDK 33 이상은 WorkManager 권장)
  */
 public class WeatherUpdateService extends JobIntentService {
@@ -46,24 +57,45 @@ public class WeatherUpdateService extends JobIntentService {
     private static final int JOB_ID = 1001;
 
     public static final String EXTRA_REFRESH = "refresh_requested";
-
-    /**
-     * 인-메모리 캐시: summaryForecastByDay 결과
-     * 앱 전체 런타임 동안 유지
-     */
-    private static List<ForecastResponse.ForecastItem> cachedForecastList = null;
+    public static final String EXTRA_WIDGET_IDS = "widget_ids";
+    public static final String EXTRA_TRIGGER = "trigger";
 
     /**
      * 서비스 실행 등록
      * @param context 컨텍스트
+     * @param trigger 실행 원인 (에너지 기록 집계 단위)
      * @param refreshRequested 강제 새로고침 플래그
+     * @param appWidgetIds 갱신할 인스턴스 (null 이면 전체, 같은 위치의 다른 인스턴스도 함께 갱신)
      */
-    public static void enqueueWork(Context context, boolean refreshRequested) {
+    public static void enqueueWork(Context context, RefreshTrigger trigger,
+                                   boolean refreshRequested, @Nullable int[] appWidgetIds) {
         Intent intent = new Intent();
         intent.putExtra(EXTRA_REFRESH, refreshRequested);  // 새로고침 여부 전달
+        intent.putExtra(EXTRA_TRIGGER, trigger.name());
+        if (appWidgetIds != null) intent.putExtra(EXTRA_WIDGET_IDS, appWidgetIds);
         enqueueWork(context, WeatherUpdateService.class, JOB_ID, intent);
     }
 
+    /**
+     * 위젯 갱신(WIDGET_UPDATE)으로 enqueueWork
+     * @param context 컨텍스트
+     * @param refreshRequested 강제 새로고침 플래그
+     * @param appWidgetIds 갱신할 인스턴스 (null 이면 전체)
+     */
+    public static void enqueueWork(Context context, boolean refreshRequested,
+                                   @Nullable int[] appWidgetIds) {
+        enqueueWork(context, RefreshTrigger.WIDGET_UPDATE, refreshRequested, appWidgetIds);
+    }
+
+    /**
+     * 전체 인스턴스 대상 enqueueWork
+     * @param context 컨텍스트
+     * @param refreshRequested 강제 새로고침 플래그
+     */
+    public static void enqueueWork(Context context, boolean refreshRequested) {
+        enqueueWork(context, refreshRequested, null);
+    }
+
     /**
      * 기본 enqueueWork (refresh 없이)
      * @param context 컨텍스트
@@ -74,273 +106,327 @@ public class WeatherUpdateService extends JobIntentService {
 
     /**
      * 백그라운드에서 실행되는 메인 로직
-     * - SharedPreferences에서 인덱스와 저장된 예보 JSON 로드
-     * - 리모트(강제 새로고침) 또는 캐시된 데이터로 위젯 업데이트
+     * - 대상 인스턴스를 표시 위치(cell) 별로 묶어
+     *   1) 캐시 스냅샷으로 모든 인스턴스를 한 번에 렌더링
+     *   2) 새로고침 요청 또는 캐시가 없는 위치만 위치당 한 번 조회
+     *   3) 조회가 모두 끝나면 영향받은 인스턴스를 한 번에 다시 렌더링
+     *   4) 새로 받은 예보에 알림 규칙 적용 (추가 요청 없이 받은 데이터만 사용)
+     * - 시작부터 마지막 렌더링까지를 실행 원인(EXTRA_TRIGGER)의 작업 한 번으로 기록
+     * - 날짜별 항목은 DailyForecastViewsFactory 가 스냅샷에서 읽으므로
+     *   여기서는 헤더/버튼/리스트 연결만 구성
      */
     @Override
     protected void onHandleWork(@NonNull Intent intent) {
-        SharedPreferences prefs = getSharedPreferences("prefs", MODE_PRIVATE);
-        Gson gson = new Gson();
+        SettingsStore settings = WeatherApplication.container().settingsStore();
         boolean refreshRequested = intent.getBooleanExtra(EXTRA_REFRESH, false);
+        int[] requested = intent.getIntArrayExtra(EXTRA_WIDGET_IDS);
+        EnergyTracker energy = WeatherApplication.container().energyTracker();
+        EnergyLedger.Session session = energy.begin(triggerOf(intent));
 
-        // SharedPreferences에서 현재 forecast_index 읽기
-        int index = prefs.getInt("forecast_index", 0);
+        AppWidgetManager manager = AppWidgetManager.getInstance(this);
+        int[] allIds = manager.getAppWidgetIds(new ComponentName(this, WeatherWidget.class));
+        Map<String, List<Integer>> groups = WidgetGroups.byLocation(
+                allIds, requested, id -> locationKey(settings, settings.getWidgetState(id)));
+        if (groups.isEmpty()) {
+            energy.end(session);
+            return;
+        }
 
-        // 캐시가 비어있으면 JSON 문자열에서 복원
-        if (cachedForecastList == null) {
-            String json = prefs.getString("forecast_list", "");
-            Type type = new TypeToken<List<ForecastResponse.ForecastItem>>() {}.getType();
-            cachedForecastList = gson.fromJson(json, type);
+        // 위치별 캐시 스냅샷 조회 (없으면 JSON 문자열에서 한 번만 복원)
+        Map<String, ForecastSnapshot> snapshots = new HashMap<>();
+        List<String> fetchKeys = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            ForecastSnapshot snapshot = ForecastSnapshot.get(this, group.getKey());
+            snapshots.put(group.getKey(), snapshot);
+            if (refreshRequested || snapshot.isEmpty()) fetchKeys.add(group.getKey());
         }
 
-        // RemoteViews와 AppWidgetManager 초기화
-        RemoteViews views = new RemoteViews(getPackageName(), R.layout.weather_widget);
-        AppWidgetManager manager = AppWidgetManager.getInstance(this);
-        ComponentName widget = new ComponentName(this, WeatherWidget.class);
+        // 캐시 데이터로 즉시 렌더링 (조회할 위치는 로딩 표시)
+        renderGroups(this, manager, groups, fetchKeys);
 
-        // refreshRequested=true인 경우 로딩 표시
-        if (refreshRequested) {
-            views.setViewVisibility(R.id.widget_progress_bar, View.VISIBLE);
-            manager.updateAppWidget(widget, views);
+        // 아직 저장되지 않은 아이콘이 있으면 받아 두고 리스트만 다시 읽게 함
+        if (WidgetIconCache.getInstance(this).prefetch(iconsOf(snapshots.values())) > 0) {
+            manager.notifyAppWidgetViewDataChanged(idsOf(groups), R.id.widget_days_lv);
+        }
+        if (fetchKeys.isEmpty()) {
+            energy.end(session);
+            return;
         }
 
-        // 현재 인덱스 기반으로 위젯 UI 업데이트
-        updateWidgetUI(this, views, index);
-        setupWidgetButtons(this, views);
-        manager.updateAppWidget(widget, views);
-
-        // 서버에서 새로고침 요청 시
-        if (refreshRequested) {
-            double lat = Double.longBitsToDouble(prefs.getLong("lat", 0));
-            double lon = Double.longBitsToDouble(prefs.getLong("lon", 0));
-
-            new WeatherRepository().getWeekendWeather(lat, lon, new retrofit2.Callback<ForecastResponse>() {
-                @Override
-                public void onResponse(Call<ForecastResponse> call, Response<ForecastResponse> response) {
-                    if (response.isSuccessful() && response.body() != null) {
-                        // 서버로부터 받은 3시간 단위 rawList → 요약 리스트
-                        List<ForecastResponse.ForecastItem> summarized = summarizeForecastByDay(response.body().list);
-
-                        // 새로고침 후 인덱스 초기화 (오늘)
-                        int refreshedIndex = 0;
-
-                        // 캐시 및 SharedPreferences 갱신
-                        cachedForecastList = summarized;
-                        prefs.edit()
-                                .putString("forecast_list", gson.toJson(summarized))
-                                .putInt("forecast_index", refreshedIndex)
-                                .apply();
-
-                        // 위젯 UI 재갱신
-                        updateWidgetUI(getApplicationContext(), views, refreshedIndex);
-                        setupWidgetButtons(getApplicationContext(), views);
-                    }
-                    // 로딩바 숨김 처리
-                    views.setViewVisibility(R.id.widget_progress_bar, View.GONE);
-                    manager.updateAppWidget(widget, views);
-                }
+        // 위치(cell) 당 한 번 조회, 콜백은 모두 메인 스레드에서 순서대로 실행
+        Context app = getApplicationContext();
+        Map<String, List<Integer>> affected = new LinkedHashMap<>();
+        for (String key : fetchKeys) affected.put(key, groups.get(key));
+        Map<String, ForecastResult> fresh = new HashMap<>();
+        int[] remaining = {fetchKeys.size()};
+
+        for (String key : fetchKeys) {
+            SavedLocation location = savedLocation(settings, key);
+            double lat = location != null ? location.lat : settings.getLat();
+            double lon = location != null ? location.lon : settings.getLon();
+
+            // 위젯용 정책: 짧은 마감 시간, 초과 시 캐시 예보(stale) 수신
+            WeatherApplication.container().weatherRepository().fetchForecast(
+                    key, lat, lon, FetchPolicy.WIDGET, result -> {
+                        snapshots.put(key, publishResult(app, key, snapshots.get(key), result));
+                        if (result.hasData() && !result.stale) fresh.put(key, result);
+                        if (--remaining[0] > 0) return;
+
+                        // 마지막 조회가 끝나면 아이콘 저장 후 영향받은 인스턴스 일괄 렌더링 (로딩 해제)
+                        WeatherApplication.container().backgroundExecutor().execute(() -> {
+                            WidgetIconCache.getInstance(app).prefetch(iconsOf(snapshots.values()));
+                            renderGroups(app, manager, affected, Collections.emptyList());
+                            evaluateAlerts(app, fresh);
+                            energy.end(session);
+                        });
+                    });
+        }
+    }
 
-                @Override
-                public void onFailure(Call<ForecastResponse> call, Throwable t) {
-                    Log.e("WeatherService", "Forecast fetch failed", t);
-                    views.setViewVisibility(R.id.widget_progress_bar, View.GONE);
-                    manager.updateAppWidget(widget, views);
-                }
-            });
+    private static RefreshTrigger triggerOf(Intent intent) {
+        String name = intent.getStringExtra(EXTRA_TRIGGER);
+        try {
+            return name != null ? RefreshTrigger.valueOf(name) : RefreshTrigger.WIDGET_UPDATE;
+        } catch (IllegalArgumentException e) {
+            return RefreshTrigger.WIDGET_UPDATE;
         }
     }
 
     /**
-     * 인덱스 기반으로 위젯 UI 컨텐츠 세팅
-     * @param context 컨텍스트
-     * @param views RemoteViews 인스턴스
-     * @param index 표시할 ForecastItem 인덱스
+     * 조회 결과를 위치별 스냅샷으로 게시
+     * - 실패, 이미 표시 중인 데이터가 있는 stale 결과, 날짜별 서명이 같은 결과는 기존 스냅샷 유지
+     * @return 렌더링에 사용할 스냅샷
      */
-    private static void updateWidgetUI(Context context, RemoteViews views, int index) {
-        // 캐시가 null이거나 인덱스 범위 초과 시 리턴
-        if (cachedForecastList == null || cachedForecastList.size() <= index) return;
-
-        // ForecastItem 가져오기
-        ForecastResponse.ForecastItem item = cachedForecastList.get(index);
-
-        // 텍스트뷰 세팅
-        views.setTextViewText(R.id.widget_high_temp_tv, String.format("최고 %.1f°C", item.main.temp_max));
-        views.setTextViewText(R.id.widget_low_temp_tv, String.format("최저 %.1f°C", item.main.temp_min));
-        views.setTextViewText(R.id.widget_date_tv, getFormattedDateWithDayOfWeek(item.dtTxt));
-        views.setTextViewText(R.id.widget_description_tv, getShortDescription(item.weather.get(0).description));
-
-        // 아이콘 비동기 로드
-        if (item.weather != null && !item.weather.isEmpty()) {
-            String iconUrl = "https://openweathermap.org/img/wn/" + item.weather.get(0).icon + "@2x.png";
-            AppWidgetTarget target = new AppWidgetTarget(
-                    context, R.id.widget_icon_iv, views,
-                    new ComponentName(context, WeatherWidget.class));
-            Glide.with(context.getApplicationContext())
-                    .asBitmap()
-                    .load(iconUrl)
-                    .into(target);
+    private static ForecastSnapshot publishResult(Context context, String key,
+                                                  ForecastSnapshot snapshot, ForecastResult result) {
+        if (!result.hasData()) {
+            Log.e("WeatherService", "Forecast fetch failed: " + key, result.error);
+            return snapshot;
+        }
+        if (result.stale && !snapshot.isEmpty()) {
+            // 이미 표시 중인 데이터가 있으면 그대로 유지
+            Log.w("WeatherService", "Forecast stale (" + result.ageMillis
+                    + "ms), keeping widget data: " + key, result.error);
+            return snapshot;
         }
 
-        // 이전/다음 화살표 visibility 제어
-        views.setViewVisibility(R.id.widget_prev_day_iv, index == 0 ? View.INVISIBLE : View.VISIBLE);
-        views.setViewVisibility(R.id.widget_next_day_iv,
-                index == cachedForecastList.size() - 1 ? View.INVISIBLE : View.VISIBLE);
+        // 날짜별 서명 비교 → 바뀐 날짜만 다시 요약
+        Map<String, Long> signatures = ForecastMerger.daySignatures(result.forecast.list);
+        if (!snapshot.isEmpty() && signatures.equals(snapshot.daySignatures)) {
+            // 변경 없음: 저장 생략
+            Log.d("WeatherService", "Forecast unchanged, skip widget update: " + key);
+            return snapshot;
+        }
+        List<ForecastResponse.ForecastItem> summarized =
+                summarizeChangedDays(snapshot, result.forecast.list, signatures);
+
+        // 캐시 스냅샷 교체 및 SharedPreferences 갱신
+        ForecastSnapshot published = ForecastSnapshot.publish(key, summarized, signatures);
+        Gson gson = WeatherApplication.container().gson();
+        context.getSharedPreferences("prefs", MODE_PRIVATE).edit()
+                .putString(ForecastSnapshot.prefsKey(key), gson.toJson(summarized))
+                .apply();
+        return published;
     }
 
     /**
-     * 위젯 버튼 클릭 리스너 설정
-     * - PREV/NEXT: AlarmReceiver broadcast
-     * - REFRESH: 이 서비스 재실행
-     * - 위젯 전체 클릭: MainActivity 실행
+     * 새로 받은 예보에 알림 규칙 적용 후 알림 게시
+     * - AlertEngine 이 창 안 slot 이 지난 평가와 달라진 규칙만 평가하고 이미 알린 현상은 거름
+     * - 상태가 바뀐 경우에만 설정에 저장
      */
-    private static void setupWidgetButtons(Context context, RemoteViews views) {
-        // 이전
-        PendingIntent prev = PendingIntent.getBroadcast(context, 0,
-                new Intent(context, AlarmReceiver.class).setAction("com.avad.widget.PREV"),
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
-        views.setOnClickPendingIntent(R.id.widget_prev_day_iv, prev);
+    private static void evaluateAlerts(Context context, Map<String, ForecastResult> fresh) {
+        if (fresh.isEmpty()) return;
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        AlertEngine engine = WeatherApplication.container().alertEngine();
+        long now = System.currentTimeMillis() / 1000;
+        for (Map.Entry<String, ForecastResult> e : fresh.entrySet()) {
+            ForecastResult result = e.getValue();
+            List<WeatherAlert> alerts = engine.evaluate(e.getKey(), settings.getAlertRules(),
+                    result.forecast.list, now);
+            AlertNotifier.post(context, locationLabel(settings, e.getKey()), alerts,
+                    settings.getDisplayOptions());
+        }
+        if (engine.isDirty()) settings.setAlertState(engine.encodeState());
+    }
 
-        // 다음
-        PendingIntent next = PendingIntent.getBroadcast(context, 1,
-                new Intent(context, AlarmReceiver.class).setAction("com.avad.widget.NEXT"),
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
-        views.setOnClickPendingIntent(R.id.widget_next_day_iv, next);
+    /**
+     * 위치별로 묶인 인스턴스를 한 번에 렌더링하고 리스트 데이터 갱신 알림
+     * @param loading 로딩바를 표시할 위치 key
+     */
+    private static void renderGroups(Context context, AppWidgetManager manager,
+                                     Map<String, List<Integer>> groups,
+                                     Collection<String> loading) {
+        SettingsStore settings = WeatherApplication.container().settingsStore();
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            String key = group.getKey();
+            String label = locationLabel(settings, key);
+            boolean busy = loading.contains(key);
+            for (int id : group.getValue()) {
+                manager.updateAppWidget(id, buildViews(context, id, label, busy));
+            }
+        }
+        manager.notifyAppWidgetViewDataChanged(idsOf(groups), R.id.widget_days_lv);
+    }
+
+    /**
+     * 인스턴스 하나의 RemoteViews 구성 (헤더 + 5일 리스트 연결)
+     */
+    private static RemoteViews buildViews(Context context, int appWidgetId, String label,
+                                          boolean loading) {
+        RemoteViews views = new RemoteViews(context.getPackageName(), R.layout.weather_widget);
+        views.setTextViewText(R.id.widget_location_tv, label);
+        views.setViewVisibility(R.id.widget_progress_bar, loading ? View.VISIBLE : View.GONE);
+
+        // 인스턴스별 Factory 를 받도록 intent 를 구분 (extra 만 다르면 같은 것으로 취급)
+        Intent adapter = new Intent(context, DailyForecastWidgetService.class)
+                .putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, appWidgetId);
+        adapter.setData(Uri.parse(adapter.toUri(Intent.URI_INTENT_SCHEME)));
+        views.setRemoteAdapter(R.id.widget_days_lv, adapter);
+        views.setEmptyView(R.id.widget_days_lv, R.id.widget_empty_tv);
+
+        setupWidgetButtons(context, views, appWidgetId);
+        return views;
+    }
+
+    private static int[] idsOf(Map<String, List<Integer>> groups) {
+        List<Integer> ids = new ArrayList<>();
+        for (List<Integer> group : groups.values()) ids.addAll(group);
+        int[] out = new int[ids.size()];
+        for (int i = 0; i < out.length; i++) out[i] = ids.get(i);
+        return out;
+    }
+
+    private static Set<String> iconsOf(Collection<ForecastSnapshot> snapshots) {
+        Set<String> icons = new HashSet<>();
+        for (ForecastSnapshot snapshot : snapshots) {
+            for (ForecastResponse.ForecastItem item : snapshot.items) {
+                if (item.weather != null && !item.weather.isEmpty()) {
+                    icons.add(item.weather.get(0).iconCode());
+                }
+            }
+        }
+        return icons;
+    }
+
+    /**
+     * 위젯 상태의 위치 key (저장 위치가 삭제되었으면 현재 위치)
+     */
+    static String locationKey(SettingsStore settings, WidgetState state) {
+        if (state.locationKey == null) return WeatherRepository.DEFAULT_KEY;
+        return savedLocation(settings, state.locationKey) != null
+                ? state.locationKey
+                : WeatherRepository.DEFAULT_KEY;
+    }
+
+    @Nullable
+    private static SavedLocation savedLocation(SettingsStore settings, String key) {
+        for (SavedLocation l : settings.getSavedLocations()) {
+            if (l.cellKey().equals(key)) return l;
+        }
+        return null;
+    }
+
+    private static String locationLabel(SettingsStore settings, String key) {
+        SavedLocation location = savedLocation(settings, key);
+        if (location != null) return location.name;
+        String label = settings.getLocationLabel();
+        return label != null ? label : "현재 위치";
+    }
+
+    /**
+     * 위젯 버튼 클릭 리스너 설정 (인스턴스별 PendingIntent)
+     * - LOCATION: AlarmReceiver broadcast
+     * - REFRESH: 이 인스턴스의 위치 새로고침
+     * - 헤더 클릭: MainActivity 실행, 날짜 항목 클릭: 그 날짜로 MainActivity 실행
+     */
+    private static void setupWidgetButtons(Context context, RemoteViews views, int appWidgetId) {
+        // 인스턴스마다 다른 requestCode (extra 만 다른 PendingIntent 는 같은 것으로 취급되므로)
+        int base = appWidgetId * 4;
 
         // 새로고침
-        PendingIntent refresh = PendingIntent.getBroadcast(context, 2,
-                new Intent(context, AlarmReceiver.class).setAction("com.avad.widget.REFRESH"),
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
-        views.setOnClickPendingIntent(R.id.widget_refresh_iv, refresh);
+        views.setOnClickPendingIntent(R.id.widget_refresh_iv,
+                broadcast(context, base, "com.avad.widget.REFRESH", appWidgetId));
+
+        // 위치 전환 (현재 위치 → 저장 위치 순환)
+        views.setOnClickPendingIntent(R.id.widget_location_tv,
+                broadcast(context, base + 1, "com.avad.widget.LOCATION", appWidgetId));
 
         // 위젯 클릭 시 MainActivity 실행
-        SharedPreferences prefs = context.getSharedPreferences("prefs", Context.MODE_PRIVATE);
-        int idx = prefs.getInt("forecast_index", 0);
         Intent launchIntent = new Intent(context, MainActivity.class);
-        launchIntent.putExtra("widget_index", idx);
         launchIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
         PendingIntent mainIntent = PendingIntent.getActivity(
-                context, 3, launchIntent,
+                context, base + 2, launchIntent,
                 PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
         views.setOnClickPendingIntent(R.id.widget_ll, mainIntent);
+
+        // 날짜 항목 클릭: Factory 의 fill-in intent(widget_index)가 합쳐지므로 mutable
+        int mutable = Build.VERSION.SDK_INT >= Build.VERSION_CODES.S ? PendingIntent.FLAG_MUTABLE : 0;
+        PendingIntent itemTemplate = PendingIntent.getActivity(
+                context, base + 3, launchIntent,
+                PendingIntent.FLAG_UPDATE_CURRENT | mutable);
+        views.setPendingIntentTemplate(R.id.widget_days_lv, itemTemplate);
+    }
+
+    private static PendingIntent broadcast(Context context, int requestCode, String action,
+                                           int appWidgetId) {
+        Intent intent = new Intent(context, AlarmReceiver.class)
+                .setAction(action)
+                .putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, appWidgetId);
+        return PendingIntent.getBroadcast(context, requestCode, intent,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
     }
 
     /**
-     * rawList를 날짜별로 그룹화 후 최소/최대 기온으로 요약
-     * @param rawList 3시간 단위 원본 리스트
+     * 서명이 바뀐 날짜만 다시 요약하고, 나머지 날짜는 기존 스냅샷의 요약을 재사용
+     * @param snapshot 현재 위젯 스냅샷
+     * @param rawList 새로 받은 3시간 단위 원본 리스트
+     * @param signatures rawList 의 날짜별 서명
      * @return 요약 리스트 (최대 5일)
      */
-    private List<ForecastResponse.ForecastItem> summarizeForecastByDay(List<ForecastResponse.ForecastItem> rawList) {
-        // 날짜별로 ForecastItem을 담을 맵 생성
-        //    LinkedHashMap으로 선언: rawList 순서(시계열)를 유지하기 위함
-        Map<String, List<ForecastResponse.ForecastItem>> grouped = new LinkedHashMap<>();
+    @VisibleForTesting
+    public static List<ForecastResponse.ForecastItem> summarizeChangedDays(
+            ForecastSnapshot snapshot,
+            List<ForecastResponse.ForecastItem> rawList,
+            Map<String, Long> signatures) {
+        // 서명이 같은 날짜의 기존 요약
+        Map<String, ForecastResponse.ForecastItem> kept = new HashMap<>();
+        for (ForecastResponse.ForecastItem summary : snapshot.items) {
+            String day = ForecastMerger.dayOf(summary);
+            Long old = snapshot.daySignatures.get(day);
+            if (old != null && old.equals(signatures.get(day))) kept.put(day, summary);
+        }
 
-        // rawList 순회하며 날짜별로 그룹핑
+        // 바뀐 날짜의 slot 만 골라 요약
+        List<ForecastResponse.ForecastItem> changedRaw = new ArrayList<>();
         for (ForecastResponse.ForecastItem item : rawList) {
-            // dtTxt는 "YYYY-MM-DD HH:mm:ss" 형태이므로, 공백 기준으로 split 후 앞부분(날짜)만 추출
-            String dateKey = item.dtTxt.split(" ")[0];
-
-            // 해당 날짜Key가 없으면 새 ArrayList 생성, 있으면 기존 리스트 반환
-            grouped.computeIfAbsent(dateKey, k -> new ArrayList<>())
-                    // 2-3) 현재 아이템을 해당 날짜 그룹에 추가
-                    .add(item);
+            if (!kept.containsKey(ForecastMerger.dayOf(item))) changedRaw.add(item);
+        }
+        Map<String, ForecastResponse.ForecastItem> fresh = new HashMap<>();
+        for (ForecastResponse.ForecastItem summary : summarizeForecastByDay(changedRaw)) {
+            fresh.put(ForecastMerger.dayOf(summary), summary);
         }
 
-        // 최종 요약 결과를 담을 리스트
+        // 원본 날짜 순서대로 조립 (최대 5일)
         List<ForecastResponse.ForecastItem> result = new ArrayList<>();
-
-        // 날짜별 그룹맵 순회
-        for (Map.Entry<String, List<ForecastResponse.ForecastItem>> entry : grouped.entrySet()) {
-            //그 날짜 그룹에서 최저·최고 기온을 계산하기 위한 초기화
-            double min = Double.MAX_VALUE;
-            double max = -Double.MAX_VALUE;
-
-            //날씨 정보(아이콘, 설명 등)를 가져오기 위해 첫 번째 아이템을 샘플로 참조
-            ForecastResponse.ForecastItem sample = entry.getValue().get(0);
-
-            // 해당 날짜 그룹 안의 모든 ForecastItem 순회하며
-            for (ForecastResponse.ForecastItem it : entry.getValue()) {
-                // temp_min이 현재 min보다 작으면 업데이트
-                if (it.main.temp_min < min) {
-                    min = it.main.temp_min;
-                }
-                // temp_max이 현재 max보다 크면 업데이트
-                if (it.main.temp_max > max) {
-                    max = it.main.temp_max;
-                }
-            }
-
-            // 계산된 최저·최고 기온으로 새로운 요약 ForecastItem 객체 생성
-            ForecastResponse.ForecastItem summary = new ForecastResponse.ForecastItem();
-            //  dtTxt는 해당 날짜 00:00:00으로 설정 (데이터 식별용)
-            summary.dtTxt = entry.getKey() + " 00:00:00";
-            //  main 필드 초기화 후 온도 세팅
-            summary.main = new ForecastResponse.Main();
-            summary.main.temp_min = min;
-            summary.main.temp_max = max;
-            //  날씨 정보는 샘플의 weather(리스트) 그대로 복사
-            summary.weather = sample.weather;
-
-            // 결과 리스트에 추가
-            result.add(summary);
-
-            // 최대 5일치까지만 요약하도록 제한
-            if (result.size() == 5) {
-                break;
-            }
+        String lastDay = null;
+        for (ForecastResponse.ForecastItem item : rawList) {
+            String day = ForecastMerger.dayOf(item);
+            if (day.equals(lastDay)) continue;
+            lastDay = day;
+            ForecastResponse.ForecastItem summary = kept.containsKey(day) ? kept.get(day) : fresh.get(day);
+            if (summary != null) result.add(summary);
+            if (result.size() == 5) break;
         }
-
         return result;
     }
 
     /**
-     * "yyyy-MM-dd HH:mm:ss" 문자열을 "MM월 dd일(요일)" 포맷으로 변환
-     */
-    public static String getFormattedDateWithDayOfWeek(String dateStr) {
-        try {
-            SimpleDateFormat input = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-            Date date = input.parse(dateStr);
-            SimpleDateFormat dateFmt = new SimpleDateFormat("MM월 dd일", Locale.KOREA);
-            String part = dateFmt.format(date);
-            Calendar cal = Calendar.getInstance();
-            cal.setTime(date);
-            String[] days = {"일","월","화","수","목","금","토"};
-            return part + "(" + days[cal.get(Calendar.DAY_OF_WEEK)-1] + ")";
-        } catch (ParseException e) {
-            e.printStackTrace();
-            return "날짜 오류";
-        }
-    }
-
-    /**
-     * 원본 설명 문자열을 간략화
-     */
-    private static String getShortDescription(String original) {
-        if (original.contains("맑음")) return "맑음";
-        if (original.contains("흐림") || original.contains("구름")) return "흐림";
-        if (original.contains("비")) return original.contains("강한") ? "폭우" : "비";
-        if (original.contains("눈")) return original.contains("강한") ? "폭설" : "눈";
-        if (original.contains("천둥") || original.contains("뇌우")) return "뇌우";
-        if (original.contains("안개")) return "안개";
-        return original;
-    }
-
-    /**
-     * 빠른 위젯 업데이트 (서비스 재실행 없이 인덱스 변경 시)
+     * rawList를 날짜별로 요약 (DailyAggregator 단일 순회 집계)
+     * @param rawList 3시간 단위 원본 리스트
+     * @return 요약 리스트 (최대 5일)
      */
-    public static void quickUpdateWidget(Context context) {
-        SharedPreferences prefs = context.getSharedPreferences("prefs", Context.MODE_PRIVATE);
-        Gson gson = new Gson();
-        int index = prefs.getInt("forecast_index", 0);
-        if (cachedForecastList == null) {
-            String json = prefs.getString("forecast_list", "");
-            Type type = new TypeToken<List<ForecastResponse.ForecastItem>>() {}.getType();
-            cachedForecastList = gson.fromJson(json, type);
-        }
-        RemoteViews views = new RemoteViews(context.getPackageName(), R.layout.weather_widget);
-        AppWidgetManager manager = AppWidgetManager.getInstance(context);
-        ComponentName widget = new ComponentName(context, WeatherWidget.class);
-        updateWidgetUI(context, views, index);
-        setupWidgetButtons(context, views);
-        manager.updateAppWidget(widget, views);
+    @VisibleForTesting
+    public static List<ForecastResponse.ForecastItem> summarizeForecastByDay(List<ForecastResponse.ForecastItem> rawList) {
+        return DailyAggregator.summarize(rawList);
     }
-}
\ No newline at end of file
+}
@@ -4,13 +4,22 @@ import android.appwidget.AppWidgetManager;
 import android.appwidget.AppWidgetProvider;
 import android.content.Context;
 
+import com.avad.openweatherapp.WeatherApplication;
+
 public class WeatherWidget extends AppWidgetProvider {
 
     // 추가 및 업데이트
     @Override
     public void onUpdate(Context context, AppWidgetManager appWidgetManager, int[] appWidgetIds) {
-        // 최초 실행 및 강제 리프래시
-        WeatherUpdateService.enqueueWork(context,true);
+        // 전달된 인스턴스만 캐시로 갱신 (캐시가 없는 위치만 조회)
+        WeatherUpdateService.enqueueWork(context, false, appWidgetIds);
+    }
+
+    // 인스턴스 제거 시 상태 삭제
+    @Override
+    public void onDeleted(Context context, int[] appWidgetIds) {
+        WeatherApplication.container().backgroundExecutor().execute(() ->
+                WeatherApplication.container().settingsStore().removeWidgetStates(appWidgetIds));
     }
 
     // 첫실행시만
@@ -26,4 +35,4 @@ public class WeatherWidget extends AppWidgetProvider {
         // 알람 해제
         AlarmScheduler.cancelAlarm(context);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.avad.openweatherapp.widget;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * WidgetGroups
+ * - 위젯 인스턴스를 표시 위치(cell) 별로 묶음
+ *   (같은 cell 의 인스턴스는 한 번만 조회하고 함께 갱신)
+ */
+final class WidgetGroups {
+
+    private WidgetGroups() {
+    }
+
+    /**
+     * @param allIds     배치된 모든 위젯 인스턴스
+     * @param requested  갱신을 요청한 인스턴스 (null 이면 전체)
+     * @param locationOf 인스턴스의 위치 key
+     * @return 위치 key → 그 위치를 표시하는 모든 인스턴스 (요청 인스턴스가 포함된 위치만, 등장 순서 유지)
+     */
+    static Map<String, List<Integer>> byLocation(int[] allIds, @Nullable int[] requested,
+                                                 IntFunction<String> locationOf) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int id : allIds) {
+            if (seen.add(id)) {
+                groups.computeIfAbsent(locationOf.apply(id), k -> new ArrayList<>()).add(id);
+            }
+        }
+        if (requested == null) return groups;
+
+        // 방금 추가되어 아직 목록에 없는 인스턴스도 포함
+        Set<String> wanted = new HashSet<>();
+        for (int id : requested) {
+            String key = locationOf.apply(id);
+            wanted.add(key);
+            if (seen.add(id)) groups.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+        }
+        groups.keySet().retainAll(wanted);
+        return groups;
+    }
+}
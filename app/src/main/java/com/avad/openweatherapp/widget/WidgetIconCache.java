@@ -0,0 +1,131 @@
+package com.avad.openweatherapp.widget;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.avad.openweatherapp.WeatherApplication;
+import com.avad.openweatherapp.data.cache.ForecastCacheManager;
+import com.avad.openweatherapp.data.cache.SizedCache;
+import com.avad.openweatherapp.data.energy.EnergyTracker;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.bumptech.glide.Glide;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * WidgetIconCache
+ * - 위젯 리스트 항목용 날씨 아이콘 비트맵 캐시
+ *   · 메모리: ForecastCacheManager.bitmaps() (메모리 압박 시 비워짐)
+ *   · 디스크: filesDir/widget_icons/<아이콘 코드>.png
+ * - RemoteViewsFactory 는 get() 으로 캐시만 읽고 네트워크를 사용하지 않음
+ * - 없는 아이콘은 위젯 갱신 시 prefetch() 로 한 번만 내려받아 저장
+ */
+public final class WidgetIconCache {
+
+    private static final String TAG = "WidgetIconCache";
+    private static final String DIR_NAME = "widget_icons";
+    private static final String KEY_PREFIX = "icon:";
+
+    /** 항목 ImageView 40dp 기준 (xxhdpi) */
+    private static final int SIZE_PX = 120;
+
+    private static volatile WidgetIconCache instance;
+
+    private final Context context;
+    private final File dir;
+
+    private WidgetIconCache(Context context) {
+        this.context = context.getApplicationContext();
+        this.dir = new File(this.context.getFilesDir(), DIR_NAME);
+    }
+
+    public static WidgetIconCache getInstance(Context context) {
+        WidgetIconCache cache = instance;
+        if (cache == null) {
+            synchronized (WidgetIconCache.class) {
+                cache = instance;
+                if (cache == null) {
+                    cache = new WidgetIconCache(context);
+                    instance = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * 메모리 → 디스크 순으로 아이콘 조회 (없으면 null, 네트워크 사용 안 함)
+     */
+    @WorkerThread
+    @Nullable
+    public Bitmap get(String icon) {
+        SizedCache<String, Bitmap> memory = ForecastCacheManager.getInstance().bitmaps();
+        Bitmap bitmap = memory.get(KEY_PREFIX + icon);
+        if (bitmap != null) return bitmap;
+
+        File file = file(icon);
+        if (!file.exists()) return null;
+        bitmap = BitmapFactory.decodeFile(file.getPath());
+        if (bitmap != null) memory.put(KEY_PREFIX + icon, bitmap);
+        return bitmap;
+    }
+
+    /**
+     * 디스크에 없는 아이콘만 내려받아 저장
+     * @return 새로 저장한 아이콘 수
+     */
+    @WorkerThread
+    public int prefetch(Collection<String> icons) {
+        int saved = 0;
+        for (String icon : icons) {
+            if (file(icon).exists()) continue;
+            // Glide 는 OkHttp 를 거치지 않으므로 앱 전체 전송량 차이로 기록
+            long start = System.currentTimeMillis();
+            long[] before = EnergyTracker.uidBytes();
+            try {
+                Bitmap bitmap = Glide.with(context)
+                        .asBitmap()
+                        .load(WeatherFormatter.getInstance().iconUrl(icon))
+                        .submit(SIZE_PX, SIZE_PX)
+                        .get();
+                if (write(icon, bitmap)) saved++;
+                ForecastCacheManager.getInstance().bitmaps().put(KEY_PREFIX + icon, bitmap);
+            } catch (ExecutionException e) {
+                Log.w(TAG, "아이콘 다운로드 실패: " + icon, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                WeatherApplication.container().energyTracker().recordSince(start, before);
+            }
+        }
+        return saved;
+    }
+
+    private boolean write(String icon, Bitmap bitmap) {
+        if (!dir.exists() && !dir.mkdirs()) return false;
+        File target = file(icon);
+        File tmp = new File(dir, target.getName() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, out);
+        } catch (IOException e) {
+            Log.e(TAG, "아이콘 저장 실패: " + icon, e);
+            return false;
+        }
+        return tmp.renameTo(target);
+    }
+
+    private File file(String icon) {
+        return new File(dir, icon + ".png");
+    }
+}
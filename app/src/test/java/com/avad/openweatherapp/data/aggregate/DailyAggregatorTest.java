@@ -0,0 +1,89 @@
+package com.avad.openweatherapp.data.aggregate;
+
+import static org.junit.Assert.assertEquals;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DailyAggregator 단일 순회 일별 집계 테스트
+ */
+public class DailyAggregatorTest {
+
+    @Test
+    public void computesTemperatureAndHumidityStatistics() {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        list.add(item("2024-05-01 00:00:00", 10f, 40, "01n", "맑음"));
+        list.add(item("2024-05-01 12:00:00", 20f, 60, "01d", "맑음"));
+        list.add(item("2024-05-02 00:00:00", 5f, 80, "10n", "비"));
+
+        List<DailyStats> days = DailyAggregator.aggregate(list, 5);
+
+        assertEquals(2, days.size());
+        DailyStats first = days.get(0);
+        assertEquals("2024-05-01", first.date);
+        assertEquals(9.0, first.minTemp, 1e-9);
+        assertEquals(21.0, first.maxTemp, 1e-9);
+        assertEquals(15.0, first.meanTemp, 1e-9);
+        assertEquals(50, first.meanHumidity);
+        assertEquals(2, first.slotCount);
+    }
+
+    @Test
+    public void picksDominantConditionWithDaytimeIcon() {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        list.add(item("2024-05-01 00:00:00", 10f, 50, "01n", "맑음"));
+        list.add(item("2024-05-01 03:00:00", 10f, 50, "10n", "비"));
+        list.add(item("2024-05-01 09:00:00", 12f, 50, "10d", "약한 비"));
+        list.add(item("2024-05-01 12:00:00", 14f, 50, "10d", "비"));
+        list.add(item("2024-05-01 21:00:00", 11f, 50, "04n", "흐림"));
+
+        DailyStats day = DailyAggregator.aggregate(list, 5).get(0);
+
+        // 비(10) 가 3 slot 으로 가장 길고, 그 중 첫 낮 slot 의 아이콘/설명 사용
+        assertEquals("10d", day.icon);
+        assertEquals("약한 비", day.description);
+    }
+
+    @Test
+    public void fallsBackToNightIconWhenNoDaytimeSlot() {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        list.add(item("2024-05-01 21:00:00", 10f, 50, "02n", "구름 조금"));
+
+        assertEquals("02n", DailyAggregator.aggregate(list, 5).get(0).icon);
+    }
+
+    @Test
+    public void limitsToMaxDays() {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        for (int d = 1; d <= 6; d++) {
+            list.add(item(String.format("2024-05-%02d 12:00:00", d), 10f, 50, "01d", "맑음"));
+        }
+
+        List<ForecastResponse.ForecastItem> summary = DailyAggregator.summarize(list);
+
+        assertEquals(DailyAggregator.MAX_DAYS, summary.size());
+        assertEquals("2024-05-05 00:00:00", summary.get(4).dtTxt);
+    }
+
+    private static ForecastResponse.ForecastItem item(String dtTxt, float temp, int humidity,
+                                                      String icon, String description) {
+        ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+        item.dtTxt = dtTxt;
+        item.main = new ForecastResponse.Main();
+        item.main.temp = temp;
+        item.main.temp_min = temp - 1;
+        item.main.temp_max = temp + 1;
+        item.main.humidity = humidity;
+        ForecastResponse.Weather weather = new ForecastResponse.Weather();
+        weather.icon = icon;
+        weather.description = description;
+        item.weather = Collections.singletonList(weather);
+        return item;
+    }
+}
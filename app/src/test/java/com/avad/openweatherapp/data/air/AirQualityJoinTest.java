@@ -0,0 +1,89 @@
+package com.avad.openweatherapp.data.air;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.model.AirPollutionResponse;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AirQualityJoin 시각 기준 slot 결합 테스트
+ */
+public class AirQualityJoinTest {
+
+    /** 2024-05-01 00:00:00 UTC */
+    private static final long BASE = 1714521600L;
+    private static final long HOUR = 3600L;
+
+    @Test
+    public void aggregatesHoursInsideEachSlot() {
+        List<ForecastResponse.ForecastItem> slots = slots(2);
+        AirPollutionResponse air = air(
+                entry(BASE, 1, 10f),
+                entry(BASE + HOUR, 3, 20f),
+                entry(BASE + 2 * HOUR, 2, 30f),
+                entry(BASE + 3 * HOUR, 2, 40f));
+
+        Map<Long, ForecastResponse.AirQuality> joined = AirQualityJoin.join(slots, air);
+        assertEquals(2, joined.size());
+
+        ForecastResponse.AirQuality first = joined.get(BASE);
+        assertEquals(3, first.aqi);
+        assertEquals(20f, first.pm25, 0.001f);
+        assertEquals(2, joined.get(BASE + 3 * HOUR).aqi);
+        assertEquals(40f, joined.get(BASE + 3 * HOUR).pm25, 0.001f);
+    }
+
+    @Test
+    public void slotsOutsideAirRangeAreLeftOut() {
+        List<ForecastResponse.ForecastItem> slots = slots(3);
+        // 순서가 뒤섞인 응답도 처리
+        AirPollutionResponse air = air(entry(BASE + 4 * HOUR, 4, 50f), entry(BASE, 1, 5f));
+
+        Map<Long, ForecastResponse.AirQuality> joined = AirQualityJoin.join(slots, air);
+        assertEquals(2, joined.size());
+        assertNotNull(joined.get(BASE));
+        assertEquals(4, joined.get(BASE + 3 * HOUR).aqi);
+        assertNull(joined.get(BASE + 6 * HOUR));
+        // 같은 값이면 같은 맵으로 비교됨 (화면 변경 감지용)
+        assertEquals(joined, AirQualityJoin.join(slots, air));
+
+        assertTrue(AirQualityJoin.join(slots, null).isEmpty());
+    }
+
+    private static List<ForecastResponse.ForecastItem> slots(int count) {
+        List<ForecastResponse.ForecastItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+            item.dt = BASE + i * 3 * HOUR;
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static AirPollutionResponse air(AirPollutionResponse.Entry... entries) {
+        AirPollutionResponse response = new AirPollutionResponse();
+        response.list = Arrays.asList(entries);
+        return response;
+    }
+
+    private static AirPollutionResponse.Entry entry(long dt, int aqi, float pm25) {
+        AirPollutionResponse.Entry entry = new AirPollutionResponse.Entry();
+        entry.dt = dt;
+        entry.main = new AirPollutionResponse.Index();
+        entry.main.aqi = aqi;
+        entry.components = new AirPollutionResponse.Components();
+        entry.components.pm25 = pm25;
+        entry.components.pm10 = pm25 * 2;
+        return entry;
+    }
+}
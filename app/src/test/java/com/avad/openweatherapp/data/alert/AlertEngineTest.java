@@ -0,0 +1,131 @@
+package com.avad.openweatherapp.data.alert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AlertEngine 규칙 평가/중복 방지 테스트
+ */
+public class AlertEngineTest {
+
+    /** 2024-05-01 00:00:00 UTC */
+    private static final long BASE = 1714521600L;
+    private static final long HOUR = 3600L;
+
+    private static final List<AlertRule> RAIN = Collections.singletonList(
+            new AlertRule(AlertRule.Kind.PRECIPITATION, 6, 0f, true));
+    private static final List<AlertRule> SWING = Collections.singletonList(
+            new AlertRule(AlertRule.Kind.TEMPERATURE_SWING, 24, 8f, true));
+
+    @Test
+    public void precipitationAlertsOnceUntilEventPasses() {
+        AlertEngine engine = new AlertEngine(null);
+        List<ForecastResponse.ForecastItem> list = forecast(800, 800, 500, 500, 800);
+
+        List<WeatherAlert> first = engine.evaluate("current", RAIN, list, BASE);
+        assertEquals(1, first.size());
+        assertEquals(BASE + 6 * HOUR, first.get(0).eventEpoch);
+        assertEquals(500, first.get(0).conditionId);
+
+        // 같은 예보로 다시 새로고침: 창 안 slot 그대로 → 규칙 건너뜀
+        List<ForecastResponse.ForecastItem> same = forecast(800, 800, 500, 500, 800);
+        assertTrue(engine.evaluate("current", RAIN, same, BASE + HOUR).isEmpty());
+
+        // 창 안의 slot 이 바뀌어도 이미 알린 비가 지나기 전에는 다시 알리지 않음
+        List<ForecastResponse.ForecastItem> changed = forecast(800, 801, 501, 500, 800);
+        assertTrue(engine.evaluate("current", RAIN, changed, BASE + 2 * HOUR).isEmpty());
+    }
+
+    @Test
+    public void cancelledEventAllowsNextAlert() {
+        AlertEngine engine = new AlertEngine(null);
+        List<ForecastResponse.ForecastItem> rain = forecast(800, 500, 800, 800);
+        assertEquals(1, engine.evaluate("current", RAIN, rain, BASE).size());
+
+        List<ForecastResponse.ForecastItem> clear = forecast(800, 800, 800, 800);
+        assertTrue(engine.evaluate("current", RAIN, clear, BASE).isEmpty());
+
+        List<ForecastResponse.ForecastItem> again = forecast(800, 800, 600, 800);
+        List<WeatherAlert> alerts = engine.evaluate("current", RAIN, again, BASE);
+        assertEquals(1, alerts.size());
+        assertEquals(600, alerts.get(0).conditionId);
+    }
+
+    @Test
+    public void rainAlreadyInRepositoryCacheIsStillAlerted() {
+        AlertEngine engine = new AlertEngine(null);
+        List<ForecastResponse.ForecastItem> clear = forecast(800, 800, 800, 800);
+        assertTrue(engine.evaluate("current", RAIN, clear, BASE).isEmpty());
+
+        // 앱 화면이 먼저 받아 저장소 기준 diff 가 비어 있는 예보라도 엔진이 평가한 창과 다르면 알림
+        List<ForecastResponse.ForecastItem> rain = forecast(800, 800, 500, 800);
+        assertTrue(ForecastMerger.merge(rain, rain).diff.isEmpty());
+        List<WeatherAlert> alerts = engine.evaluate("current", RAIN, rain, BASE + HOUR);
+        assertEquals(1, alerts.size());
+        assertEquals(BASE + 6 * HOUR, alerts.get(0).eventEpoch);
+    }
+
+    @Test
+    public void alertedSlotInProgressAfterWindowEndIsNotRepeated() {
+        AlertEngine engine = new AlertEngine(null);
+        List<ForecastResponse.ForecastItem> list = forecast(800, 800, 500, 800, 800);
+
+        // 창 끝(BASE + 6h)에서 시작하는 비를 알림
+        List<WeatherAlert> first = engine.evaluate("current", RAIN, list, BASE);
+        assertEquals(1, first.size());
+        assertEquals(BASE + 6 * HOUR, first.get(0).eventEpoch);
+
+        // 창 안 slot 이 같아 건너뜀 → 평가한 창 끝은 그대로
+        assertTrue(engine.evaluate("current", RAIN, list, BASE + HOUR).isEmpty());
+
+        // 창 끝은 지났지만 알린 slot 은 아직 진행 중: 상태가 남아 있어 다시 알리지 않음
+        assertTrue(engine.evaluate("current", RAIN, list, BASE + 7 * HOUR).isEmpty());
+    }
+
+    @Test
+    public void swingStateSurvivesEncodeDecode() {
+        AlertEngine engine = new AlertEngine(null);
+        List<ForecastResponse.ForecastItem> list = forecast(800, 800, 800, 800);
+        list.get(3).main.temp = 30f;
+
+        List<WeatherAlert> alerts = engine.evaluate("cell", SWING, list, BASE);
+        assertEquals(1, alerts.size());
+        assertEquals(10f, alerts.get(0).value, 0.001f);
+        assertTrue(engine.isDirty());
+
+        // 프로세스가 바뀐 뒤 같은 예보를 다시 받아도 중복 알림 없음
+        AlertEngine restored = new AlertEngine(engine.encodeState());
+        assertTrue(restored.evaluate("cell", SWING, list, BASE + HOUR).isEmpty());
+        // 다른 위치는 별도 상태
+        assertEquals(1, restored.evaluate("other", SWING, list, BASE + HOUR).size());
+    }
+
+    /**
+     * BASE 부터 3시간 간격, 기온 20°C, 주어진 상태 코드
+     */
+    private static List<ForecastResponse.ForecastItem> forecast(int... ids) {
+        List<ForecastResponse.ForecastItem> items = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+            item.dt = BASE + i * 3 * HOUR;
+            item.dtTxt = "2024-05-01 " + String.format("%02d", i * 3) + ":00:00";
+            item.main = new ForecastResponse.Main();
+            item.main.temp = 20f;
+            ForecastResponse.Weather weather = new ForecastResponse.Weather();
+            weather.id = ids[i];
+            weather.icon = "01d";
+            item.weather = Collections.singletonList(weather);
+            items.add(item);
+        }
+        return items;
+    }
+}
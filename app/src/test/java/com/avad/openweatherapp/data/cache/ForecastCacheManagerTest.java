@@ -0,0 +1,150 @@
+package com.avad.openweatherapp.data.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ComponentCallbacks2;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ForecastCacheManager 메모리 압박 단계별 축소 동작 테스트
+ * - 추정 바이트 카운터만 보지 않고, 캐시에 넣은 값을 WeakReference 로 추적해
+ *   onTrimMemory 후 GC 에서 실제로 풀려나는지(다른 곳에서 붙잡지 않는지) 확인
+ */
+public class ForecastCacheManagerTest {
+
+    /** 요약 하나의 크기 (GC 로 회수되는지 눈에 띄도록 추정치보다 크게) */
+    private static final int SUMMARY_PAYLOAD_BYTES = 1024;
+
+    private ForecastCacheManager manager;
+    private final List<WeakReference<Object>> labelRefs = new ArrayList<>();
+    private final List<WeakReference<Object>> summaryRefs = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        manager = new ForecastCacheManager();
+        labelRefs.clear();
+        summaryRefs.clear();
+
+        // 원본 예보 40개 (5일 x 3시간)
+        ForecastResponse response = new ForecastResponse();
+        response.list = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            response.list.add(new ForecastResponse.ForecastItem());
+        }
+        manager.setSource(response);
+
+        // 파생 데이터를 예산까지 채움
+        for (int i = 0; i < 1000; i++) {
+            String label = "05월 " + i + "일(월)";
+            Object summary = new byte[SUMMARY_PAYLOAD_BYTES];
+            labelRefs.add(new WeakReference<>(label));
+            summaryRefs.add(new WeakReference<>(summary));
+            manager.labels().put("label-" + i, label);
+            manager.summaries().put("day-" + i, summary);
+        }
+    }
+
+    @Test
+    public void derivedCachesStayWithinBudget() {
+        assertTrue(manager.labels().sizeBytes() <= ForecastCacheManager.LABEL_BUDGET_BYTES);
+        assertTrue(manager.summaries().sizeBytes() <= ForecastCacheManager.SUMMARY_BUDGET_BYTES);
+        assertTrue(manager.derivedBytes() > 0);
+    }
+
+    @Test
+    public void runningModerateHalvesDerivedData() {
+        long before = manager.derivedBytes();
+
+        manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+
+        assertTrue(manager.labels().sizeBytes() <= ForecastCacheManager.LABEL_BUDGET_BYTES / 2);
+        assertTrue(manager.summaries().sizeBytes() <= ForecastCacheManager.SUMMARY_BUDGET_BYTES / 2);
+        assertTrue(manager.derivedBytes() < before);
+        assertEquals(40 * ForecastCacheManager.BYTES_PER_FORECAST_ITEM, manager.sourceBytes());
+
+        // 실제로 살아 있는 값 = 캐시에 남은 항목 수 (잘라낸 항목은 GC 로 회수)
+        assertEquals(manager.labels().count(), alive(labelRefs));
+        assertEquals(manager.summaries().count(), alive(summaryRefs));
+        assertTrue(alive(summaryRefs) <= ForecastCacheManager.SUMMARY_BUDGET_BYTES / 2
+                / ForecastCacheManager.BYTES_PER_FORECAST_ITEM);
+    }
+
+    @Test
+    public void runningLowKeepsOnlyQuarter() {
+        manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+        assertTrue(manager.labels().sizeBytes() <= ForecastCacheManager.LABEL_BUDGET_BYTES / 4);
+        assertTrue(manager.summaries().sizeBytes() <= ForecastCacheManager.SUMMARY_BUDGET_BYTES / 4);
+        assertEquals(0, manager.bitmaps().sizeBytes());
+
+        assertEquals(manager.labels().count(), alive(labelRefs));
+        assertEquals(manager.summaries().count(), alive(summaryRefs));
+        assertTrue(alive(summaryRefs) <= ForecastCacheManager.SUMMARY_BUDGET_BYTES / 4
+                / ForecastCacheManager.BYTES_PER_FORECAST_ITEM);
+    }
+
+    @Test
+    public void backgroundLevelsShedAllDerivedButKeepSource() {
+        int[] levels = {
+                ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL,
+                ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN,
+                ComponentCallbacks2.TRIM_MEMORY_BACKGROUND,
+                ComponentCallbacks2.TRIM_MEMORY_COMPLETE
+        };
+        for (int level : levels) {
+            setUp();
+            manager.onTrimMemory(level);
+
+            assertEquals(0, manager.derivedBytes());
+            assertEquals(manager.sourceBytes(), manager.retainedBytes());
+            assertEquals(0, alive(labelRefs));
+            assertEquals(0, alive(summaryRefs));
+            assertNotNull(manager.getSource());
+            assertEquals(40, manager.getSource().list.size());
+        }
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        SizedCache<String, String> cache = new SizedCache<>("t", 200, ForecastCacheManager::sizeOfString);
+        cache.put("a", "aaaaaaaaaa");   // 60 bytes
+        cache.put("b", "bbbbbbbbbb");
+        cache.put("c", "cccccccccc");
+        cache.get("a");                  // a 를 최근 사용으로
+        cache.put("d", "dddddddddd");   // 240 > 200 → b 제거
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.count());
+    }
+
+    /**
+     * GC 후에도 살아 있는 값 수 (테스트는 참조를 들고 있지 않으므로 캐시가 붙잡은 수)
+     */
+    private static int alive(List<WeakReference<Object>> refs) {
+        gc();
+        int count = 0;
+        for (WeakReference<Object> ref : refs) {
+            if (ref.get() != null) count++;
+        }
+        return count;
+    }
+
+    private static void gc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.avad.openweatherapp.data.display;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+/**
+ * DisplayOptions 단위 변환 및 상태 문구 테이블 테스트
+ */
+public class DisplayOptionsTest {
+
+    @Test
+    public void convertsCelsiusForDisplay() {
+        DisplayOptions celsius = DisplayOptions.DEFAULT;
+        DisplayOptions fahrenheit = celsius.withUnit(TemperatureUnit.FAHRENHEIT);
+
+        assertEquals("21°C", celsius.roundedTemperature(21.3));
+        assertEquals("70°F", fahrenheit.roundedTemperature(21.3));
+        assertEquals(32.0, fahrenheit.temperature(0), 1e-9);
+        assertEquals(-40.0, fahrenheit.temperature(-40), 1e-9);
+    }
+
+    @Test
+    public void describesConditionIdPerLanguage() {
+        ForecastResponse.Weather weather = weather(500, "실 비");
+        DisplayOptions korean = DisplayOptions.DEFAULT;
+
+        assertEquals("약한 비", korean.description(weather));
+        assertEquals("light rain", korean.withLanguage(DisplayLanguage.ENGLISH).description(weather));
+        assertEquals("맑음", ConditionText.describe(800, DisplayLanguage.KOREAN));
+        assertEquals("overcast clouds", ConditionText.describe(804, DisplayLanguage.ENGLISH));
+    }
+
+    @Test
+    public void fallsBackToResponseTextForUnknownIds() {
+        // 상태 코드가 없던 이전 캐시 (id = 0)
+        assertEquals("튼구름", DisplayOptions.DEFAULT.description(weather(0, "튼구름")));
+        assertNull(ConditionText.describe(199, DisplayLanguage.KOREAN));
+        assertNull(ConditionText.describe(805, DisplayLanguage.ENGLISH));
+        assertNull(ConditionText.describe(250, DisplayLanguage.ENGLISH));
+    }
+
+    private static ForecastResponse.Weather weather(int id, String description) {
+        ForecastResponse.Weather w = new ForecastResponse.Weather();
+        w.id = id;
+        w.description = description;
+        return w;
+    }
+}
@@ -0,0 +1,88 @@
+package com.avad.openweatherapp.data.energy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * EnergyLedger 원인별 집계/무선 활성 시간/저장 복원 테스트
+ */
+public class EnergyLedgerTest {
+
+    /** 2025-05-20 00:00:00 UTC */
+    private static final long BASE = 1747699200_000L;
+    private static final long DAY = 86_400_000L;
+    private static final long TAIL = EnergyLedger.RADIO_TAIL_MS;
+
+    @Test
+    public void transfersGoToLatestOpenSessionAndShareRadioTail() {
+        EnergyLedger ledger = new EnergyLedger(null, ZoneOffset.UTC);
+        EnergyLedger.Session alarm = ledger.begin(RefreshTrigger.ALARM, true, BASE);
+        // 연달아 보낸 두 요청: 두 번째는 첫 요청의 꼬리 시간 안에서 시작
+        ledger.recordTransfer(BASE, BASE + 500, 4000, 300);
+        ledger.recordTransfer(BASE + 2000, BASE + 2500, 1000, 300);
+        ledger.end(alarm, BASE + 3000);
+
+        // 진행 중인 작업이 없으면 OTHER, 꼬리 시간이 끝난 뒤라 무선 시간 새로 셈
+        ledger.recordTransfer(BASE + 60_000, BASE + 61_000, 500, 100);
+
+        Map<RefreshTrigger, EnergyLedger.Usage> day = ledger.days().get(LocalDate.of(2025, 5, 20));
+        EnergyLedger.Usage a = day.get(RefreshTrigger.ALARM);
+        assertEquals(1, a.runs);
+        assertEquals(1, a.wakeups);
+        assertEquals(3000, a.jobMillis);
+        assertEquals(2, a.requests);
+        assertEquals(5000, a.rxBytes);
+        assertEquals(600, a.txBytes);
+        assertEquals(2500 + TAIL, a.radioMillis);
+
+        EnergyLedger.Usage other = day.get(RefreshTrigger.OTHER);
+        assertEquals(0, other.runs);
+        assertEquals(1, other.requests);
+        assertEquals(1000 + TAIL, other.radioMillis);
+    }
+
+    @Test
+    public void endCountsOnceOnStartDay() {
+        EnergyLedger ledger = new EnergyLedger(null, ZoneOffset.UTC);
+        EnergyLedger.Session tap = ledger.begin(RefreshTrigger.REFRESH_TAP, false, BASE + DAY - 1000);
+        ledger.end(tap, BASE + DAY + 1000);
+        ledger.end(tap, BASE + DAY + 9000);
+
+        EnergyLedger.Usage usage = ledger.days().get(LocalDate.of(2025, 5, 20))
+                .get(RefreshTrigger.REFRESH_TAP);
+        assertEquals(2000, usage.jobMillis);
+        assertEquals(0, usage.wakeups);
+    }
+
+    @Test
+    public void stateSurvivesEncodeDecodeAndKeepsRecentDays() {
+        EnergyLedger ledger = new EnergyLedger(null, ZoneOffset.UTC);
+        for (int i = 0; i < EnergyLedger.RETENTION_DAYS + 3; i++) {
+            EnergyLedger.Session s = ledger.begin(RefreshTrigger.WIDGET_UPDATE, false, BASE + i * DAY);
+            ledger.recordTransfer(BASE + i * DAY, BASE + i * DAY + 100, 2048, 256);
+            ledger.end(s, BASE + i * DAY + 400);
+        }
+        assertTrue(ledger.isDirty());
+
+        EnergyLedger restored = new EnergyLedger(ledger.encodeState(), ZoneOffset.UTC);
+        assertFalse(ledger.isDirty());
+        TreeMap<LocalDate, Map<RefreshTrigger, EnergyLedger.Usage>> days = restored.days();
+        assertEquals(EnergyLedger.RETENTION_DAYS, days.size());
+        assertEquals(LocalDate.of(2025, 5, 23), days.firstKey());
+
+        EnergyLedger.Usage last = days.lastEntry().getValue().get(RefreshTrigger.WIDGET_UPDATE);
+        assertEquals(1, last.runs);
+        assertEquals(400, last.jobMillis);
+        assertEquals(2048, last.rxBytes);
+        assertEquals(100 + TAIL, last.radioMillis);
+        assertTrue(restored.report().startsWith("2025-05-29"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.avad.openweatherapp.data.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.TemperatureUnit;
+
+import org.junit.Test;
+
+/**
+ * WeatherFormatter 라벨 테이블 재사용 및 포맷 결과 테스트
+ */
+public class WeatherFormatterTest {
+
+    private final WeatherFormatter formatter = WeatherFormatter.getInstance();
+
+    @Test
+    public void formatsDateLabelsOncePerDate() {
+        WeatherFormatter.DateLabels labels = formatter.dateLabels("2025-05-21 00:00:00");
+
+        assertEquals("05.21", labels.shortDate);
+        assertEquals("05월 21일(수)", labels.monthDayWithWeekday);
+        assertEquals("수", labels.weekday(DisplayLanguage.KOREAN));
+        assertEquals("Wed", labels.weekday(DisplayLanguage.ENGLISH));
+        assertSame(labels, formatter.dateLabels("2025-05-21 00:00:00"));
+        assertEquals("날짜 오류", formatter.dateLabels("bad").monthDayWithWeekday);
+    }
+
+    @Test
+    public void reusesTemperatureStrings() {
+        String first = formatter.temperature(21.26, TemperatureUnit.CELSIUS, WeatherFormatter.Style.HIGH);
+
+        assertEquals("최고 21.3°C", first);
+        assertSame(first, formatter.temperature(21.3, TemperatureUnit.CELSIUS, WeatherFormatter.Style.HIGH));
+        assertEquals("21°C", formatter.temperature(21.3, TemperatureUnit.CELSIUS, WeatherFormatter.Style.ROUNDED));
+        assertEquals("70°F", formatter.temperature(21.3, TemperatureUnit.FAHRENHEIT, WeatherFormatter.Style.ROUNDED));
+        assertEquals("체감: -3.5°C",
+                formatter.temperature(-3.46, TemperatureUnit.CELSIUS, WeatherFormatter.Style.FEELS_LIKE));
+        assertEquals("최저 -0.5°C",
+                formatter.temperature(-0.5, TemperatureUnit.CELSIUS, WeatherFormatter.Style.LOW));
+    }
+
+    @Test
+    public void formatsOutOfRangeWithoutTable() {
+        assertEquals("200°C", formatter.temperature(200, TemperatureUnit.CELSIUS, WeatherFormatter.Style.ROUNDED));
+        assertEquals("습도: 100%", formatter.humidity(130));
+        assertEquals("07:00", formatter.hour(7));
+        assertSame(formatter.hour(23), formatter.hour(-1));
+    }
+
+    @Test
+    public void reusesIconUrlPerCode() {
+        String url = formatter.iconUrl("10d");
+
+        assertEquals("https://openweathermap.org/img/wn/10d@2x.png", url);
+        assertSame(url, formatter.iconUrl("10d"));
+        assertEquals("https://openweathermap.org/img/wn/01n@2x.png", formatter.iconUrl("01n"));
+    }
+}
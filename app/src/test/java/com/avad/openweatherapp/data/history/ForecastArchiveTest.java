@@ -0,0 +1,131 @@
+package com.avad.openweatherapp.data.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ForecastArchive 기록/조회/compaction 테스트
+ */
+public class ForecastArchiveTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+    /** 2024-05-01 00:00:00 UTC */
+    private static final long BASE = 1714521600_000L;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("archive").toFile();
+    }
+
+    @Test
+    public void queryReturnsRecordsInRangeWithQuantisedValues() {
+        ForecastArchive archive = new ForecastArchive(dir, 14 * DAY);
+        for (int i = 0; i < 5; i++) {
+            archive.append("current", response(BASE + i * 3 * HOUR, 40, 20.04f + i), BASE + i * 3 * HOUR);
+        }
+
+        List<ArchivedForecast> result = archive.query("current", BASE + 3 * HOUR, BASE + 9 * HOUR);
+
+        assertEquals(3, result.size());
+        ArchivedForecast first = result.get(0);
+        assertEquals(BASE + 3 * HOUR, first.fetchedAt);
+        assertEquals(40, first.size());
+        assertEquals((BASE + 3 * HOUR) / 1000, first.slotEpochAt(0));
+        assertEquals(21.0f, first.temperatureAt(0), 0.001f);
+        assertEquals(800, first.conditionIdAt(0));
+        assertEquals(500, first.conditionIdAt(1));
+        // 40 slot 이 항목당 수 바이트로 기록됨
+        assertTrue(archive.sizeBytes("current") < 5 * 40 * 6);
+    }
+
+    @Test
+    public void revisionsTrackOneSlotAcrossFetches() {
+        ForecastArchive archive = new ForecastArchive(dir, 14 * DAY);
+        long slot = (BASE + DAY) / 1000;
+        archive.append("cell", response(BASE, 16, 10f), BASE);
+        archive.append("cell", response(BASE + 12 * HOUR, 16, 12.5f), BASE + 12 * HOUR);
+        // 다른 key 는 섞이지 않음
+        archive.append("other", response(BASE, 16, 30f), BASE);
+
+        List<ForecastArchive.Revision> revisions = archive.revisions("cell", slot, 0, Long.MAX_VALUE);
+
+        assertEquals(2, revisions.size());
+        assertEquals(BASE, revisions.get(0).fetchedAt);
+        // BASE 기준 8번째 slot / BASE+12h 기준 4번째 slot 이 같은 시각
+        assertEquals(10f + 8, revisions.get(0).temperature, 0.001f);
+        assertEquals(12.5f + 4, revisions.get(1).temperature, 0.001f);
+    }
+
+    @Test
+    public void compactionDropsExpiredRecordsAndSurvivesReopen() {
+        ForecastArchive archive = new ForecastArchive(dir, 2 * DAY);
+        for (int i = 0; i < 4; i++) {
+            archive.append("current", response(BASE + i * DAY, 8, i), BASE + i * DAY);
+        }
+        long before = archive.sizeBytes("current");
+
+        assertEquals(2, archive.compact("current", BASE + 4 * DAY));
+        assertTrue(archive.sizeBytes("current") < before);
+
+        ForecastArchive reopened = new ForecastArchive(dir, 2 * DAY);
+        List<ArchivedForecast> result = reopened.query("current", 0, Long.MAX_VALUE);
+        assertEquals(2, result.size());
+        assertEquals(BASE + 2 * DAY, result.get(0).fetchedAt);
+        assertEquals(3f, result.get(1).temperatureAt(0), 0.001f);
+    }
+
+    @Test
+    public void truncatedTailIsIgnoredAndOverwritten() throws Exception {
+        ForecastArchive archive = new ForecastArchive(dir, 14 * DAY);
+        archive.append("current", response(BASE, 8, 1f), BASE);
+        archive.append("current", response(BASE + HOUR, 8, 2f), BASE + HOUR);
+        long full = archive.sizeBytes("current");
+        try (RandomAccessFile f = new RandomAccessFile(new File(dir, "current.bin"), "rw")) {
+            f.setLength(full - 3);
+        }
+
+        ForecastArchive reopened = new ForecastArchive(dir, 14 * DAY);
+        assertEquals(1, reopened.count("current"));
+        reopened.append("current", response(BASE + 2 * HOUR, 8, 3f), BASE + 2 * HOUR);
+
+        List<ArchivedForecast> result = new ForecastArchive(dir, 14 * DAY)
+                .query("current", 0, Long.MAX_VALUE);
+        assertEquals(2, result.size());
+        assertEquals(3f, result.get(1).temperatureAt(0), 0.001f);
+    }
+
+    /**
+     * fetchedAt 부터 3시간 간격 count 개 slot, 기온은 slot 마다 1도씩 상승
+     */
+    private static ForecastResponse response(long fetchedAt, int count, float firstTemp) {
+        List<ForecastResponse.ForecastItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+            item.dt = fetchedAt / 1000 + i * 3 * 3600L;
+            item.main = new ForecastResponse.Main();
+            item.main.temp = firstTemp + i;
+            ForecastResponse.Weather weather = new ForecastResponse.Weather();
+            weather.id = i % 2 == 0 ? 800 : 500;
+            item.weather = Collections.singletonList(weather);
+            items.add(item);
+        }
+        ForecastResponse response = new ForecastResponse();
+        response.list = items;
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package com.avad.openweatherapp.data.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ForecastMerger slot 단위 병합/변경 감지 테스트
+ */
+public class ForecastMergerTest {
+
+    @Test
+    public void unchangedSlotsKeepPreviousInstance() {
+        List<ForecastResponse.ForecastItem> prev = Arrays.asList(
+                item("2024-05-01 12:00:00", 20f),
+                item("2024-05-01 15:00:00", 22f));
+        List<ForecastResponse.ForecastItem> next = Arrays.asList(
+                item("2024-05-01 12:00:00", 20f),
+                item("2024-05-01 15:00:00", 22f));
+
+        ForecastMerger.Result result = ForecastMerger.merge(prev, next);
+
+        assertTrue(result.diff.isEmpty());
+        assertSame(prev.get(0), result.merged.get(0));
+        assertSame(prev.get(1), result.merged.get(1));
+    }
+
+    @Test
+    public void detectsAddedUpdatedAndExpiredSlots() {
+        List<ForecastResponse.ForecastItem> prev = Arrays.asList(
+                item("2024-05-01 12:00:00", 20f),
+                item("2024-05-01 15:00:00", 22f),
+                item("2024-05-02 00:00:00", 15f));
+        List<ForecastResponse.ForecastItem> next = Arrays.asList(
+                item("2024-05-01 15:00:00", 22f),
+                item("2024-05-02 00:00:00", 16f),
+                item("2024-05-03 00:00:00", 14f));
+
+        ForecastDiff diff = ForecastMerger.merge(prev, next).diff;
+
+        assertEquals(1, diff.added.size());
+        assertEquals(1, diff.updated.size());
+        assertEquals(1, diff.expired.size());
+        assertEquals("2024-05-01 12:00:00", diff.expired.get(0).dtTxt);
+        assertEquals(Arrays.asList("2024-05-01", "2024-05-02", "2024-05-03"),
+                new ArrayList<>(diff.affectedDays));
+    }
+
+    @Test
+    public void firstMergeReportsEverythingAsAdded() {
+        List<ForecastResponse.ForecastItem> next = Collections.singletonList(
+                item("2024-05-01 12:00:00", 20f));
+
+        ForecastDiff diff = ForecastMerger.merge(null, next).diff;
+
+        assertEquals(1, diff.added.size());
+        assertTrue(diff.affects("2024-05-01"));
+    }
+
+    @Test
+    public void slotKeyFallsBackToUtcParseOfDtTxt() {
+        ForecastResponse.ForecastItem item = item("2024-05-01 12:00:00", 20f);
+        item.dt = 0;
+
+        assertEquals(1714564800L, ForecastMerger.slotKey(item));
+    }
+
+    @Test
+    public void daySignatureChangesOnlyForTouchedDay() {
+        List<ForecastResponse.ForecastItem> before = Arrays.asList(
+                item("2024-05-01 12:00:00", 20f),
+                item("2024-05-02 12:00:00", 18f));
+        List<ForecastResponse.ForecastItem> after = Arrays.asList(
+                item("2024-05-01 12:00:00", 20f),
+                item("2024-05-02 12:00:00", 19f));
+
+        assertEquals(ForecastMerger.daySignatures(before).get("2024-05-01"),
+                ForecastMerger.daySignatures(after).get("2024-05-01"));
+        assertNotEquals(ForecastMerger.daySignatures(before).get("2024-05-02"),
+                ForecastMerger.daySignatures(after).get("2024-05-02"));
+    }
+
+    private static ForecastResponse.ForecastItem item(String dtTxt, float temp) {
+        ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+        item.dtTxt = dtTxt;
+        item.dt = ForecastMerger.parseUtcSeconds(dtTxt);
+        item.main = new ForecastResponse.Main();
+        item.main.temp = temp;
+        item.main.temp_min = temp - 1;
+        item.main.temp_max = temp + 1;
+        ForecastResponse.Weather weather = new ForecastResponse.Weather();
+        weather.icon = "01d";
+        weather.description = "맑음";
+        item.weather = Collections.singletonList(weather);
+        return item;
+    }
+}
@@ -0,0 +1,58 @@
+package com.avad.openweatherapp.data.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.avad.openweatherapp.R;
+import com.avad.openweatherapp.data.display.DisplayLanguage;
+import com.avad.openweatherapp.data.display.DisplayOptions;
+
+import org.junit.Test;
+
+/**
+ * WeatherCondition 상태 코드 분류 테스트
+ */
+public class WeatherConditionTest {
+
+    @Test
+    public void classifiesByConditionId() {
+        assertSame(WeatherCondition.CLEAR, WeatherCondition.of(800));
+        assertSame(WeatherCondition.PARTLY_CLOUDY, WeatherCondition.of(802));
+        assertSame(WeatherCondition.CLOUDY, WeatherCondition.of(804));
+        assertSame(WeatherCondition.RAIN, WeatherCondition.of(500));
+        assertSame(WeatherCondition.HEAVY_RAIN, WeatherCondition.of(502));
+        assertSame(WeatherCondition.SLEET, WeatherCondition.of(616));
+        assertSame(WeatherCondition.FOG, WeatherCondition.of(741));
+        // 비를 동반한 뇌우도 뇌우로 분류 (문구의 "비" 와 무관)
+        assertSame(WeatherCondition.THUNDERSTORM, WeatherCondition.of(201));
+        assertEquals(R.drawable.ic_lightning_bg, WeatherCondition.of(201).background);
+    }
+
+    @Test
+    public void unknownIdsHaveNoBackgroundOrLabel() {
+        assertSame(WeatherCondition.UNKNOWN, WeatherCondition.of(0));
+        assertSame(WeatherCondition.UNKNOWN, WeatherCondition.of(250));
+        assertSame(WeatherCondition.UNKNOWN, WeatherCondition.of(900));
+        assertEquals(0, WeatherCondition.UNKNOWN.background);
+        assertNull(WeatherCondition.UNKNOWN.shortLabel(DisplayLanguage.KOREAN));
+    }
+
+    @Test
+    public void weatherCachesConditionAndFallsBack() {
+        ForecastResponse.Weather weather = new ForecastResponse.Weather();
+        weather.id = 602;
+        weather.description = "폭설";
+
+        assertSame(weather.condition(), weather.condition());
+        assertEquals("13d", weather.iconCode());
+        assertEquals("Heavy snow", DisplayOptions.DEFAULT
+                .withLanguage(DisplayLanguage.ENGLISH).shortDescription(weather));
+
+        ForecastResponse.Weather legacy = new ForecastResponse.Weather();
+        legacy.description = "튼구름";
+        legacy.icon = "04n";
+        assertEquals("튼구름", DisplayOptions.DEFAULT.shortDescription(legacy));
+        assertEquals("04n", legacy.iconCode());
+    }
+}
@@ -0,0 +1,192 @@
+package com.avad.openweatherapp.data.search;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CityIndexBuilder
+ * - 도시 목록으로 CityIndex 파일(assets/cities.idx)을 생성하는 개발용 도구
+ * - 입력
+ *   · TSV : 영문이름 \t 한글이름(없으면 빈칸) \t 국가코드 \t 위도 \t 경도
+ *   · OpenWeather city.list.json (+ 선택: 도시 id \t 한글이름 TSV)
+ *
+ * 실행 예
+ *   java ... CityIndexBuilder cities_seed.tsv app/src/main/assets/cities.idx
+ *   java ... CityIndexBuilder city.list.json app/src/main/assets/cities.idx ko_names.tsv
+ */
+public class CityIndexBuilder {
+
+    /** 도시 한 건 */
+    public static class Entry {
+        final String name;
+        final String koName;
+        final String country;
+        final float lat;
+        final float lon;
+
+        public Entry(String name, String koName, String country, float lat, float lon) {
+            this.name = name;
+            this.koName = koName == null || koName.isEmpty() ? null : koName;
+            this.country = country;
+            this.lat = lat;
+            this.lon = lon;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    public CityIndexBuilder add(Entry entry) {
+        entries.add(entry);
+        return this;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CityIndexBuilder <cities.tsv|city.list.json> <out.idx> [ko_names.tsv]");
+            System.exit(1);
+        }
+        CityIndexBuilder builder = new CityIndexBuilder();
+        Path input = Paths.get(args[0]);
+        if (args[0].endsWith(".json")) {
+            Map<Long, String> koNames = args.length > 2 ? readAliases(Paths.get(args[2])) : new HashMap<>();
+            builder.readOpenWeather(input, koNames);
+        } else {
+            builder.readTsv(input);
+        }
+        Files.write(Paths.get(args[1]), builder.build());
+        System.out.println("cities=" + builder.entries.size() + " → " + args[1]);
+    }
+
+    public void readTsv(Path tsv) throws IOException {
+        for (String line : Files.readAllLines(tsv, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] f = line.split("\t", -1);
+            add(new Entry(f[0], f[1], f[2], Float.parseFloat(f[3]), Float.parseFloat(f[4])));
+        }
+    }
+
+    public void readOpenWeather(Path json, Map<Long, String> koNames) throws IOException {
+        try (Reader in = Files.newBufferedReader(json, StandardCharsets.UTF_8)) {
+            JsonArray array = new JsonParser().parse(in).getAsJsonArray();
+            for (JsonElement e : array) {
+                JsonObject o = e.getAsJsonObject();
+                JsonObject coord = o.getAsJsonObject("coord");
+                add(new Entry(
+                        o.get("name").getAsString(),
+                        koNames.get(o.get("id").getAsLong()),
+                        o.get("country").getAsString(),
+                        coord.get("lat").getAsFloat(),
+                        coord.get("lon").getAsFloat()));
+            }
+        }
+    }
+
+    private static Map<Long, String> readAliases(Path tsv) throws IOException {
+        Map<Long, String> map = new HashMap<>();
+        for (String line : Files.readAllLines(tsv, StandardCharsets.UTF_8)) {
+            String[] f = line.split("\t");
+            if (f.length >= 2) map.put(Long.parseLong(f[0]), f[1]);
+        }
+        return map;
+    }
+
+    /**
+     * 인덱스 파일 바이트 생성
+     */
+    public byte[] build() {
+        StringTable strings = new StringTable();
+        int[] nameRefs = new int[entries.size()];
+        int[] detailRefs = new int[entries.size()];
+        List<byte[]> keyBytes = new ArrayList<>();
+        List<int[]> keys = new ArrayList<>();  // {keyRef, cityIndex}
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            nameRefs[i] = strings.ref(e.koName != null ? e.koName : e.name);
+            detailRefs[i] = strings.ref(e.name + ", " + e.country);
+
+            addKey(strings, keys, keyBytes, e.name, i);
+            if (e.koName != null) addKey(strings, keys, keyBytes, e.koName, i);
+        }
+
+        // 키 바이트 순 정렬
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) order.add(i);
+        order.sort((a, b) -> compareUnsigned(keyBytes.get(a), keyBytes.get(b)));
+
+        int citiesOffset = CityIndex.HEADER_BYTES;
+        int keysOffset = citiesOffset + entries.size() * CityIndex.CITY_BYTES;
+        int stringsOffset = keysOffset + keys.size() * CityIndex.KEY_BYTES;
+        byte[] stringBytes = strings.bytes();
+
+        ByteBuffer out = ByteBuffer.allocate(stringsOffset + stringBytes.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(CityIndex.MAGIC).putInt(CityIndex.VERSION)
+                .putInt(entries.size()).putInt(keys.size())
+                .putInt(citiesOffset).putInt(keysOffset).putInt(stringsOffset);
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            out.putFloat(e.lat).putFloat(e.lon).putInt(nameRefs[i]).putInt(detailRefs[i]);
+        }
+        for (int i : order) out.putInt(keys.get(i)[0]).putInt(keys.get(i)[1]);
+        out.put(stringBytes);
+        return out.array();
+    }
+
+    private static void addKey(StringTable strings, List<int[]> keys, List<byte[]> keyBytes,
+                               String name, int city) {
+        String key = CityIndex.normalize(name);
+        if (key.isEmpty()) return;
+        keys.add(new int[]{strings.ref(key), city});
+        keyBytes.add(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int compareUnsigned(byte[] a, byte[] b) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            int d = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (d != 0) return d;
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * 중복 제거 문자열 영역 (u16 길이 + UTF-8, PlaceIndexBuilder 와 공유)
+     */
+    static class StringTable {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> refs = new HashMap<>();
+
+        int ref(String s) {
+            Integer existing = refs.get(s);
+            if (existing != null) return existing;
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            int ref = bytes.size();
+            bytes.write(utf8.length & 0xFF);
+            bytes.write((utf8.length >>> 8) & 0xFF);
+            bytes.write(utf8, 0, utf8.length);
+            refs.put(s, ref);
+            return ref;
+        }
+
+        byte[] bytes() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.avad.openweatherapp.data.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * CityIndex 접두어 검색 테스트 (실제 앱과 같이 파일을 메모리 매핑하여 검색)
+ */
+public class CityIndexTest {
+
+    private CityIndex index;
+
+    @Before
+    public void setUp() throws IOException {
+        byte[] bytes = new CityIndexBuilder()
+                .add(new CityIndexBuilder.Entry("Seoul", "서울", "KR", 37.57f, 126.98f))
+                .add(new CityIndexBuilder.Entry("Seongnam", "성남", "KR", 37.42f, 127.13f))
+                .add(new CityIndexBuilder.Entry("Seogwipo", "서귀포", "KR", 33.25f, 126.56f))
+                .add(new CityIndexBuilder.Entry("Busan", "부산", "KR", 35.18f, 129.08f))
+                .add(new CityIndexBuilder.Entry("São Paulo", "상파울루", "BR", -23.55f, -46.63f))
+                .add(new CityIndexBuilder.Entry("New York", null, "US", 40.71f, -74.01f))
+                .build();
+
+        File file = File.createTempFile("cities", ".idx");
+        file.deleteOnExit();
+        Files.write(file.toPath(), bytes);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            index = new CityIndex(raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length()));
+        }
+    }
+
+    @Test
+    public void findsByLatinPrefixIgnoringCaseAndAccents() {
+        List<CityIndex.City> result = index.search("SEO", 10);
+
+        assertEquals(3, result.size());
+        assertEquals("São Paulo", index.search("sao p", 10).get(0).detail.split(",")[0]);
+        assertEquals("New York", index.search("newy", 10).get(0).name);
+    }
+
+    @Test
+    public void findsByKoreanPrefixWhileComposing() {
+        // 완성된 음절
+        assertEquals("서울", index.search("서울", 10).get(0).name);
+        // 조합 중: "서우" 는 "서울" 의 자모 접두어
+        assertEquals("서울", index.search("서우", 10).get(0).name);
+        // 조합 중: 받침으로 들어간 "성" → "서ㅇ" 으로도 검색 (성남 + 서울)
+        List<CityIndex.City> composing = index.search("성", 10);
+        assertEquals(2, composing.size());
+        assertEquals("성남", composing.get(0).name);
+        // 자음만 입력
+        assertEquals(4, index.search("ㅅ", 10).size());  // 서울, 성남, 서귀포, 상파울루
+    }
+
+    @Test
+    public void returnsCoordinatesAndRespectsLimit() {
+        CityIndex.City busan = index.search("부산", 10).get(0);
+        assertEquals(35.18, busan.lat, 1e-4);
+        assertEquals(129.08, busan.lon, 1e-4);
+        assertEquals("Busan, KR", busan.detail);
+
+        assertEquals(1, index.search("s", 1).size());
+        assertTrue(index.search("없는도시", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void prefixSearchIsFastOnLargeIndex() {
+        CityIndexBuilder builder = new CityIndexBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            builder.add(new CityIndexBuilder.Entry("City" + i, null, "XX", 0f, 0f));
+        }
+        CityIndex large = new CityIndex(java.nio.ByteBuffer.wrap(builder.build()));
+
+        // 워밍업
+        for (int i = 0; i < 1_000; i++) large.search("city12", 10);
+
+        int rounds = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) large.search("city" + (i % 1000), 10);
+        long perSearchNs = (System.nanoTime() - start) / rounds;
+
+        assertTrue("search took " + perSearchNs + "ns", perSearchNs < 1_000_000);
+    }
+}
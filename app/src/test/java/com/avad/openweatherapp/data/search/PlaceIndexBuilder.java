@@ -0,0 +1,110 @@
+package com.avad.openweatherapp.data.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlaceIndexBuilder
+ * - 행정구역 중심점 목록으로 PlaceIndex 파일(assets/places.idx)을 생성하는 개발용 도구
+ * - 입력 TSV : 지역 이름("시/도 시/군/구") \t 위도 \t 경도
+ *
+ * 실행 예
+ *   java ... PlaceIndexBuilder places_seed.tsv app/src/main/assets/places.idx
+ */
+public class PlaceIndexBuilder {
+
+    /** 기본 격자 크기 (약 22km) */
+    public static final float DEFAULT_CELL_DEGREES = 0.2f;
+
+    private static class Entry {
+        final String label;
+        final float lat;
+        final float lon;
+        int cellId;
+
+        Entry(String label, float lat, float lon) {
+            this.label = label;
+            this.lat = lat;
+            this.lon = lon;
+        }
+    }
+
+    private final float cellDegrees;
+    private final List<Entry> entries = new ArrayList<>();
+
+    public PlaceIndexBuilder() {
+        this(DEFAULT_CELL_DEGREES);
+    }
+
+    public PlaceIndexBuilder(float cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    public PlaceIndexBuilder add(String label, float lat, float lon) {
+        entries.add(new Entry(label, lat, lon));
+        return this;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: PlaceIndexBuilder <places.tsv> <out.idx>");
+            System.exit(1);
+        }
+        PlaceIndexBuilder builder = new PlaceIndexBuilder();
+        for (String line : Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] f = line.split("\t");
+            builder.add(f[0], Float.parseFloat(f[1]), Float.parseFloat(f[2]));
+        }
+        Files.write(Paths.get(args[1]), builder.build());
+        System.out.println("places=" + builder.entries.size() + " -> " + args[1]);
+    }
+
+    /**
+     * 인덱스 파일 바이트 생성
+     */
+    public byte[] build() {
+        for (Entry e : entries) e.cellId = PlaceIndex.cellId(e.lat, e.lon, cellDegrees);
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort((a, b) -> Integer.compare(a.cellId, b.cellId));
+
+        // cell 목록 (cellId, 시작 위치, 개수)
+        List<int[]> cells = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            int id = sorted.get(i).cellId;
+            if (cells.isEmpty() || cells.get(cells.size() - 1)[0] != id) {
+                cells.add(new int[]{id, i, 0});
+            }
+            cells.get(cells.size() - 1)[2]++;
+        }
+
+        CityIndexBuilder.StringTable strings = new CityIndexBuilder.StringTable();
+        int[] labelRefs = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) labelRefs[i] = strings.ref(sorted.get(i).label);
+
+        int cellsOffset = PlaceIndex.HEADER_BYTES;
+        int placesOffset = cellsOffset + cells.size() * PlaceIndex.CELL_BYTES;
+        int stringsOffset = placesOffset + sorted.size() * PlaceIndex.PLACE_BYTES;
+        byte[] stringBytes = strings.bytes();
+
+        ByteBuffer out = ByteBuffer.allocate(stringsOffset + stringBytes.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(PlaceIndex.MAGIC).putInt(PlaceIndex.VERSION)
+                .putInt(sorted.size()).putInt(cells.size())
+                .putInt(cellsOffset).putInt(placesOffset).putInt(stringsOffset)
+                .putFloat(cellDegrees);
+        for (int[] cell : cells) out.putInt(cell[0]).putInt(cell[1]).putInt(cell[2]);
+        for (int i = 0; i < sorted.size(); i++) {
+            Entry e = sorted.get(i);
+            out.putFloat(e.lat).putFloat(e.lon).putInt(labelRefs[i]);
+        }
+        out.put(stringBytes);
+        return out.array();
+    }
+}
@@ -0,0 +1,79 @@
+package com.avad.openweatherapp.data.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * PlaceIndex 최근접 지역 조회 테스트
+ */
+public class PlaceIndexTest {
+
+    private PlaceIndex index;
+
+    @Before
+    public void setUp() {
+        index = new PlaceIndex(ByteBuffer.wrap(new PlaceIndexBuilder()
+                .add("서울특별시 종로구", 37.5735f, 126.9790f)
+                .add("서울특별시 강남구", 37.5172f, 127.0473f)
+                .add("경기도 성남시", 37.4200f, 127.1267f)
+                .add("부산광역시 해운대구", 35.1631f, 129.1635f)
+                .add("제주특별자치도 제주시", 33.4996f, 126.5312f)
+                .build()));
+    }
+
+    @Test
+    public void resolvesNearestPlace() {
+        assertEquals("서울특별시 종로구", index.nearest(37.57, 126.98).label);
+        assertEquals("서울특별시 강남구", index.nearest(37.50, 127.04).label);
+        assertEquals("부산광역시 해운대구", index.nearest(35.16, 129.16).label);
+    }
+
+    @Test
+    public void searchesNeighbouringCellsAcrossBoundaries() {
+        // 성남시 cell 경계 바깥이지만 가장 가까운 곳은 성남시
+        PlaceIndex.Place place = index.nearest(37.39, 127.15);
+        assertEquals("경기도 성남시", place.label);
+        assertTrue(place.distanceKm < 5);
+    }
+
+    @Test
+    public void returnsNullWhenNothingNearby() {
+        assertNull(index.nearest(51.5, -0.12));  // 런던
+        assertNull(index.nearest(36.0, 131.5));  // 동해 먼바다
+    }
+
+    @Test
+    public void matchesBruteForceOnRandomPoints() {
+        PlaceIndexBuilder builder = new PlaceIndexBuilder();
+        Random random = new Random(7);
+        float[][] points = new float[3000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new float[]{33f + random.nextFloat() * 5f, 125f + random.nextFloat() * 5f};
+            builder.add("p" + i, points[i][0], points[i][1]);
+        }
+        PlaceIndex large = new PlaceIndex(ByteBuffer.wrap(builder.build()));
+
+        for (int q = 0; q < 500; q++) {
+            double lat = 33 + random.nextDouble() * 5;
+            double lon = 125 + random.nextDouble() * 5;
+            double cosLat = Math.cos(Math.toRadians(lat));
+            int best = -1;
+            double bestKm = Double.MAX_VALUE;
+            for (int i = 0; i < points.length; i++) {
+                double km = PlaceIndex.distanceKm(lat, lon, cosLat, points[i][0], points[i][1]);
+                if (km < bestKm) {
+                    bestKm = km;
+                    best = i;
+                }
+            }
+            assertEquals("p" + best, large.nearest(lat, lon).label);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.avad.openweatherapp.data.timeline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HourlyInterpolator 1시간 보간 및 지연 계산 테스트
+ */
+public class HourlyInterpolatorTest {
+
+    private static final long BASE = 1714521600L; // 2024-05-01 00:00:00 UTC
+
+    @Test
+    public void interpolatesBetweenSlots() {
+        HourlyInterpolator timeline = new HourlyInterpolator(slots(10f, 13f, 7f));
+
+        assertEquals(7, timeline.hourCount());
+        assertEquals(10f, timeline.temperatureAt(0), 1e-4);
+        assertEquals(11f, timeline.temperatureAt(1), 1e-4);
+        assertEquals(12f, timeline.temperatureAt(2), 1e-4);
+        assertEquals(13f, timeline.temperatureAt(3), 1e-4);
+        assertEquals(9f, timeline.temperatureAt(5), 1e-4);
+        assertEquals(7f, timeline.temperatureAt(6), 1e-4);
+        assertEquals(55f, timeline.humidityAt(1), 1e-4);
+    }
+
+    @Test
+    public void evaluatesOnlyRequestedHoursOnce() {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        for (int i = 0; i < 40; i++) list.add(slot(i, 10f + i));
+        HourlyInterpolator timeline = new HourlyInterpolator(list);
+
+        assertEquals(0, timeline.evaluatedCount());
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int h = 10; h < 16; h++) {
+                timeline.temperatureAt(h);
+                timeline.feelsLikeAt(h);
+            }
+        }
+        assertEquals(6, timeline.evaluatedCount());
+    }
+
+    @Test
+    public void mapsHoursToEnclosingSlot() {
+        List<ForecastResponse.ForecastItem> list = slots(10f, 13f, 7f);
+        HourlyInterpolator timeline = new HourlyInterpolator(list);
+
+        assertSame(list.get(0), timeline.slotAt(2));
+        assertSame(list.get(1), timeline.slotAt(3));
+        assertEquals(4, timeline.hourIndexAt(BASE + 4 * 3600 + 600));
+        assertEquals(0, timeline.hourIndexAt(BASE - 86400));
+        assertEquals(6, timeline.hourIndexAt(BASE + 86400));
+    }
+
+    private static List<ForecastResponse.ForecastItem> slots(float... temps) {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        for (int i = 0; i < temps.length; i++) list.add(slot(i, temps[i]));
+        return list;
+    }
+
+    private static ForecastResponse.ForecastItem slot(int index, float temp) {
+        ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+        item.dt = BASE + index * 3 * 3600L;
+        item.main = new ForecastResponse.Main();
+        item.main.temp = temp;
+        item.main.feelsLike = temp - 2;
+        item.main.humidity = 50 + index * 15;
+        return item;
+    }
+}
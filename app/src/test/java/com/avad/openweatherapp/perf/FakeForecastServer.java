@@ -0,0 +1,271 @@
+package com.avad.openweatherapp.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FakeForecastServer
+ * - OpenWeather data/2.5/forecast 를 흉내내는 로컬 HTTP 서버 (JDK HttpServer 사용)
+ * - 녹화된 응답(test resources) 또는 합성 응답을 재생
+ * - 지연(latency), 대역폭, 오류율, 응답 크기를 설정 가능
+ * - 같은 seed 면 같은 오류 패턴을 재현
+ */
+public class FakeForecastServer implements AutoCloseable {
+
+    public static final String FORECAST_PATH = "/data/2.5/forecast";
+
+    /** 기본 녹화 응답 (서울, 40개 slot) */
+    public static final String RECORDED_SEOUL = "/forecast/forecast_seoul.json";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] payload;
+    private volatile long latencyMs;
+    private final long bytesPerSecond;
+    private volatile double errorRate;
+    private final Random random;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    /** 수신한 요청의 query string (수신 순서) */
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+    private FakeForecastServer(Builder b) throws IOException {
+        this.payload = b.payload;
+        this.latencyMs = b.latencyMs;
+        this.bytesPerSecond = b.bytesPerSecond;
+        this.errorRate = b.errorRate;
+        this.random = new Random(b.seed);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newFixedThreadPool(b.serverThreads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Retrofit baseUrl 로 사용할 주소 (끝에 '/' 포함)
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public int errorCount() {
+        return errorCount.get();
+    }
+
+    /** 동시에 처리 중이던 요청 수의 최댓값 */
+    public int maxInflight() {
+        return maxInflight.get();
+    }
+
+    /** 수신 순서대로의 query string 목록 (복사본) */
+    public List<String> queries() {
+        synchronized (queries) {
+            return new ArrayList<>(queries);
+        }
+    }
+
+    /** 실행 중 지연 변경 */
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /** 실행 중 오류율 변경 */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public int payloadBytes() {
+        return payload.length;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!FORECAST_PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            requestCount.incrementAndGet();
+            queries.add(exchange.getRequestURI().getQuery());
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            try {
+                sleep(latencyMs);
+            } finally {
+                inflight.decrementAndGet();
+            }
+
+            boolean fail;
+            synchronized (random) {
+                fail = random.nextDouble() < errorRate;
+            }
+            if (fail) {
+                errorCount.incrementAndGet();
+                byte[] body = "{\"cod\":\"500\",\"message\":\"fake error\"}"
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(500, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeThrottled(out, payload);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * bytesPerSecond 에 맞춰 1KB 단위로 나눠 전송
+     */
+    private void writeThrottled(OutputStream out, byte[] body) throws IOException {
+        if (bytesPerSecond <= 0) {
+            out.write(body);
+            return;
+        }
+        int chunk = 1024;
+        for (int off = 0; off < body.length; off += chunk) {
+            int len = Math.min(chunk, body.length - off);
+            out.write(body, off, len);
+            out.flush();
+            sleep(len * 1000L / bytesPerSecond);
+        }
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---- 응답 생성 ----
+
+    /**
+     * test resources 의 녹화 응답 읽기
+     */
+    public static byte[] recorded(String resource) {
+        try (InputStream in = FakeForecastServer.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalArgumentException("리소스 없음: " + resource);
+            ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            byte[] tmp = new byte[8192];
+            int n;
+            while ((n = in.read(tmp)) > 0) buf.write(tmp, 0, n);
+            return buf.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * slot 개수를 지정한 합성 응답 (3시간 간격, 2025-05-20 00:00 부터)
+     */
+    public static byte[] synthetic(int slots) {
+        StringBuilder sb = new StringBuilder(slots * 420);
+        sb.append("{\"cod\":\"200\",\"message\":0,\"cnt\":").append(slots).append(",\"list\":[");
+        long base = 1747699200L;  // 2025-05-20 00:00:00 UTC
+        for (int i = 0; i < slots; i++) {
+            long dt = base + i * 3 * 3600L;
+            int day = 20 + (i / 8);
+            int hour = (i % 8) * 3;
+            double temp = 15 + (i % 8) * 1.5;
+            if (i > 0) sb.append(',');
+            sb.append("{\"dt\":").append(dt)
+                    .append(",\"main\":{\"temp\":").append(temp)
+                    .append(",\"feels_like\":").append(temp - 0.5)
+                    .append(",\"temp_min\":").append(temp - 1)
+                    .append(",\"temp_max\":").append(temp + 1)
+                    .append(",\"humidity\":").append(50 + i % 40)
+                    .append("},\"weather\":[{\"id\":800,\"main\":\"Clear\",\"description\":\"맑음\",\"icon\":\"01d\"}]")
+                    .append(",\"dt_txt\":\"")
+                    .append(String.format(java.util.Locale.ROOT, "2025-05-%02d %02d:00:00", day, hour))
+                    .append("\"}");
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private byte[] payload = recorded(RECORDED_SEOUL);
+        private long latencyMs = 0;
+        private long bytesPerSecond = 0;
+        private double errorRate = 0;
+        private long seed = 42;
+        private int serverThreads = 4;
+
+        public Builder payload(byte[] payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public Builder latencyMs(long latencyMs) {
+            this.latencyMs = latencyMs;
+            return this;
+        }
+
+        /** 0 이면 제한 없음 */
+        public Builder bytesPerSecond(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+            return this;
+        }
+
+        /** 0.0 ~ 1.0, 해당 비율로 HTTP 500 응답 */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder serverThreads(int serverThreads) {
+            this.serverThreads = serverThreads;
+            return this;
+        }
+
+        public FakeForecastServer start() throws IOException {
+            return new FakeForecastServer(this);
+        }
+    }
+}
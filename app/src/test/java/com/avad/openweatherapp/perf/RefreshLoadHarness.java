@@ -0,0 +1,165 @@
+package com.avad.openweatherapp.perf;
+
+import androidx.annotation.NonNull;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.repository.WeatherRepository;
+import com.avad.openweatherapp.ui.viewmodel.WeatherViewModel;
+import com.avad.openweatherapp.widget.WeatherUpdateService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * RefreshLoadHarness
+ * - WeatherRepository 를 통해 예보 새로고침을 반복 실행하고
+ *   응답을 ViewModel 경로(날짜별 그룹화) 또는 위젯 경로(일별 요약)로 처리
+ * - 요청 수, 성공/실패 수, 지연 백분위, 할당 바이트를 Report 로 반환
+ */
+public class RefreshLoadHarness {
+
+    /**
+     * 응답 처리 경로
+     */
+    public enum Path {
+        VIEW_MODEL,  // WeatherViewModel.groupByDate
+        WIDGET       // WeatherUpdateService.summarizeForecastByDay
+    }
+
+    /**
+     * 부하 실행 결과
+     */
+    public static class Report {
+        public final Path path;
+        public final int requests;
+        public final int successes;
+        public final int failures;
+        public final long p50Ms;
+        public final long p90Ms;
+        public final long p99Ms;
+        public final long maxMs;
+        public final long allocatedBytes;
+
+        Report(Path path, int requests, int successes, int failures,
+               long[] latenciesNs, long allocatedBytes) {
+            this.path = path;
+            this.requests = requests;
+            this.successes = successes;
+            this.failures = failures;
+            Arrays.sort(latenciesNs);
+            this.p50Ms = percentileMs(latenciesNs, 0.50);
+            this.p90Ms = percentileMs(latenciesNs, 0.90);
+            this.p99Ms = percentileMs(latenciesNs, 0.99);
+            this.maxMs = latenciesNs.length == 0 ? 0 : latenciesNs[latenciesNs.length - 1] / 1_000_000;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public long allocatedBytesPerRequest() {
+            return requests == 0 ? 0 : allocatedBytes / requests;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%s: requests=%d ok=%d fail=%d p50=%dms p90=%dms p99=%dms max=%dms alloc=%dKB (%dB/req)",
+                    path, requests, successes, failures, p50Ms, p90Ms, p99Ms, maxMs,
+                    allocatedBytes / 1024, allocatedBytesPerRequest());
+        }
+
+        private static long percentileMs(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000;
+        }
+    }
+
+    private final WeatherRepository repository;
+
+    public RefreshLoadHarness(WeatherRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * @param path        응답 처리 경로
+     * @param refreshes   총 새로고침 횟수
+     * @param concurrency 동시에 진행할 최대 요청 수
+     */
+    public Report run(Path path, int refreshes, int concurrency) throws InterruptedException {
+        long[] latencies = new long[refreshes];
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(refreshes);
+
+        long allocBefore = totalAllocatedBytes();
+        for (int i = 0; i < refreshes; i++) {
+            permits.acquire();
+            final int slot = i;
+            final long start = System.nanoTime();
+            repository.getWeekendWeather(37.5665, 126.978, new Callback<ForecastResponse>() {
+                @Override
+                public void onResponse(@NonNull Call<ForecastResponse> call,
+                                       @NonNull Response<ForecastResponse> response) {
+                    if (response.isSuccessful() && response.body() != null) {
+                        process(path, response.body());
+                        successes.incrementAndGet();
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                    finish(slot, start);
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<ForecastResponse> call, @NonNull Throwable t) {
+                    failures.incrementAndGet();
+                    finish(slot, start);
+                }
+
+                private void finish(int slot, long start) {
+                    latencies[slot] = System.nanoTime() - start;
+                    permits.release();
+                    done.countDown();
+                }
+            });
+        }
+
+        if (!done.await(2, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("부하 실행 시간 초과");
+        }
+        long allocated = totalAllocatedBytes() - allocBefore;
+        return new Report(path, refreshes, successes.get(), failures.get(), latencies, allocated);
+    }
+
+    private static void process(Path path, ForecastResponse body) {
+        if (path == Path.VIEW_MODEL) {
+            WeatherViewModel.groupByDate(body.list);
+        } else {
+            WeatherUpdateService.summarizeForecastByDay(body.list);
+        }
+    }
+
+    /**
+     * 현재 살아있는 모든 스레드의 누적 할당 바이트 합 (HotSpot 전용)
+     */
+    private static long totalAllocatedBytes() {
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (!(mx instanceof com.sun.management.ThreadMXBean)) return 0;
+        com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) mx;
+        long total = 0;
+        for (long bytes : sun.getThreadAllocatedBytes(mx.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+}
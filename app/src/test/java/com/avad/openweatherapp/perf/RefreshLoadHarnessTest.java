@@ -0,0 +1,99 @@
+package com.avad.openweatherapp.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.repository.WeatherRepository;
+
+import org.junit.Test;
+
+/**
+ * 로컬 FakeForecastServer 를 상대로 한 새로고침 부하 테스트
+ * - 지연/할당 예산을 넘으면 Report 전체를 실패 메시지로 남김
+ */
+public class RefreshLoadHarnessTest {
+
+    /** 지연을 주입하지 않은 로컬 서버의 p99 예산 */
+    private static final long P99_BUDGET_MS = 1_000;
+
+    /** 요청 1건당 할당 예산 (응답 파싱 + 그룹화/요약 포함) */
+    private static final long ALLOC_BUDGET_BYTES_PER_REQUEST = 2L * 1024 * 1024;
+
+    private static RefreshLoadHarness harness(FakeForecastServer server) {
+        return new RefreshLoadHarness(
+                new WeatherRepository(RetrofitClient.create(server.baseUrl())));
+    }
+
+    @Test
+    public void recordedPayload_viewModelAndWidgetPaths() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            RefreshLoadHarness.Report vm =
+                    harness(server).run(RefreshLoadHarness.Path.VIEW_MODEL, 200, 8);
+            RefreshLoadHarness.Report widget =
+                    harness(server).run(RefreshLoadHarness.Path.WIDGET, 200, 8);
+
+            assertEquals(400, server.requestCount());
+            assertEquals(200, vm.successes);
+            assertEquals(200, widget.successes);
+            assertWithinBudget(vm, 0);
+            assertWithinBudget(widget, 0);
+        }
+    }
+
+    @Test
+    public void latencyIsReflectedInPercentiles() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder()
+                .latencyMs(50)
+                .start()) {
+            RefreshLoadHarness.Report report =
+                    harness(server).run(RefreshLoadHarness.Path.VIEW_MODEL, 40, 4);
+
+            assertEquals(40, server.requestCount());
+            assertTrue(report.toString(), report.p50Ms >= 50);
+            assertWithinBudget(report, 50);
+        }
+    }
+
+    @Test
+    public void errorsAreCountedNotRetried() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder()
+                .errorRate(0.25)
+                .seed(7)
+                .start()) {
+            RefreshLoadHarness.Report report =
+                    harness(server).run(RefreshLoadHarness.Path.WIDGET, 100, 8);
+
+            assertEquals(100, server.requestCount());
+            assertEquals(server.errorCount(), report.failures);
+            assertEquals(100, report.successes + report.failures);
+            assertWithinBudget(report, 0);
+        }
+    }
+
+    @Test
+    public void largePayloadOverLimitedBandwidth() throws Exception {
+        byte[] payload = FakeForecastServer.synthetic(400);
+        try (FakeForecastServer server = FakeForecastServer.builder()
+                .payload(payload)
+                .bytesPerSecond(2 * 1024 * 1024)
+                .start()) {
+            RefreshLoadHarness.Report report =
+                    harness(server).run(RefreshLoadHarness.Path.VIEW_MODEL, 20, 2);
+
+            assertEquals(20, report.successes);
+            // 전송 시간만큼 예산을 늘림
+            assertWithinBudget(report, server.payloadBytes() * 1000L / (2 * 1024 * 1024));
+        }
+    }
+
+    /**
+     * p99 지연과 요청당 할당이 예산 안인지
+     * @param extraMs 주입한 지연/전송 시간 (예산에 더함)
+     */
+    private static void assertWithinBudget(RefreshLoadHarness.Report report, long extraMs) {
+        assertTrue(report.toString(), report.p99Ms <= P99_BUDGET_MS + extraMs);
+        assertTrue(report.toString(),
+                report.allocatedBytesPerRequest() <= ALLOC_BUDGET_BYTES_PER_REQUEST);
+    }
+}
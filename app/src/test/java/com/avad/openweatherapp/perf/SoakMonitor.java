@@ -0,0 +1,138 @@
+package com.avad.openweatherapp.perf;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SoakMonitor
+ * - 장시간 반복(soak) 테스트용 누수 감시기
+ *   · watch()   : 더 이상 쓰이지 않아야 하는 객체를 약한 참조로 등록
+ *                 (LeakCanary 와 같은 방식: GC 후에도 남아 있으면 누수)
+ *   · sample()  : GC 직후 사용 중인 힙 크기 기록
+ *   · check()   : 남은 객체/힙 증가가 한도를 넘으면 힙 덤프 후 AssertionError
+ * - 힙 덤프는 build/soak/<이름>.hprof (MAT, Android Studio 로 열어 GC root 경로 확인)
+ */
+public class SoakMonitor {
+
+    private static final File DUMP_DIR = new File("build/soak");
+
+    /** GC 를 유도하는 최대 횟수 (약한 참조 정리가 늦는 경우 대비) */
+    private static final int GC_ATTEMPTS = 5;
+
+    private final String name;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final Map<WeakReference<Object>, String> watched = new LinkedHashMap<>();
+    private final List<Long> samples = new ArrayList<>();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    public SoakMonitor(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 곧 수거되어야 할 객체 등록
+     * @param label 실패 메시지에 표시할 이름
+     */
+    public synchronized void watch(Object instance, String label) {
+        watched.put(new WeakReference<>(instance, queue), label);
+    }
+
+    /**
+     * GC 후 아직 남아 있는 감시 객체 이름
+     */
+    public synchronized List<String> retained() {
+        for (int i = 0; i < GC_ATTEMPTS && !watched.isEmpty(); i++) {
+            gc();
+            drainQueue();
+        }
+        return new ArrayList<>(watched.values());
+    }
+
+    /**
+     * GC 직후 사용 중인 힙 (bytes) 기록
+     */
+    public synchronized long sample() {
+        gc();
+        drainQueue();
+        long used = memory.getHeapMemoryUsage().getUsed();
+        samples.add(used);
+        return used;
+    }
+
+    /**
+     * 첫 표본(워밍업 직후) 대비 마지막 표본의 증가량
+     */
+    public synchronized long heapGrowth() {
+        if (samples.size() < 2) return 0;
+        return samples.get(samples.size() - 1) - samples.get(0);
+    }
+
+    /**
+     * 남은 감시 객체가 maxRetained 를 넘거나 힙 증가가 maxGrowthBytes 를 넘으면 실패
+     */
+    public void check(int maxRetained, long maxGrowthBytes) {
+        List<String> retained = retained();
+        long growth = heapGrowth();
+        if (retained.size() <= maxRetained && growth <= maxGrowthBytes) return;
+
+        String dump = dumpHeap();
+        throw new AssertionError(String.format(Locale.US,
+                "%s: %d retained (max %d) %s, heap +%,d bytes (max %,d), samples=%s, dump=%s",
+                name, retained.size(), maxRetained, summarize(retained),
+                growth, maxGrowthBytes, samples, dump));
+    }
+
+    private void drainQueue() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            watched.remove(ref);
+        }
+    }
+
+    /**
+     * 이름별 개수 요약 (처음 몇 종류만)
+     */
+    private static String summarize(List<String> labels) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String label : labels) counts.merge(label, 1, Integer::sum);
+        return counts.toString();
+    }
+
+    private static void gc() {
+        System.gc();
+        System.runFinalization();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 실패 시점 힙 덤프 (live 객체만)
+     * @return 덤프 파일 경로 또는 실패 사유
+     */
+    private String dumpHeap() {
+        try {
+            if (!DUMP_DIR.exists() && !DUMP_DIR.mkdirs()) return "mkdir failed";
+            File file = new File(DUMP_DIR, name + "-" + System.currentTimeMillis() + ".hprof");
+            HotSpotDiagnosticMXBean bean =
+                    ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            bean.dumpHeap(file.getAbsolutePath(), true);
+            return file.getAbsolutePath();
+        } catch (IOException | RuntimeException e) {
+            return "dump failed: " + e;
+        }
+    }
+}
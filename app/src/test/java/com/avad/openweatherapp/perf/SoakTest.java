@@ -0,0 +1,192 @@
+package com.avad.openweatherapp.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.avad.openweatherapp.data.aggregate.DailyAggregator;
+import com.avad.openweatherapp.data.format.WeatherFormatter;
+import com.avad.openweatherapp.data.merge.ForecastMerger;
+import com.avad.openweatherapp.data.model.ForecastResponse;
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.data.timeline.HourlyInterpolator;
+import com.avad.openweatherapp.repository.FetchPolicy;
+import com.avad.openweatherapp.repository.ForecastResult;
+import com.avad.openweatherapp.repository.WeatherRepository;
+import com.avad.openweatherapp.ui.viewmodel.WeatherViewModel;
+import com.avad.openweatherapp.widget.ForecastSnapshot;
+import com.avad.openweatherapp.widget.WeatherUpdateService;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장시간 사용을 흉내낸 누수/힙 증가(soak) 테스트 (JVM)
+ * - 새로고침, 날짜 전환, 위젯 페이지 전환을 수천 번 반복하고
+ *   SoakMonitor 로 남은 인스턴스와 GC 후 힙 증가를 확인 (실패 시 build/soak 에 힙 덤프)
+ * - Activity 회전과 어댑터/Glide 경로는 기기가 필요하므로 androidTest 의 ActivitySoakTest 에서 확인
+ */
+public class SoakTest {
+
+    private static final int REFRESHES = 2_000;
+    private static final int DAY_SWITCHES = 5_000;
+    private static final int PAGE_FLIPS = 5_000;
+    private static final int SAMPLE_EVERY = 250;
+
+    /** 워밍업 이후 허용하는 GC 후 힙 증가 */
+    private static final long MAX_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    /** 2025-05-20 00:00:00 UTC */
+    private static final long BASE = 1747699200L;
+
+    /**
+     * 콜백이 붙잡는 화면 쪽 객체 (ViewModel 대역)
+     */
+    private static final class Owner {
+        final byte[] payload = new byte[16 * 1024];
+        int results;
+    }
+
+    @Test
+    public void refreshesDoNotRetainCallbackOwners() throws Exception {
+        SoakMonitor monitor = new SoakMonitor("refresh");
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            WeatherRepository repo = new WeatherRepository(RetrofitClient.create(server.baseUrl()));
+            repo.setCallbackExecutor(Runnable::run);
+
+            Semaphore permits = new Semaphore(8);
+            CountDownLatch done = new CountDownLatch(REFRESHES);
+            AtomicInteger fresh = new AtomicInteger();
+            for (int i = 0; i < REFRESHES; i++) {
+                permits.acquire();
+                if (i == SAMPLE_EVERY || (i > SAMPLE_EVERY && i % SAMPLE_EVERY == 0)) {
+                    monitor.sample();
+                }
+                refresh(repo, "soak-" + (i % 4), monitor, i, result -> {
+                    if (result.hasData() && !result.stale) fresh.incrementAndGet();
+                    permits.release();
+                    done.countDown();
+                });
+            }
+            if (!done.await(2, TimeUnit.MINUTES)) throw new IllegalStateException("soak 시간 초과");
+
+            assertEquals(REFRESHES, fresh.get());
+            monitor.sample();
+            // 마감/헤징 타이머가 취소된 뒤에도 콜백(→ Owner)을 잡고 있으면 여기서 실패
+            monitor.check(0, MAX_GROWTH_BYTES);
+        }
+    }
+
+    /**
+     * Owner 를 붙잡는 콜백으로 한 번 새로고침, 결과는 화면/위젯 경로로 처리
+     */
+    private static void refresh(WeatherRepository repo, String key, SoakMonitor monitor, int i,
+                                WeatherRepository.ForecastCallback done) {
+        Owner owner = new Owner();
+        monitor.watch(owner, "Owner");
+        repo.fetchForecast(key, 37.5, 127.0, FetchPolicy.ACTIVITY, result -> {
+            owner.results++;
+            if (result.hasData()) process(key, result, i);
+            done.onResult(result);
+        });
+    }
+
+    private static void process(String key, ForecastResult result, int i) {
+        List<ForecastResponse.ForecastItem> list = result.forecast.list;
+        if (i % 2 == 0) {
+            WeatherViewModel.groupByDate(list);
+            new HourlyInterpolator(list).temperatureAt(0);
+        } else {
+            Map<String, Long> signatures = ForecastMerger.daySignatures(list);
+            ForecastSnapshot current = ForecastSnapshot.current(key);
+            ForecastSnapshot base = current != null ? current : ForecastSnapshot.publish(
+                    key, Collections.emptyList(), Collections.emptyMap());
+            ForecastSnapshot.publish(key,
+                    WeatherUpdateService.summarizeChangedDays(base, list, signatures), signatures);
+        }
+    }
+
+    @Test
+    public void daySwitchesKeepCachesBounded() {
+        SoakMonitor monitor = new SoakMonitor("day-switch");
+        WeatherFormatter formatter = WeatherFormatter.getInstance();
+        for (int i = 0; i < DAY_SWITCHES; i++) {
+            if (i >= SAMPLE_EVERY && i % SAMPLE_EVERY == 0) monitor.sample();
+
+            // 3시간마다 하루씩 밀리는 예보 (날짜 라벨이 계속 새로 생김)
+            List<ForecastResponse.ForecastItem> list = forecast(BASE + i * 86400L, 40);
+            HourlyInterpolator timeline = new HourlyInterpolator(list);
+            monitor.watch(timeline, "HourlyInterpolator");
+
+            Map<String, List<ForecastResponse.ForecastItem>> grouped =
+                    WeatherViewModel.groupByDate(list);
+            for (String date : grouped.keySet()) {
+                formatter.dateLabels(date);
+            }
+            // 날짜 전환: 선택 날짜의 시간 값만 조회
+            int day = i % grouped.size();
+            for (int h = day * 24; h < Math.min(timeline.hourCount(), day * 24 + 24); h++) {
+                timeline.temperatureAt(h);
+            }
+            DailyAggregator.summarize(list);
+        }
+        monitor.sample();
+        monitor.check(0, MAX_GROWTH_BYTES);
+    }
+
+    @Test
+    public void widgetPageFlipsReplaceSnapshots() {
+        SoakMonitor monitor = new SoakMonitor("page-flip");
+        String[] keys = {"flip-0", "flip-1", "flip-2", "flip-3"};
+        List<ForecastResponse.ForecastItem> list = forecast(BASE, 40);
+        Map<String, Long> signatures = ForecastMerger.daySignatures(list);
+        List<ForecastResponse.ForecastItem> summary = DailyAggregator.summarize(list);
+
+        for (int i = 0; i < PAGE_FLIPS; i++) {
+            if (i >= SAMPLE_EVERY && i % SAMPLE_EVERY == 0) monitor.sample();
+            String key = keys[i % keys.length];
+            ForecastSnapshot published = ForecastSnapshot.publish(key, summary, signatures);
+            monitor.watch(published, "ForecastSnapshot");
+            assertSame(published, ForecastSnapshot.current(key));
+        }
+        monitor.sample();
+        // 위치별 최신 스냅샷만 남아야 함
+        monitor.check(keys.length, MAX_GROWTH_BYTES);
+    }
+
+    /**
+     * start 부터 3시간 간격 count 개 slot
+     */
+    private static List<ForecastResponse.ForecastItem> forecast(long start, int count) {
+        List<ForecastResponse.ForecastItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long dt = start + i * 3 * 3600L;
+            ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+            item.dt = dt;
+            long day = Math.floorDiv(dt, 86400L);
+            item.dtTxt = java.time.LocalDate.ofEpochDay(day)
+                    + String.format(Locale.ROOT, " %02d:00:00", (dt % 86400L) / 3600);
+            item.main = new ForecastResponse.Main();
+            item.main.temp = 15 + (i % 8) * 1.5f;
+            item.main.feelsLike = item.main.temp - 0.5;
+            item.main.temp_min = item.main.temp - 1;
+            item.main.temp_max = item.main.temp + 1;
+            item.main.humidity = 50 + i % 40;
+            ForecastResponse.Weather weather = new ForecastResponse.Weather();
+            weather.id = 800;
+            weather.icon = "01d";
+            weather.description = "맑음";
+            item.weather = Collections.singletonList(weather);
+            items.add(item);
+        }
+        return items;
+    }
+}
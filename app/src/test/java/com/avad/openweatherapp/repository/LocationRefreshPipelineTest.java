@@ -0,0 +1,121 @@
+package com.avad.openweatherapp.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.local.SavedLocation;
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.perf.FakeForecastServer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocationRefreshPipeline 의 동시 요청 제한/cell 묶음/우선순위 테스트
+ */
+public class LocationRefreshPipelineTest {
+
+    private static final FetchPolicy POLICY = new FetchPolicy(5_000, 0, 0, 0);
+
+    private static WeatherRepository repository(FakeForecastServer server) {
+        WeatherRepository repo = new WeatherRepository(RetrofitClient.create(server.baseUrl()));
+        repo.setCallbackExecutor(Runnable::run);
+        return repo;
+    }
+
+    private static List<SavedLocation> locations(int count) {
+        List<SavedLocation> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new SavedLocation("loc" + i, 33.0 + i, 126.0 + i));
+        }
+        return list;
+    }
+
+    private static Map<String, ForecastResult> refresh(LocationRefreshPipeline pipeline,
+                                                       List<SavedLocation> locations,
+                                                       String visibleKey,
+                                                       int expectedCells) throws Exception {
+        Map<String, ForecastResult> results = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(expectedCells);
+        pipeline.refresh(locations, visibleKey, (key, result) -> {
+            results.put(key, result);
+            done.countDown();
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        return results;
+    }
+
+    @Test
+    public void concurrencyStaysWithinLimit() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().latencyMs(100).start()) {
+            LocationRefreshPipeline pipeline =
+                    new LocationRefreshPipeline(repository(server), 2, POLICY);
+
+            Map<String, ForecastResult> results = refresh(pipeline, locations(6), null, 6);
+
+            assertEquals(6, results.size());
+            for (ForecastResult r : results.values()) assertTrue(r.hasData());
+            assertEquals(6, server.requestCount());
+            assertTrue("max inflight " + server.maxInflight(), server.maxInflight() <= 2);
+        }
+    }
+
+    @Test
+    public void locationsInSameCellAreFetchedOnce() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            LocationRefreshPipeline pipeline =
+                    new LocationRefreshPipeline(repository(server), 3, POLICY);
+            List<SavedLocation> list = Arrays.asList(
+                    new SavedLocation("시청", 37.5663, 126.9779),
+                    new SavedLocation("광화문", 37.5716, 126.9769),
+                    new SavedLocation("부산", 35.1796, 129.0756));
+
+            Map<String, ForecastResult> results = refresh(pipeline, list, null, 2);
+
+            assertEquals(2, results.size());
+            assertEquals(2, server.requestCount());
+        }
+    }
+
+    @Test
+    public void visibleLocationIsFetchedFirst() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().latencyMs(50).start()) {
+            LocationRefreshPipeline pipeline =
+                    new LocationRefreshPipeline(repository(server), 1, POLICY);
+            List<SavedLocation> list = locations(4);
+            SavedLocation visible = list.get(3);
+
+            refresh(pipeline, list, visible.cellKey(), 4);
+
+            assertTrue(server.queries().get(0).contains("lat=" + visible.lat));
+        }
+    }
+
+    @Test
+    public void refreshedLocationIsServedFromCacheWithoutNetwork() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            WeatherRepository repo = repository(server);
+            LocationRefreshPipeline pipeline = new LocationRefreshPipeline(repo, 2, POLICY);
+            List<SavedLocation> list = locations(2);
+            refresh(pipeline, list, null, 2);
+
+            CountDownLatch loaded = new CountDownLatch(1);
+            ForecastResult[] cached = new ForecastResult[1];
+            repo.loadCached(list.get(1).cellKey(), result -> {
+                cached[0] = result;
+                loaded.countDown();
+            });
+
+            assertTrue(loaded.await(5, TimeUnit.SECONDS));
+            assertTrue(cached[0].hasData());
+            assertEquals(2, server.requestCount());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.avad.openweatherapp.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.data.network.WeatherApiService;
+import com.avad.openweatherapp.perf.FakeForecastServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PolicyFetch 의 HALF_OPEN 시험 요청 처리 (취소/헤징) 및 실패 기록 테스트
+ */
+public class PolicyFetchTest {
+
+    private static final long OPEN_MS = 30_000;
+
+    private final long[] now = {0};
+    private final CircuitBreaker breaker = new CircuitBreaker(1, OPEN_MS, () -> now[0]);
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        // 실패 한 번으로 OPEN → openMs 경과 후 다음 요청이 시험 요청
+        breaker.recordFailure();
+        now[0] = OPEN_MS;
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private ForecastResult fetch(FakeForecastServer server, FetchPolicy policy) throws Exception {
+        return fetch(server, policy, breaker);
+    }
+
+    private ForecastResult fetch(FakeForecastServer server, FetchPolicy policy,
+                                 CircuitBreaker breaker) throws Exception {
+        WeatherApiService api = RetrofitClient.create(server.baseUrl());
+        CompletableFuture<ForecastResult> future = new CompletableFuture<>();
+        new PolicyFetch(
+                () -> api.getWeekendWeather(37.5, 127.0, "key", "metric", "kr"),
+                policy, breaker, scheduler, Runnable::run,
+                cause -> new ForecastResult(null, false, 0, cause),
+                response -> new ForecastResult(response, false, 0, null),
+                future::complete
+        ).start();
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void deadlineCancelledTrialReleasesBreaker() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().latencyMs(1_000).start()) {
+            ForecastResult result = fetch(server, new FetchPolicy(200, 0, 0, 0));
+
+            assertFalse(result.hasData());
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+            // 취소된 시험 요청이 자리를 차지하지 않으므로 다음 요청이 다시 시험 요청
+            assertEquals(CircuitBreaker.Permit.TRIAL, breaker.acquire());
+        }
+    }
+
+    @Test
+    public void halfOpenTrialIsNotHedged() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().latencyMs(300).start()) {
+            ForecastResult result = fetch(server, new FetchPolicy(2_000, 0, 0, 50));
+
+            assertTrue(result.hasData());
+            assertEquals(1, server.requestCount());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        }
+    }
+
+    @Test
+    public void hedgedFetchFailingTwiceCountsOnce() throws Exception {
+        CircuitBreaker closed = new CircuitBreaker(2, OPEN_MS, () -> now[0]);
+        try (FakeForecastServer server = FakeForecastServer.builder()
+                .latencyMs(200).errorRate(1.0).start()) {
+            ForecastResult result = fetch(server, new FetchPolicy(2_000, 0, 0, 50), closed);
+
+            assertFalse(result.hasData());
+            assertEquals(2, server.requestCount());
+            // 원 요청과 헤징 요청이 모두 실패해도 조회 한 번 = 실패 한 번
+            assertEquals(CircuitBreaker.State.CLOSED, closed.state());
+        }
+    }
+
+    @Test
+    public void wouldDenyDoesNotTakeTrial() {
+        now[0] = OPEN_MS - 1;
+        assertTrue(breaker.wouldDeny());
+
+        // openMs 경과: 확인만으로는 시험 요청 자리를 차지하지 않음
+        now[0] = OPEN_MS;
+        assertFalse(breaker.wouldDeny());
+        assertFalse(breaker.wouldDeny());
+        assertEquals(CircuitBreaker.Permit.TRIAL, breaker.acquire());
+        assertTrue(breaker.wouldDeny());
+    }
+}
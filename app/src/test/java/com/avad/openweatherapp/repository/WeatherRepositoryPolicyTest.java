@@ -0,0 +1,95 @@
+package com.avad.openweatherapp.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.avad.openweatherapp.data.network.RetrofitClient;
+import com.avad.openweatherapp.perf.FakeForecastServer;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeatherRepository.fetchForecast 의 마감/재시도/헤징/차단 동작 테스트
+ */
+public class WeatherRepositoryPolicyTest {
+
+    private static WeatherRepository repository(FakeForecastServer server) {
+        WeatherRepository repo = new WeatherRepository(RetrofitClient.create(server.baseUrl()));
+        repo.setCallbackExecutor(Runnable::run);
+        return repo;
+    }
+
+    private static ForecastResult fetch(WeatherRepository repo, FetchPolicy policy) throws Exception {
+        CompletableFuture<ForecastResult> future = new CompletableFuture<>();
+        repo.fetchForecast(37.5, 127.0, policy, future::complete);
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void freshResponseIsNotStale() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            ForecastResult result = fetch(repository(server), FetchPolicy.ACTIVITY);
+
+            assertTrue(result.hasData());
+            assertFalse(result.stale);
+            assertEquals(1, server.requestCount());
+        }
+    }
+
+    @Test
+    public void deadlineFallsBackToLatestCache() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().start()) {
+            WeatherRepository repo = repository(server);
+            assertTrue(fetch(repo, FetchPolicy.ACTIVITY).hasData());
+
+            server.setLatencyMs(1_000);
+            long start = System.currentTimeMillis();
+            ForecastResult result = fetch(repo, new FetchPolicy(200, 0, 0, 0));
+
+            assertTrue(System.currentTimeMillis() - start < 900);
+            assertTrue(result.hasData());
+            assertTrue(result.stale);
+            assertNotNull(result.error);
+        }
+    }
+
+    @Test
+    public void retriesServerErrorsUpToLimit() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().errorRate(1.0).start()) {
+            ForecastResult result = fetch(repository(server), new FetchPolicy(5_000, 2, 10, 0));
+
+            assertFalse(result.hasData());
+            assertEquals(3, server.requestCount());
+        }
+    }
+
+    @Test
+    public void slowRequestIsHedgedOnce() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().latencyMs(300).start()) {
+            ForecastResult result = fetch(repository(server), new FetchPolicy(2_000, 0, 0, 100));
+
+            assertTrue(result.hasData());
+            assertFalse(result.stale);
+            assertEquals(2, server.requestCount());
+        }
+    }
+
+    @Test
+    public void openCircuitSkipsNetwork() throws Exception {
+        try (FakeForecastServer server = FakeForecastServer.builder().errorRate(1.0).start()) {
+            WeatherRepository repo = repository(server);
+            fetch(repo, new FetchPolicy(5_000, 2, 10, 0));  // 3회 실패 → OPEN
+            int before = server.requestCount();
+
+            ForecastResult result = fetch(repo, FetchPolicy.WIDGET);
+
+            assertFalse(result.hasData());
+            assertEquals(before, server.requestCount());
+        }
+    }
+}
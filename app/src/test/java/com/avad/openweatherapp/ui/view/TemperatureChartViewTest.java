@@ -0,0 +1,117 @@
+package com.avad.openweatherapp.ui.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Canvas;
+
+import com.avad.openweatherapp.data.model.ForecastResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TemperatureChartView 그리기/스크롤 경로의 할당 테스트
+ * - 로컬 유닛 테스트의 android stub 위에서 실행 (Canvas/Path 호출은 no-op)
+ *   → 측정되는 할당은 차트 자체 코드에서 발생한 것만 포함
+ */
+public class TemperatureChartViewTest {
+
+    private static final int ITERATIONS = 5_000;
+
+    /** 측정 도구 자체의 오차 허용치 */
+    private static final long ALLOCATION_TOLERANCE_BYTES = 1024;
+
+    private TemperatureChartView chart;
+    private Canvas canvas;
+
+    @Before
+    public void setUp() {
+        chart = new TemperatureChartView(null);
+        chart.setForecast(forecast(40));
+        chart.onSizeChanged(1080, 360, 0, 0);
+        canvas = new Canvas();
+    }
+
+    @Test
+    public void repeatedDrawsDoNotAllocate() {
+        // 워밍업 (첫 그리기에서 좌표 계산 + JIT)
+        for (int i = 0; i < ITERATIONS; i++) chart.onDraw(canvas);
+
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) chart.onDraw(canvas);
+        long allocated = allocatedBytes() - before;
+
+        assertTrue("onDraw allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE_BYTES);
+    }
+
+    @Test
+    public void scrollingDoesNotAllocateOrRebuild() {
+        chart.onDraw(canvas);
+        int rebuilds = chart.rebuildCount();
+        for (int i = 0; i < ITERATIONS; i++) {
+            chart.setScrollOffset(i % 2000);
+            chart.onDraw(canvas);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            chart.setScrollOffset(i % 2000);
+            chart.onDraw(canvas);
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertTrue("scroll+draw allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE_BYTES);
+        assertEquals(rebuilds, chart.rebuildCount());
+    }
+
+    @Test
+    public void rebuildsOnlyWhenDataOrSizeChanges() {
+        chart.onDraw(canvas);
+        chart.onDraw(canvas);
+        assertEquals(1, chart.rebuildCount());
+
+        chart.setForecast(forecast(40));
+        chart.onDraw(canvas);
+        assertEquals(2, chart.rebuildCount());
+
+        chart.onSizeChanged(720, 360, 1080, 360);
+        chart.onDraw(canvas);
+        assertEquals(3, chart.rebuildCount());
+    }
+
+    @Test
+    public void scrollToDateMovesToDayStart() {
+        chart.onDraw(canvas);
+        chart.scrollToDate("2024-05-03");
+
+        // 하루 8 slot, 한 화면 16 slot → 셋째 날 시작 = 16 slot 폭 = 화면 너비
+        assertEquals(1080f, chart.getScrollOffset(), 1f);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (!(mx instanceof com.sun.management.ThreadMXBean)) return 0;
+        return ((com.sun.management.ThreadMXBean) mx)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static List<ForecastResponse.ForecastItem> forecast(int slots) {
+        List<ForecastResponse.ForecastItem> list = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            ForecastResponse.ForecastItem item = new ForecastResponse.ForecastItem();
+            int day = 1 + i / 8;
+            int hour = (i % 8) * 3;
+            item.dtTxt = String.format("2024-05-%02d %02d:00:00", day, hour);
+            item.main = new ForecastResponse.Main();
+            item.main.temp = 15f + (float) Math.sin(i / 4.0) * 8f;
+            list.add(item);
+        }
+        return list;
+    }
+}
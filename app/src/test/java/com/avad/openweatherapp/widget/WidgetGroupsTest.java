@@ -0,0 +1,46 @@
+package com.avad.openweatherapp.widget;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * WidgetGroups 의 위치별 인스턴스 묶음 테스트
+ */
+public class WidgetGroupsTest {
+
+    /** 짝수 id = 현재 위치, 홀수 id = 부산 */
+    private static final IntFunction<String> LOCATION = id -> id % 2 == 0 ? "current" : "351_1291";
+
+    @Test
+    public void allInstancesGroupedByLocation() {
+        Map<String, List<Integer>> groups =
+                WidgetGroups.byLocation(new int[]{2, 3, 4, 5, 6}, null, LOCATION);
+
+        assertEquals(2, groups.size());
+        assertEquals(Arrays.asList(2, 4, 6), groups.get("current"));
+        assertEquals(Arrays.asList(3, 5), groups.get("351_1291"));
+    }
+
+    @Test
+    public void requestedInstanceBringsItsWholeCell() {
+        Map<String, List<Integer>> groups =
+                WidgetGroups.byLocation(new int[]{2, 3, 4, 5}, new int[]{5}, LOCATION);
+
+        assertEquals(1, groups.size());
+        assertEquals(Arrays.asList(3, 5), groups.get("351_1291"));
+    }
+
+    @Test
+    public void newlyAddedInstanceIsIncluded() {
+        Map<String, List<Integer>> groups =
+                WidgetGroups.byLocation(new int[]{2}, new int[]{8}, LOCATION);
+
+        assertEquals(Arrays.asList(2, 8), groups.get("current"));
+    }
+}